@@ -44,6 +44,66 @@ public class GeneralConfig extends DummyConfig {
     @ConfigurableProperty(category = ConfigurableTypeCategory.GENERAL, comment = "The energy usage multiplier for networks.")
     public static int energyConsumptionMultiplier = 0;
 
+    /**
+     * The maximum time in nanoseconds a single network may spend on updating its elements in one tick, 0 means no limit.
+     */
+    @ConfigurableProperty(category = ConfigurableTypeCategory.MACHINE, comment = "The maximum time in nanoseconds a single network may spend on updating its elements in one tick, 0 means no limit. Updates that do not fit are continued in the next tick.", isCommandable = true)
+    public static int networkTickBudget = 0;
+
+    /**
+     * The maximum time in nanoseconds all networks together may spend on updating their elements in one tick, 0 means no limit.
+     */
+    @ConfigurableProperty(category = ConfigurableTypeCategory.MACHINE, comment = "The maximum time in nanoseconds all networks together may spend on updating their elements in one tick, 0 means no limit. Networks that do not fit are updated first in the next tick.", isCommandable = true)
+    public static int globalTickBudget = 0;
+
+    /**
+     * If independent networks should be updated in parallel.
+     */
+    @ConfigurableProperty(category = ConfigurableTypeCategory.MACHINE, comment = "If independent networks should be updated in parallel. World changes made by networks are applied on the server thread after all networks were updated. The global tick budget is not used in this mode. This is experimental, parts from other mods may not be thread-safe.", isCommandable = true)
+    public static boolean parallelNetworkUpdates = false;
+
+    /**
+     * The maximum number of threads to update networks with when parallel network updates are enabled.
+     */
+    @ConfigurableProperty(category = ConfigurableTypeCategory.MACHINE, comment = "The maximum number of threads to update networks with when parallel network updates are enabled.", isCommandable = true)
+    public static int parallelNetworkThreads = 4;
+
+    /**
+     * If cable additions and removals should be applied to networks once at the end of each tick.
+     */
+    @ConfigurableProperty(category = ConfigurableTypeCategory.MACHINE, comment = "If cable additions and removals should be applied to networks once at the end of each tick, instead of immediately. This avoids rebuilding the same network many times when many cables change at once, such as by explosions.", isCommandable = true)
+    public static boolean coalesceNetworkChanges = true;
+
+    /**
+     * If expressions over numbers, booleans and strings should only be re-evaluated when one of their inputs changed.
+     */
+    @ConfigurableProperty(category = ConfigurableTypeCategory.MACHINE, comment = "If expressions over numbers, booleans and strings should only be re-evaluated when one of their inputs changed, instead of every tick. Readers then recalculate such values on each update to detect changes. Only applies to newly bound expressions.", isCommandable = true)
+    public static boolean incrementalEvaluation = true;
+
+    /**
+     * If operators over constant inputs should be evaluated once when they are bound.
+     */
+    @ConfigurableProperty(category = ConfigurableTypeCategory.MACHINE, comment = "If operators of which all inputs are constant values, such as 5 + 3, should be evaluated once when their variable is bound, instead of every tick. Only applies to operators without side effects.", isCommandable = true)
+    public static boolean constantFolding = true;
+
+    /**
+     * The maximum number of mapped list elements that are remembered per mapped list during a tick.
+     */
+    @ConfigurableProperty(category = ConfigurableTypeCategory.MACHINE, comment = "The maximum number of elements of a mapped list that are remembered during a tick, so that they are not mapped again when the list is used multiple times. Set to zero to disable.", isCommandable = true)
+    public static int mappedListCacheSize = 1024;
+
+    /**
+     * The minimum list length from which list operators with side-effect-free operators are evaluated in parallel.
+     */
+    @ConfigurableProperty(category = ConfigurableTypeCategory.MACHINE, comment = "The minimum length of a list from which map, filter and reduce operators are evaluated in parallel, if their operator has no side effects. Set to zero to disable.", isCommandable = true)
+    public static int parallelListThreshold = 10000;
+
+    /**
+     * The maximum number of inventory slots that are rescanned per tick when an inventory is read.
+     */
+    @ConfigurableProperty(category = ConfigurableTypeCategory.MACHINE, comment = "The maximum number of slots of an inventory that are rescanned per tick when it is read. Larger inventories are rescanned in a rolling manner over multiple ticks, and their item counts are only updated for the slots that changed. Set to zero to always scan all slots.", isCommandable = true)
+    public static int inventoryScanSlotsPerTick = 1024;
+
     /**
      * The maximum render distance for part overlays to render. The higher, the more resource intensive.
      */
@@ -42,6 +42,7 @@ import org.cyclops.integrateddynamics.client.render.part.PartOverlayRendererRegi
 import org.cyclops.integrateddynamics.client.render.part.PartOverlayRenderers;
 import org.cyclops.integrateddynamics.client.render.valuetype.ValueTypeWorldRendererRegistry;
 import org.cyclops.integrateddynamics.client.render.valuetype.ValueTypeWorldRenderers;
+import org.cyclops.integrateddynamics.command.CommandNetworkDiagnostics;
 import org.cyclops.integrateddynamics.command.CommandTest;
 import org.cyclops.integrateddynamics.core.NoteBlockEventReceiver;
 import org.cyclops.integrateddynamics.core.TickHandler;
@@ -56,6 +57,7 @@ import org.cyclops.integrateddynamics.core.item.ItemBlockEnergyContainer;
 import org.cyclops.integrateddynamics.core.item.VariableFacadeHandlerRegistry;
 import org.cyclops.integrateddynamics.core.logicprogrammer.LogicProgrammerElementTypeRegistry;
 import org.cyclops.integrateddynamics.core.logicprogrammer.LogicProgrammerElementTypes;
+import org.cyclops.integrateddynamics.core.network.NetworkChunkLoader;
 import org.cyclops.integrateddynamics.core.part.PartTypeRegistry;
 import org.cyclops.integrateddynamics.core.part.PartTypes;
 import org.cyclops.integrateddynamics.core.part.aspect.AspectRegistry;
@@ -151,6 +153,7 @@ public class IntegratedDynamics extends ModBaseVersionable {
     @Override
     protected ICommand constructBaseCommand() {
         Map<String, ICommand> commands = Maps.newHashMap();
+        commands.put(CommandNetworkDiagnostics.NAME, new CommandNetworkDiagnostics(this));
         if(TestHelpers.canRunIntegrationTests()) {
             commands.put(CommandTest.NAME, new CommandTest(this));
         }
@@ -228,6 +231,7 @@ public class IntegratedDynamics extends ModBaseVersionable {
         super.preInit(event);
 
         MinecraftForge.EVENT_BUS.register(TickHandler.getInstance());
+        MinecraftForge.EVENT_BUS.register(NetworkChunkLoader.getInstance());
         MinecraftForge.EVENT_BUS.register(NoteBlockEventReceiver.getInstance());
     }
 
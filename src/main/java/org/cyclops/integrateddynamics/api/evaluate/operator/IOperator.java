@@ -89,4 +89,10 @@ public interface IOperator {
      */
     public IConfigRenderPattern getRenderPattern();
 
+    /**
+     * @return If this operator has no side effects and does not access the world,
+     *         so that it may be evaluated concurrently outside of the server thread.
+     */
+    public boolean isPure();
+
 }
@@ -0,0 +1,23 @@
+package org.cyclops.integrateddynamics.api.evaluate.variable;
+
+/**
+ * A variable that notifies listeners when its value changes.
+ * This allows values that depend on this variable to be cached until it changes.
+ * @author rubensworks
+ */
+public interface IChangeTrackingVariable<V extends IValue> extends IVariable<V> {
+
+    /**
+     * @return If the listeners of this variable are notified of all changes to its value.
+     *         If false, values that depend on this variable must be re-evaluated every time.
+     */
+    public boolean isChangeTracked();
+
+    /**
+     * Add a listener that is notified when the value of this variable changes.
+     * Listeners are held weakly, so they do not have to be removed.
+     * @param listener The listener.
+     */
+    public void addInvalidationListener(IVariableInvalidateListener listener);
+
+}
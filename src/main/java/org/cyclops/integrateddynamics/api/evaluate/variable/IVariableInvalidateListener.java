@@ -0,0 +1,14 @@
+package org.cyclops.integrateddynamics.api.evaluate.variable;
+
+/**
+ * Listener for variables of which the value has changed.
+ * @author rubensworks
+ */
+public interface IVariableInvalidateListener {
+
+    /**
+     * Called when the value of a variable this listener depends on has changed.
+     */
+    public void invalidate();
+
+}
@@ -68,9 +68,28 @@ public interface INetwork<N extends INetwork<N>> extends INBTSerializable {
 
     /**
      * This network updating should be called each tick.
+     * This is the same as calling {@link #update(long)} without a budget.
      */
     public void update();
 
+    /**
+     * This network updating should be called each tick.
+     * Element updates that do not fit in the given budget are carried over to the next call.
+     * @param budget The maximum time in nanoseconds the element updates may take, zero or less means no limit.
+     * @return If all due element updates fitted in the budget.
+     */
+    public boolean update(long budget);
+
+    /**
+     * Called when this network was not updated in a tick because the global tick budget was exhausted.
+     */
+    public void onUpdateDeferred();
+
+    /**
+     * @return How many times the updates of this network were (partially) deferred to a later tick.
+     */
+    public long getDeferredUpdates();
+
     /**
      * Remove the given cable from the network.
      * If the cable had any network elements registered in the network, these will be killed and removed as well.
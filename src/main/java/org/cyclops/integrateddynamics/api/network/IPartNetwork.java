@@ -1,7 +1,9 @@
 package org.cyclops.integrateddynamics.api.network;
 
 import org.cyclops.cyclopscore.datastructure.DimPos;
+import org.cyclops.integrateddynamics.api.evaluate.expression.IExpression;
 import org.cyclops.integrateddynamics.api.evaluate.expression.ILazyExpressionValueCache;
+import org.cyclops.integrateddynamics.api.evaluate.operator.IOperator;
 import org.cyclops.integrateddynamics.api.evaluate.variable.IValue;
 import org.cyclops.integrateddynamics.api.evaluate.variable.IVariable;
 import org.cyclops.integrateddynamics.api.item.IVariableFacade;
@@ -72,6 +74,16 @@ public interface IPartNetwork extends INetwork<IPartNetwork>, ILazyExpressionVal
      */
     public <V extends IValue> IVariable<V> getPartVariable(int partId, IAspectRead<V, ?> aspect);
 
+    /**
+     * Mark the variable from the aspect of the given part id as referenced, so that the part keeps it up to date.
+     * References expire when they are not renewed.
+     * This method can call a NPE or cast exception when the given part does not exists, so make sure to check this before.
+     * @param partId The part state id.
+     * @param aspect The aspect from the given part.
+     * @param reference The referring object, such as the id of a variable facade.
+     */
+    public void addPartVariableReference(int partId, IAspectRead<?, ?> aspect, Object reference);
+
     /**
      * Check if this network has access to the variable facade with given variable id.
      * @param variableId The variable id.
@@ -86,6 +98,33 @@ public interface IPartNetwork extends INetwork<IPartNetwork>, ILazyExpressionVal
      */
     public IVariableFacade getVariableFacade(int variableId);
 
+    /**
+     * Get the expression that applies the given operator to the given bound input variables.
+     * Expressions for the same operator and input variables are shared within this network,
+     * so that they are only evaluated once per tick.
+     * @param id The id of the variable facade requesting the expression.
+     * @param operator The operator.
+     * @param input The bound input variables.
+     * @param <V> The value type.
+     * @return The expression.
+     */
+    public <V extends IValue> IExpression<V> getExpression(int id, IOperator operator, IVariable[] input);
+
+    /**
+     * @return How many times an expression value was retrieved from the value cache.
+     */
+    public long getExpressionCacheHits();
+
+    /**
+     * @return How many times an expression value had to be evaluated.
+     */
+    public long getExpressionCacheMisses();
+
+    /**
+     * @return The graph of references between the variables in this network and their consumers.
+     */
+    public IVariableDependencyGraph getVariableDependencyGraph();
+
     /**
      * Add the position of a variable container.
      * @param dimPos The variable container position.
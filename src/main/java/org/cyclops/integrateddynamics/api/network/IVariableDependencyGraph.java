@@ -0,0 +1,44 @@
+package org.cyclops.integrateddynamics.api.network;
+
+import org.cyclops.integrateddynamics.api.item.IVariableFacade;
+
+import java.util.Collection;
+
+/**
+ * Tracks which variable ids are referenced by the variable facades inside a network,
+ * and by the consumers of variables, such as writers, panels and proxies.
+ * This allows only the consumers that depend on changed variables to be invalidated.
+ * @author rubensworks
+ */
+public interface IVariableDependencyGraph {
+
+    /**
+     * Register the variable ids the given consumer depends on, replacing any previous registration.
+     * If the dependencies of the facade can not be determined, the consumer will be considered to depend on all variables.
+     * @param consumer The consumer, this is compared by identity.
+     * @param variableFacade The variable facade the consumer currently uses, can be null.
+     */
+    public void setDependencies(Object consumer, IVariableFacade variableFacade);
+
+    /**
+     * Forget the dependencies of the given consumer.
+     * @param consumer The consumer.
+     */
+    public void removeDependencies(Object consumer);
+
+    /**
+     * Signal that the variable facades inside the network have changed,
+     * so that the references between them must be recalculated.
+     */
+    public void invalidateVariables();
+
+    /**
+     * Check if a consumer depends on any of the given variables, directly or via other variables in the network.
+     * Consumers of which the dependencies are unknown are always affected.
+     * @param consumer The consumer.
+     * @param changedVariableIds The ids of the changed variables.
+     * @return If the consumer is affected by the changes.
+     */
+    public boolean isAffected(Object consumer, Collection<Integer> changedVariableIds);
+
+}
@@ -8,6 +8,8 @@ import org.cyclops.integrateddynamics.api.part.aspect.IAspect;
 import org.cyclops.integrateddynamics.api.part.aspect.IAspectRead;
 import org.cyclops.integrateddynamics.api.part.aspect.IAspectVariable;
 
+import java.util.Set;
+
 /**
  * A value holder for an {@link IPartTypeReader}.
  * This is what will be serialized from and to NBT.
@@ -34,4 +36,32 @@ public interface IPartStateReader<P extends IPartTypeReader> extends IPartState<
      */
     public void setVariable(IAspect aspect, IAspectVariable variable);
 
+    /**
+     * Mark the variable of the given aspect as referenced, so that it is kept up to date.
+     * References expire when they are not renewed, since their variable facades can be removed from the world at any time.
+     * @param aspect The aspect from the part of this state.
+     * @param reference The referring object, such as the id of a variable facade or a gui.
+     */
+    public void addVariableReference(IAspect aspect, Object reference);
+
+    /**
+     * Release the reference to the variable of the given aspect.
+     * The variable is removed once it is not referenced or read anymore.
+     * @param aspect The aspect from the part of this state.
+     * @param reference The referring object.
+     */
+    public void removeVariableReference(IAspect aspect, Object reference);
+
+    /**
+     * Remove the references that were not renewed for a while,
+     * together with the variables that are not referenced anymore.
+     */
+    public void removeExpiredVariableReferences();
+
+    /**
+     * @return A copy of the aspects that have a variable in this part state,
+     *         because it is referenced by variable facades or a gui, or it is still read.
+     */
+    public Set<IAspect> getVariableAspects();
+
 }
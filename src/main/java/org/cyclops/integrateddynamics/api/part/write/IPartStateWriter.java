@@ -9,6 +9,7 @@ import org.cyclops.integrateddynamics.api.part.IPartState;
 import org.cyclops.integrateddynamics.api.part.PartTarget;
 import org.cyclops.integrateddynamics.api.part.aspect.IAspectWrite;
 
+import javax.annotation.Nullable;
 import java.util.List;
 
 /**
@@ -91,4 +92,17 @@ public interface IPartStateWriter<P extends IPartTypeWriter> extends IPartState<
      */
     public boolean checkAndResetFirstTick();
 
+    /**
+     * @return The value that was last written by the active aspect, or null if the next value must be written anyway.
+     */
+    @Nullable
+    public IValue getLastWrittenValue();
+
+    /**
+     * Remember the value that was last written by the active aspect.
+     * @param value The written value, which must not change with the world afterwards,
+     *              or null to make sure that the next value is written.
+     */
+    public void setLastWrittenValue(@Nullable IValue value);
+
 }
@@ -0,0 +1,61 @@
+package org.cyclops.integrateddynamics.command;
+
+import net.minecraft.command.ICommandSender;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.text.TextComponentString;
+import org.cyclops.cyclopscore.command.CommandMod;
+import org.cyclops.cyclopscore.init.ModBase;
+import org.cyclops.integrateddynamics.IntegratedDynamics;
+import org.cyclops.integrateddynamics.api.network.INetwork;
+import org.cyclops.integrateddynamics.core.network.PartNetwork;
+import org.cyclops.integrateddynamics.core.persist.world.NetworkWorldStorage;
+import org.cyclops.integrateddynamics.part.aspect.read.EntityQueryCache;
+import org.cyclops.integrateddynamics.part.aspect.read.InventorySnapshotCache;
+
+import java.util.List;
+
+/**
+ * Command for showing update statistics of all networks.
+ * @author rubensworks
+ *
+ */
+public class CommandNetworkDiagnostics extends CommandMod {
+
+    public static final String NAME = "networkdiagnostics";
+
+    public CommandNetworkDiagnostics(ModBase mod) {
+        super(mod, NAME);
+    }
+
+    @Override
+    public List getTabCompletionOptions(MinecraftServer server, ICommandSender sender, String[] parts, BlockPos blockPos) {
+        return null;
+    }
+
+    @Override
+    public void execute(MinecraftServer server, ICommandSender sender, String[] parts) {
+        int i = 0;
+        for(INetwork<?> network : NetworkWorldStorage.getInstance(IntegratedDynamics._instance).getNetworks()) {
+            sender.addChatMessage(new TextComponentString(String.format("Network %s: %s elements, deferred %s times",
+                    i, network.getElements().size(), network.getDeferredUpdates())));
+            if(network instanceof PartNetwork) {
+                PartNetwork partNetwork = (PartNetwork) network;
+                sender.addChatMessage(new TextComponentString(String.format("Network %s: %s shared expressions, " +
+                        "%s reused, %s created; expression values %s cached, %s evaluated", i,
+                        partNetwork.getSharedExpressions(), partNetwork.getSharedExpressionHits(),
+                        partNetwork.getSharedExpressionMisses(), partNetwork.getExpressionCacheHits(),
+                        partNetwork.getExpressionCacheMisses())));
+            }
+            i++;
+        }
+        InventorySnapshotCache inventorySnapshots = InventorySnapshotCache.getInstance();
+        sender.addChatMessage(new TextComponentString(String.format("Inventory snapshots: %s reused, %s read, " +
+                "%s large inventories tracked", inventorySnapshots.getHits(), inventorySnapshots.getMisses(),
+                inventorySnapshots.getTrackedInventories())));
+        EntityQueryCache entityQueries = EntityQueryCache.getInstance();
+        sender.addChatMessage(new TextComponentString(String.format("Entity queries: %s reused, %s filtered, " +
+                "%s sections queried", entityQueries.getHits(), entityQueries.getMisses(), entityQueries.getSectionQueries())));
+    }
+
+}
@@ -1,19 +1,39 @@
 package org.cyclops.integrateddynamics.core;
 
+import com.google.common.collect.Lists;
+import com.google.common.collect.Sets;
 import net.minecraftforge.fml.common.eventhandler.SubscribeEvent;
 import net.minecraftforge.fml.common.gameevent.TickEvent;
+import org.cyclops.integrateddynamics.GeneralConfig;
 import org.cyclops.integrateddynamics.IntegratedDynamics;
 import org.cyclops.integrateddynamics.api.network.INetwork;
+import org.cyclops.integrateddynamics.core.network.NetworkChunkLoader;
+import org.cyclops.integrateddynamics.core.network.NetworkTopologyJournal;
+import org.cyclops.integrateddynamics.core.network.ParallelNetworkUpdater;
 import org.cyclops.integrateddynamics.core.persist.world.NetworkWorldStorage;
+import org.cyclops.integrateddynamics.part.aspect.read.EntityQueryCache;
+import org.cyclops.integrateddynamics.part.aspect.read.InventorySnapshotCache;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
 
 /**
  * Handles server ticks to delegate to networks.
+ *
+ * Networks are updated in a round-robin order.
+ * When the global tick budget is exhausted, the remaining networks are deferred,
+ * and they will be the first ones to be updated in the next tick,
+ * together with the networks that could only be partly updated within their budget.
  * @author rubensworks
  */
 public final class TickHandler {
 
     private static TickHandler INSTANCE;
 
+    private List<INetwork<?>> networkOrder = Collections.emptyList();
+    private long tick = 0;
+
     private TickHandler() {
 
     }
@@ -28,10 +48,97 @@ public final class TickHandler {
     @SubscribeEvent
     public void onTick(TickEvent event) {
         if(event.type == TickEvent.Type.SERVER && event.phase == TickEvent.Phase.END) {
-            for(INetwork<?> network : NetworkWorldStorage.getInstance(IntegratedDynamics._instance).getNetworks()) {
-                network.update();
+            nextTick();
+
+            // Apply the cable and chunk changes of this tick before updating the networks.
+            NetworkChunkLoader.getInstance().flush();
+            NetworkTopologyJournal.flush();
+
+            long globalBudget = GeneralConfig.globalTickBudget;
+            long networkBudget = GeneralConfig.networkTickBudget;
+            if(GeneralConfig.parallelNetworkUpdates) {
+                List<INetwork<?>> networks = getNetworkOrder();
+                ParallelNetworkUpdater.update(networks, networkBudget);
+                networkOrder = networks;
+            } else {
+                networkOrder = update(getNetworkOrder(), globalBudget, networkBudget);
+            }
+
+            // Don't keep entities, inventories and their worlds alive in between ticks.
+            EntityQueryCache.getInstance().clear();
+            InventorySnapshotCache.getInstance().clear();
+        }
+    }
+
+    /**
+     * Update the given networks in order, within the given budgets.
+     * @param networks The networks to update.
+     * @param globalBudget The total budget in nanoseconds, or zero for no limit.
+     * @param networkBudget The budget per network in nanoseconds, or zero for no limit.
+     * @return The order for the next tick, in which networks that were deferred
+     *         or only partly updated come first, in their current order.
+     */
+    static List<INetwork<?>> update(List<INetwork<?>> networks, long globalBudget, long networkBudget) {
+        long globalDeadline = System.nanoTime() + globalBudget;
+
+        List<INetwork<?>> deferred = Lists.newArrayList();
+        List<INetwork<?>> updated = Lists.newArrayList();
+        for(INetwork<?> network : networks) {
+            long budget = networkBudget;
+            if(globalBudget > 0) {
+                long remaining = globalDeadline - System.nanoTime();
+                if(remaining <= 0) {
+                    network.onUpdateDeferred();
+                    deferred.add(network);
+                    continue;
+                }
+                budget = budget > 0 ? Math.min(budget, remaining) : remaining;
+            }
+            if(network.update(budget)) {
+                updated.add(network);
+            } else {
+                deferred.add(network);
+            }
+        }
+
+        // Networks that were deferred or only partly updated go first in the next tick.
+        deferred.addAll(updated);
+        return deferred;
+    }
+
+    /**
+     * Start a new network tick.
+     * Values that are only valid during a tick, such as mapped list elements, are forgotten.
+     */
+    public void nextTick() {
+        tick++;
+    }
+
+    /**
+     * @return The current network tick, which only increases.
+     */
+    public long getTick() {
+        return tick;
+    }
+
+    /**
+     * @return The networks in the order they should be updated in.
+     */
+    protected List<INetwork<?>> getNetworkOrder() {
+        Set<INetwork<?>> networks = NetworkWorldStorage.getInstance(IntegratedDynamics._instance).getNetworks();
+        List<INetwork<?>> order = Lists.newArrayListWithExpectedSize(networks.size());
+        Set<INetwork<?>> ordered = Sets.newIdentityHashSet();
+        for(INetwork<?> network : networkOrder) {
+            if(networks.contains(network) && ordered.add(network)) {
+                order.add(network);
+            }
+        }
+        for(INetwork<?> network : networks) {
+            if(ordered.add(network)) {
+                order.add(network);
             }
         }
+        return order;
     }
 
 }
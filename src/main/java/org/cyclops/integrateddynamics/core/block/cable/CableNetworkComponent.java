@@ -10,6 +10,7 @@ import org.apache.logging.log4j.Level;
 import org.cyclops.cyclopscore.datastructure.DimPos;
 import org.cyclops.cyclopscore.helper.ItemStackHelpers;
 import org.cyclops.cyclopscore.helper.TileHelpers;
+import org.cyclops.integrateddynamics.GeneralConfig;
 import org.cyclops.integrateddynamics.IntegratedDynamics;
 import org.cyclops.integrateddynamics.api.block.cable.ICable;
 import org.cyclops.integrateddynamics.api.block.cable.ICableNetwork;
@@ -22,6 +23,7 @@ import org.cyclops.integrateddynamics.api.tileentity.ITileCable;
 import org.cyclops.integrateddynamics.api.tileentity.ITileCableNetwork;
 import org.cyclops.integrateddynamics.block.BlockCable;
 import org.cyclops.integrateddynamics.core.helper.CableHelpers;
+import org.cyclops.integrateddynamics.core.network.NetworkTopologyJournal;
 import org.cyclops.integrateddynamics.core.network.PartNetwork;
 import org.cyclops.integrateddynamics.core.path.CablePathElement;
 
@@ -146,6 +148,16 @@ public class CableNetworkComponent<C extends ICableNetwork<IPartNetwork, ICableP
         }
     }
 
+    /**
+     * Attach this newly placed block to the networks of its neighbours.
+     * Contrary to {@link #initNetwork(World, BlockPos)}, this does not rebuild the neighbouring networks.
+     * @param world The world.
+     * @param pos The position.
+     */
+    public void attachNetwork(World world, BlockPos pos) {
+        PartNetwork.attachNetworkSetup(cable, world, pos);
+    }
+
     /**
      * Add this block to a network.
      * @param world The world.
@@ -154,7 +166,11 @@ public class CableNetworkComponent<C extends ICableNetwork<IPartNetwork, ICableP
     public void addToNetwork(World world, BlockPos pos) {
         triggerUpdateNeighbourConnections(world, pos);
         if(!world.isRemote) {
-            initNetwork(world, pos);
+            if(GeneralConfig.coalesceNetworkChanges) {
+                NetworkTopologyJournal.recordAddition(world, pos);
+            } else {
+                attachNetwork(world, pos);
+            }
         }
     }
 
@@ -184,14 +200,12 @@ public class CableNetworkComponent<C extends ICableNetwork<IPartNetwork, ICableP
             }
         } else {
             triggerUpdateNeighbourConnections(world, pos);
-            // Reinit neighbouring networks.
-            for(EnumFacing side : EnumFacing.VALUES) {
-                if(!world.isRemote) {
-                    BlockPos sidePos = pos.offset(side);
-                    ICableNetwork sideCable = CableHelpers.getInterface(world, sidePos, ICableNetwork.class);
-                    if(sideCable != null) {
-                        ((ICableNetwork<IPartNetwork, ICablePathElement>) sideCable).initNetwork(world, sidePos);
-                    }
+            // Split off the neighbouring networks that are not connected anymore.
+            if(!world.isRemote) {
+                if(GeneralConfig.coalesceNetworkChanges) {
+                    NetworkTopologyJournal.recordRemoval(world, pos);
+                } else {
+                    PartNetwork.detachNetworkSetup(world, pos);
                 }
             }
             setNetwork(null, world, pos);
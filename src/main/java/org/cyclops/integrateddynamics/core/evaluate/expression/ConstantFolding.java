@@ -0,0 +1,92 @@
+package org.cyclops.integrateddynamics.core.evaluate.expression;
+
+import org.cyclops.integrateddynamics.GeneralConfig;
+import org.cyclops.integrateddynamics.api.evaluate.EvaluationException;
+import org.cyclops.integrateddynamics.api.evaluate.operator.IOperator;
+import org.cyclops.integrateddynamics.api.evaluate.variable.IValue;
+import org.cyclops.integrateddynamics.api.evaluate.variable.IValueType;
+import org.cyclops.integrateddynamics.api.evaluate.variable.IVariable;
+import org.cyclops.integrateddynamics.core.evaluate.operator.Operators;
+import org.cyclops.integrateddynamics.core.evaluate.variable.ValueHelpers;
+import org.cyclops.integrateddynamics.core.evaluate.variable.ValueTypeOperator;
+import org.cyclops.integrateddynamics.core.evaluate.variable.Variable;
+
+import javax.annotation.Nullable;
+
+/**
+ * Evaluates operators over constant inputs once when they are bound, instead of on every tick.
+ *
+ * Since variable facades are bound bottom-up, a folded operator is itself a constant input for the facades that refer to it,
+ * so that constant subtrees of any depth are folded.
+ * Operators are only folded if they are pure, see {@link IOperator#isPure()},
+ * or if they apply a constant operator that is pure or that only becomes curried.
+ * @author rubensworks
+ */
+public final class ConstantFolding {
+
+    private ConstantFolding() {
+
+    }
+
+    /**
+     * @param variable A bound variable.
+     * @return If the value of the given variable never changes.
+     */
+    public static boolean isConstant(IVariable variable) {
+        return variable instanceof Variable;
+    }
+
+    /**
+     * Check if the given operator can be folded for the given inputs.
+     * @param operator The operator.
+     * @param input The bound input variables.
+     * @return If all inputs are constant and the operator always evaluates to the same value for them.
+     * @throws EvaluationException If an applied operator could not be determined.
+     */
+    public static boolean canFold(IOperator operator, IVariable[] input) throws EvaluationException {
+        for(IVariable variable : input) {
+            if(!isConstant(variable)) {
+                return false;
+            }
+        }
+        if(operator == Operators.OPERATOR_APPLY) {
+            // Applying creates a curried operator, unless all inputs of the applied operator are given.
+            IValue applied = input[0].getValue();
+            if(!(applied instanceof ValueTypeOperator.ValueOperator)) {
+                return false;
+            }
+            IOperator appliedOperator = ((ValueTypeOperator.ValueOperator) applied).getRawValue();
+            return appliedOperator.getRequiredInputLength() > 1 || appliedOperator.isPure();
+        }
+        return operator.isPure();
+    }
+
+    /**
+     * Fold the given operator for the given inputs, if possible.
+     * @param operator The operator.
+     * @param input The bound input variables.
+     * @param <V> The value type.
+     * @return A constant variable holding the value of the operator, or null if it can not be folded.
+     *         Operators that fail to evaluate are not folded, so that their errors are reported on evaluation.
+     */
+    @Nullable
+    public static <V extends IValue> IVariable<V> fold(IOperator operator, IVariable[] input) {
+        if(!GeneralConfig.constantFolding) {
+            return null;
+        }
+        try {
+            if(!canFold(operator, input)) {
+                return null;
+            }
+            IValueType<V> type = operator.getConditionalOutputType(input);
+            IValue value = operator.evaluate(input);
+            if(!ValueHelpers.correspondsTo(type, value.getType())) {
+                return null;
+            }
+            return new Variable<>(type, (V) value);
+        } catch (EvaluationException e) {
+            return null;
+        }
+    }
+
+}
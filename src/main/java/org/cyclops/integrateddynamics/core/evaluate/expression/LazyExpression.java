@@ -1,43 +1,131 @@
 package org.cyclops.integrateddynamics.core.evaluate.expression;
 
+import org.cyclops.integrateddynamics.GeneralConfig;
 import org.cyclops.integrateddynamics.api.evaluate.EvaluationException;
 import org.cyclops.integrateddynamics.api.evaluate.expression.IExpression;
 import org.cyclops.integrateddynamics.api.evaluate.expression.ILazyExpressionValueCache;
 import org.cyclops.integrateddynamics.api.evaluate.operator.IOperator;
+import org.cyclops.integrateddynamics.api.evaluate.variable.IChangeTrackingVariable;
 import org.cyclops.integrateddynamics.api.evaluate.variable.IValue;
 import org.cyclops.integrateddynamics.api.evaluate.variable.IValueType;
 import org.cyclops.integrateddynamics.api.evaluate.variable.IVariable;
+import org.cyclops.integrateddynamics.api.evaluate.variable.IVariableInvalidateListener;
+import org.cyclops.integrateddynamics.core.evaluate.operator.OperatorBase;
+import org.cyclops.integrateddynamics.core.evaluate.variable.ValueHelpers;
+import org.cyclops.integrateddynamics.core.evaluate.variable.VariableInvalidateListeners;
 
 /**
  * A generic expression with arbitrarily nested binary operations.
  * This is evaluated in a lazy manner.
+ *
+ * Operators based on {@link OperatorBase} of which the input types are static are compiled when the expression is bound,
+ * so that the input types are only validated once instead of on every evaluation.
+ * Other expressions validate their input types on every evaluation.
+ *
+ * If all inputs are change-tracked, the value of this expression is kept across ticks,
+ * and it is only re-evaluated after one of its inputs notified a change.
+ * This requires the output type to be known without evaluating the inputs,
+ * so expressions of which the output type depends on input values are never change-tracked.
+ * Otherwise, it is evaluated at most once per tick via the value cache.
  * @author rubensworks
  */
-public class LazyExpression<V extends IValue> implements IExpression<V> {
+public class LazyExpression<V extends IValue> implements IExpression<V>, IChangeTrackingVariable<V>, IVariableInvalidateListener {
 
     private final int id;
     private final IOperator op;
     private final IVariable[] input;
     private final ILazyExpressionValueCache valueCache;
+    private final OperatorBase.Plan plan;
+    private final boolean staticType;
+    private IValueType<V> type = null;
     private boolean errored = false;
 
+    private final boolean changeTracked;
+    private final VariableInvalidateListeners invalidateListeners = new VariableInvalidateListeners();
+    private IValue trackedValue = null;
+
     public LazyExpression(int id, IOperator op, IVariable[] input, ILazyExpressionValueCache valueCache) {
         this.id = id;
         this.op = op;
         this.input = input;
         this.valueCache = valueCache;
+        this.staticType = hasStaticType(op, input);
+        // Compiling validates the input types, which may only be done once if these types never change.
+        this.plan = staticType ? ((OperatorBase) op).compile(input) : null;
+        this.changeTracked = GeneralConfig.incrementalEvaluation && canTrackChanges();
+        if(this.changeTracked) {
+            for(IVariable variable : input) {
+                ((IChangeTrackingVariable) variable).addInvalidationListener(this);
+            }
+        }
+    }
+
+    /**
+     * @param op The operator.
+     * @param input The input variables.
+     * @return If the output type of the operator only depends on the types of the inputs, and these types never change.
+     */
+    protected static boolean hasStaticType(IOperator op, IVariable[] input) {
+        if(!(op instanceof OperatorBase) || !((OperatorBase) op).isConditionalOutputTypeValueIndependent()) {
+            return false;
+        }
+        for(IVariable variable : input) {
+            if(variable instanceof LazyExpression && !((LazyExpression) variable).staticType) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    protected boolean canTrackChanges() {
+        // The type of an expression may only be determined here if this does not evaluate its inputs.
+        if(!staticType || !ValueHelpers.isChangeTrackable(getType())) {
+            return false;
+        }
+        for(IVariable variable : input) {
+            if(!(variable instanceof IChangeTrackingVariable) || !((IChangeTrackingVariable) variable).isChangeTracked()
+                    || !ValueHelpers.isChangeTrackable(variable.getType())) {
+                return false;
+            }
+        }
+        return true;
     }
 
     @Override
     public IValue evaluate() throws EvaluationException {
+        if(changeTracked) {
+            if(trackedValue == null) {
+                trackedValue = plan != null ? plan.evaluate() : op.evaluate(input);
+            }
+            return trackedValue;
+        }
         if(valueCache.hasValue(id)) {
             return valueCache.getValue(id);
         }
-        IValue value = op.evaluate(input);
+        IValue value = plan != null ? plan.evaluate() : op.evaluate(input);
         valueCache.setValue(id, value);
         return value;
     }
 
+    @Override
+    public boolean isChangeTracked() {
+        return changeTracked;
+    }
+
+    @Override
+    public void addInvalidationListener(IVariableInvalidateListener listener) {
+        invalidateListeners.add(listener);
+    }
+
+    @Override
+    public void invalidate() {
+        // Expressions that were not evaluated since their last invalidation were not used by their listeners either.
+        if(trackedValue != null) {
+            trackedValue = null;
+            invalidateListeners.invalidate();
+        }
+    }
+
     @Override
     public boolean hasErrored() {
         return errored;
@@ -45,7 +133,15 @@ public class LazyExpression<V extends IValue> implements IExpression<V> {
 
     @Override
     public IValueType<V> getType() {
-        return op.getConditionalOutputType(input);
+        if(type != null) {
+            return type;
+        }
+        IValueType<V> conditionalType = op.getConditionalOutputType(input);
+        // The output type may only be remembered if it does not depend on the current values of the inputs.
+        if(staticType) {
+            type = conditionalType;
+        }
+        return conditionalType;
     }
 
     @Override
@@ -0,0 +1,201 @@
+package org.cyclops.integrateddynamics.core.evaluate.expression;
+
+import com.google.common.collect.MapMaker;
+import org.cyclops.integrateddynamics.api.evaluate.EvaluationException;
+import org.cyclops.integrateddynamics.api.evaluate.expression.IExpression;
+import org.cyclops.integrateddynamics.api.evaluate.expression.ILazyExpressionValueCache;
+import org.cyclops.integrateddynamics.api.evaluate.operator.IOperator;
+import org.cyclops.integrateddynamics.api.evaluate.variable.IChangeTrackingVariable;
+import org.cyclops.integrateddynamics.api.evaluate.variable.IValue;
+import org.cyclops.integrateddynamics.api.evaluate.variable.IValueType;
+import org.cyclops.integrateddynamics.api.evaluate.variable.IVariable;
+import org.cyclops.integrateddynamics.api.evaluate.variable.IVariableInvalidateListener;
+
+import java.util.Map;
+
+/**
+ * Shares bound expressions that apply the same operator to the same input variables.
+ *
+ * Expressions are keyed by the unique name of their operator and the identities of their bound inputs.
+ * Since the inputs of an expression are themselves shared expressions or variables of parts and variable stores,
+ * identical subtrees of different variable facades resolve to the same expression instance,
+ * which is only evaluated once per tick via the value cache.
+ * Expressions are held weakly, so they are forgotten once no facade is bound to them anymore.
+ *
+ * Each facade gets its own {@link FacadeExpression} view on a shared expression,
+ * so that an evaluation error is only attributed to the facade that encountered it.
+ * Shared expressions are bound to the shared expressions behind these views,
+ * and they have their own value cache id, independent of the facade that requested them first.
+ * @author rubensworks
+ */
+public class SharedExpressionCache {
+
+    private final Map<Key, LazyExpression> expressions = new MapMaker().weakValues().makeMap();
+    private final ILazyExpressionValueCache valueCache;
+    // Facade ids are never negative, so shared expressions count down to avoid collisions in the value cache.
+    private int nextId = -1;
+
+    private long hits = 0;
+    private long misses = 0;
+
+    public SharedExpressionCache(ILazyExpressionValueCache valueCache) {
+        this.valueCache = valueCache;
+    }
+
+    /**
+     * Get the expression for the given operator and inputs, or create a new one if none exists.
+     * An expression that has errored is replaced, so that it can be re-evaluated.
+     * @param id The id of the variable facade requesting the expression.
+     * @param operator The operator.
+     * @param input The bound input variables.
+     * @param <V> The value type.
+     * @return A view of the requesting facade on the shared expression.
+     */
+    public <V extends IValue> FacadeExpression<V> getExpression(int id, IOperator operator, IVariable[] input) {
+        IVariable[] sharedInput = new IVariable[input.length];
+        for(int i = 0; i < input.length; i++) {
+            sharedInput[i] = input[i] instanceof FacadeExpression ? ((FacadeExpression) input[i]).getExpression() : input[i];
+        }
+        Key key = new Key(operator.getUniqueName(), sharedInput);
+        LazyExpression<V> expression = expressions.get(key);
+        if(expression == null || expression.hasErrored()) {
+            misses++;
+            expression = new LazyExpression<>(nextId--, operator, sharedInput, valueCache);
+            expressions.put(key, expression);
+        } else {
+            hits++;
+        }
+        return new FacadeExpression<>(id, expression);
+    }
+
+    /**
+     * @return The number of times an existing expression was reused.
+     */
+    public long getHits() {
+        return hits;
+    }
+
+    /**
+     * @return The number of times a new expression was created.
+     */
+    public long getMisses() {
+        return misses;
+    }
+
+    /**
+     * @return The number of shared expressions.
+     */
+    public int size() {
+        return expressions.size();
+    }
+
+    /**
+     * The view of a single variable facade on a shared expression.
+     * @param <V> The value type.
+     */
+    public static class FacadeExpression<V extends IValue> implements IExpression<V>, IChangeTrackingVariable<V> {
+
+        private final int id;
+        private final LazyExpression<V> expression;
+        private boolean errored = false;
+
+        public FacadeExpression(int id, LazyExpression<V> expression) {
+            this.id = id;
+            this.expression = expression;
+        }
+
+        /**
+         * @return The id of the variable facade of this view.
+         */
+        public int getId() {
+            return id;
+        }
+
+        /**
+         * @return The shared expression.
+         */
+        public LazyExpression<V> getExpression() {
+            return expression;
+        }
+
+        @Override
+        public IValue evaluate() throws EvaluationException {
+            try {
+                return expression.evaluate();
+            } catch (EvaluationException e) {
+                errored = true;
+                throw e;
+            }
+        }
+
+        @Override
+        public boolean hasErrored() {
+            return errored;
+        }
+
+        @Override
+        public IValueType<V> getType() {
+            return expression.getType();
+        }
+
+        @Override
+        public V getValue() throws EvaluationException {
+            try {
+                return expression.getValue();
+            } catch (EvaluationException e) {
+                errored = true;
+                throw e;
+            }
+        }
+
+        @Override
+        public boolean isChangeTracked() {
+            return expression.isChangeTracked();
+        }
+
+        @Override
+        public void addInvalidationListener(IVariableInvalidateListener listener) {
+            expression.addInvalidationListener(listener);
+        }
+    }
+
+    protected static class Key {
+
+        private final String operatorName;
+        private final IVariable[] input;
+        private final int hash;
+
+        public Key(String operatorName, IVariable[] input) {
+            this.operatorName = operatorName;
+            this.input = input;
+            int hash = operatorName.hashCode();
+            for(IVariable variable : input) {
+                hash = 31 * hash + System.identityHashCode(variable);
+            }
+            this.hash = hash;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if(!(obj instanceof Key)) {
+                return false;
+            }
+            Key other = (Key) obj;
+            if(!operatorName.equals(other.operatorName) || input.length != other.input.length) {
+                return false;
+            }
+            for(int i = 0; i < input.length; i++) {
+                if(input[i] != other.input[i]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+}
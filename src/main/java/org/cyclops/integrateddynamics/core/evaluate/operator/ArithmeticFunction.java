@@ -0,0 +1,89 @@
+package org.cyclops.integrateddynamics.core.evaluate.operator;
+
+import org.cyclops.integrateddynamics.api.evaluate.EvaluationException;
+import org.cyclops.integrateddynamics.api.evaluate.variable.IValue;
+import org.cyclops.integrateddynamics.api.evaluate.variable.IValueType;
+import org.cyclops.integrateddynamics.api.evaluate.variable.IVariable;
+import org.cyclops.integrateddynamics.core.evaluate.variable.ValueTypeCategoryNumber;
+import org.cyclops.integrateddynamics.core.evaluate.variable.ValueTypeDouble;
+import org.cyclops.integrateddynamics.core.evaluate.variable.ValueTypeInteger;
+import org.cyclops.integrateddynamics.core.evaluate.variable.ValueTypeLong;
+import org.cyclops.integrateddynamics.core.evaluate.variable.ValueTypes;
+
+/**
+ * A function for arithmetic operators with two number inputs.
+ *
+ * Inputs of the same primitive type are evaluated on their raw values directly,
+ * without the lowest type lookup and value casting of {@link ValueTypeCategoryNumber}.
+ * Only inputs of different number types fall back to the number category.
+ * @author rubensworks
+ */
+public abstract class ArithmeticFunction implements OperatorBase.IFunction {
+
+    @Override
+    public IValue evaluate(OperatorBase.SafeVariablesGetter variables) throws EvaluationException {
+        IVariable a = variables.getVariables()[0];
+        IVariable b = variables.getVariables()[1];
+        IValueType type = a.getType();
+        if(type == b.getType()) {
+            if(type == ValueTypes.INTEGER) {
+                return evaluateInteger(a, b);
+            } else if(type == ValueTypes.DOUBLE) {
+                return evaluateDouble(a, b);
+            } else if(type == ValueTypes.LONG) {
+                return evaluateLong(a, b);
+            }
+        }
+        return evaluateMixed(ValueTypes.CATEGORY_NUMBER, a, b);
+    }
+
+    protected static int getInteger(IVariable variable) throws EvaluationException {
+        return ((ValueTypeInteger.ValueInteger) variable.getValue()).getRawValue();
+    }
+
+    protected static double getDouble(IVariable variable) throws EvaluationException {
+        return ((ValueTypeDouble.ValueDouble) variable.getValue()).getRawValue();
+    }
+
+    protected static long getLong(IVariable variable) throws EvaluationException {
+        return ((ValueTypeLong.ValueLong) variable.getValue()).getRawValue();
+    }
+
+    /**
+     * Evaluate for two integer inputs.
+     * @param a The first input.
+     * @param b The second input.
+     * @return The output value.
+     * @throws EvaluationException If an exception occurs while evaluating.
+     */
+    protected abstract IValue evaluateInteger(IVariable a, IVariable b) throws EvaluationException;
+
+    /**
+     * Evaluate for two double inputs.
+     * @param a The first input.
+     * @param b The second input.
+     * @return The output value.
+     * @throws EvaluationException If an exception occurs while evaluating.
+     */
+    protected abstract IValue evaluateDouble(IVariable a, IVariable b) throws EvaluationException;
+
+    /**
+     * Evaluate for two long inputs.
+     * @param a The first input.
+     * @param b The second input.
+     * @return The output value.
+     * @throws EvaluationException If an exception occurs while evaluating.
+     */
+    protected abstract IValue evaluateLong(IVariable a, IVariable b) throws EvaluationException;
+
+    /**
+     * Evaluate for two inputs of different number types.
+     * @param category The number category.
+     * @param a The first input.
+     * @param b The second input.
+     * @return The output value.
+     * @throws EvaluationException If an exception occurs while evaluating.
+     */
+    protected abstract IValue evaluateMixed(ValueTypeCategoryNumber category, IVariable a, IVariable b) throws EvaluationException;
+
+}
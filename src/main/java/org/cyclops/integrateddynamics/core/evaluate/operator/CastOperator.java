@@ -36,6 +36,11 @@ public class CastOperator<T1 extends IValueType<V1>, T2 extends IValueType<V2>,
         this.mapping = mapping;
     }
 
+    @Override
+    public boolean isPure() {
+        return true;
+    }
+
     @Override
     public String getUniqueName() {
         return "operator.operators." + getModId() + ".cast" + from.getUnlocalizedName() + "$" + to.getUnlocalizedName();
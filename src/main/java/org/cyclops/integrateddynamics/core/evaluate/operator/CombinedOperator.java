@@ -33,6 +33,16 @@ public class CombinedOperator extends OperatorBase {
         return unlocalizedType;
     }
 
+    @Override
+    public boolean isPure() {
+        for (IOperator operator : ((OperatorsFunction) getFunction()).getOperators()) {
+            if (!operator.isPure()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     public static abstract class OperatorsFunction implements IFunction {
 
         private final IOperator[] operators;
@@ -7,6 +7,8 @@ import org.cyclops.integrateddynamics.api.evaluate.variable.IValue;
 import org.cyclops.integrateddynamics.api.evaluate.variable.IValueType;
 import org.cyclops.integrateddynamics.api.evaluate.variable.IVariable;
 import org.cyclops.integrateddynamics.api.logicprogrammer.IConfigRenderPattern;
+import org.cyclops.integrateddynamics.core.evaluate.variable.ValueTypes;
+import org.cyclops.integrateddynamics.core.evaluate.variable.Variable;
 import org.cyclops.integrateddynamics.core.helper.L10NValues;
 
 import java.util.Arrays;
@@ -121,4 +123,10 @@ public class CurriedOperator implements IOperator {
     public IConfigRenderPattern getRenderPattern() {
         return IConfigRenderPattern.NONE;
     }
+
+    @Override
+    public boolean isPure() {
+        // Only constant applied values can be read concurrently, lists may still lazily evaluate other operators.
+        return baseOperator.isPure() && appliedVariable instanceof Variable && appliedVariable.getType() != ValueTypes.LIST;
+    }
 }
@@ -127,6 +127,14 @@ public abstract class OperatorBase implements IOperator {
         return outputType;
     }
 
+    /**
+     * @return If {@link #getConditionalOutputType(IVariable[])} only depends on the types of the input variables,
+     *         and not on their values.
+     */
+    public boolean isConditionalOutputTypeValueIndependent() {
+        return true;
+    }
+
     @Override
     public IValue evaluate(IVariable[] input) throws EvaluationException {
         L10NHelpers.UnlocalizedString error = validateTypes(ValueHelpers.from(input));
@@ -136,6 +144,28 @@ public abstract class OperatorBase implements IOperator {
         return function.evaluate(new SafeVariablesGetter(input));
     }
 
+    /**
+     * Compile this operator for the given bound input variables, of which the types will not change anymore.
+     * The input types are validated only once, after which the plan directly invokes the function on each evaluation.
+     * @param input The input variables.
+     * @return The evaluation plan.
+     */
+    public Plan compile(IVariable[] input) {
+        return new Plan(getFunction(), validateTypes(ValueHelpers.from(input)), new SafeVariablesGetter(input));
+    }
+
+    @Override
+    public boolean isPure() {
+        return false;
+    }
+
+    /**
+     * @return If this two-input operator is associative, so that the elements of a list may be reduced in any grouping.
+     */
+    public boolean isAssociative() {
+        return false;
+    }
+
     @Override
     public int getRequiredInputLength() {
         return getInputTypes().length;
@@ -202,6 +232,42 @@ public abstract class OperatorBase implements IOperator {
         }
     }
 
+    /**
+     * A type-checked evaluation plan of an operator for bound input variables.
+     */
+    public static class Plan {
+
+        private final IFunction function;
+        private final L10NHelpers.UnlocalizedString error;
+        private final SafeVariablesGetter variables;
+
+        protected Plan(IFunction function, L10NHelpers.UnlocalizedString error, SafeVariablesGetter variables) {
+            this.function = function;
+            this.error = error;
+            this.variables = variables;
+        }
+
+        /**
+         * @return The validation error for the input types, or null if they are valid.
+         */
+        public L10NHelpers.UnlocalizedString getError() {
+            return error;
+        }
+
+        /**
+         * Evaluate the operator for the bound input variables.
+         * @return The output value.
+         * @throws EvaluationException If the input types were invalid, or if an exception occurs while evaluating.
+         */
+        public IValue evaluate() throws EvaluationException {
+            if(error != null) {
+                throw new EvaluationException(error.localize());
+            }
+            return function.evaluate(variables);
+        }
+
+    }
+
     public static interface IFunction {
 
         /**
@@ -79,7 +79,7 @@ public final class Operators {
     /**
      * Short-circuit logical AND operator with two input booleans and one output boolean.
      */
-    public static final IOperator LOGICAL_AND = REGISTRY.register(OperatorBuilders.LOGICAL_2.symbol("&&").operatorName("and")
+    public static final IOperator LOGICAL_AND = REGISTRY.register(OperatorBuilders.LOGICAL_2.symbol("&&").operatorName("and").associative(true)
             .function(new OperatorBase.IFunction() {
                 @Override
                 public IValue evaluate(OperatorBase.SafeVariablesGetter variables) throws EvaluationException {
@@ -95,7 +95,7 @@ public final class Operators {
     /**
      * Short-circuit logical AND operator with two input booleans and one output boolean.
      */
-    public static final IOperator LOGICAL_OR = REGISTRY.register(OperatorBuilders.LOGICAL_2.symbol("||").operatorName("or")
+    public static final IOperator LOGICAL_OR = REGISTRY.register(OperatorBuilders.LOGICAL_2.symbol("||").operatorName("or").associative(true)
             .function(new OperatorBase.IFunction() {
                 @Override
                 public IValue evaluate(OperatorBase.SafeVariablesGetter variables) throws EvaluationException {
@@ -126,11 +126,26 @@ public final class Operators {
     /**
      * Arithmetic ADD operator with two input integers and one output integer.
      */
-    public static final IOperator ARITHMETIC_ADDITION = REGISTRY.register(OperatorBuilders.ARITHMETIC_2.symbol("+").operatorName("addition")
-            .function(new OperatorBase.IFunction() {
+    public static final IOperator ARITHMETIC_ADDITION = REGISTRY.register(OperatorBuilders.ARITHMETIC_2.symbol("+").operatorName("addition").associative(true)
+            .function(new ArithmeticFunction() {
                 @Override
-                public IValue evaluate(OperatorBase.SafeVariablesGetter variables) throws EvaluationException {
-                    return ValueTypes.CATEGORY_NUMBER.add(variables.getVariables()[0], variables.getVariables()[1]);
+                protected IValue evaluateInteger(IVariable a, IVariable b) throws EvaluationException {
+                    return ValueTypeInteger.ValueInteger.of(getInteger(a) + getInteger(b));
+                }
+
+                @Override
+                protected IValue evaluateDouble(IVariable a, IVariable b) throws EvaluationException {
+                    return ValueTypeDouble.ValueDouble.of(getDouble(a) + getDouble(b));
+                }
+
+                @Override
+                protected IValue evaluateLong(IVariable a, IVariable b) throws EvaluationException {
+                    return ValueTypeLong.ValueLong.of(getLong(a) + getLong(b));
+                }
+
+                @Override
+                protected IValue evaluateMixed(ValueTypeCategoryNumber category, IVariable a, IVariable b) throws EvaluationException {
+                    return category.add(a, b);
                 }
             }).build());
 
@@ -138,21 +153,63 @@ public final class Operators {
      * Arithmetic MINUS operator with two input integers and one output integer.
      */
     public static final IOperator ARITHMETIC_SUBTRACTION = REGISTRY.register(OperatorBuilders.ARITHMETIC_2.symbol("-").operatorName("subtraction")
-            .function(new OperatorBase.IFunction() {
+            .function(new ArithmeticFunction() {
                 @Override
-                public IValue evaluate(OperatorBase.SafeVariablesGetter variables) throws EvaluationException {
-                    return ValueTypes.CATEGORY_NUMBER.subtract(variables.getVariables()[0], variables.getVariables()[1]);
+                protected IValue evaluateInteger(IVariable a, IVariable b) throws EvaluationException {
+                    return ValueTypeInteger.ValueInteger.of(getInteger(a) - getInteger(b));
+                }
+
+                @Override
+                protected IValue evaluateDouble(IVariable a, IVariable b) throws EvaluationException {
+                    return ValueTypeDouble.ValueDouble.of(getDouble(a) - getDouble(b));
+                }
+
+                @Override
+                protected IValue evaluateLong(IVariable a, IVariable b) throws EvaluationException {
+                    return ValueTypeLong.ValueLong.of(getLong(a) - getLong(b));
+                }
+
+                @Override
+                protected IValue evaluateMixed(ValueTypeCategoryNumber category, IVariable a, IVariable b) throws EvaluationException {
+                    return category.subtract(a, b);
                 }
             }).build());
 
     /**
      * Arithmetic MULTIPLY operator with two input integers and one output integer.
      */
-    public static final IOperator ARITHMETIC_MULTIPLICATION = REGISTRY.register(OperatorBuilders.ARITHMETIC_2.symbol("*").operatorName("multiplication")
-            .function(new OperatorBase.IFunction() {
+    public static final IOperator ARITHMETIC_MULTIPLICATION = REGISTRY.register(OperatorBuilders.ARITHMETIC_2.symbol("*").operatorName("multiplication").associative(true)
+            .function(new ArithmeticFunction() {
                 @Override
-                public IValue evaluate(OperatorBase.SafeVariablesGetter variables) throws EvaluationException {
-                    return ValueTypes.CATEGORY_NUMBER.multiply(variables.getVariables()[0], variables.getVariables()[1]);
+                protected IValue evaluateInteger(IVariable a, IVariable b) throws EvaluationException {
+                    int av = getInteger(a);
+                    if(av == 0) { // If a is absorbtion element for multiplication
+                        return ValueTypeInteger.ValueInteger.of(0);
+                    }
+                    return ValueTypeInteger.ValueInteger.of(av * getInteger(b));
+                }
+
+                @Override
+                protected IValue evaluateDouble(IVariable a, IVariable b) throws EvaluationException {
+                    double av = getDouble(a);
+                    if(av == 0D) { // If a is absorbtion element for multiplication
+                        return ValueTypeDouble.ValueDouble.of(av);
+                    }
+                    return ValueTypeDouble.ValueDouble.of(av * getDouble(b));
+                }
+
+                @Override
+                protected IValue evaluateLong(IVariable a, IVariable b) throws EvaluationException {
+                    long av = getLong(a);
+                    if(av == 0L) { // If a is absorbtion element for multiplication
+                        return ValueTypeLong.ValueLong.of(0L);
+                    }
+                    return ValueTypeLong.ValueLong.of(av * getLong(b));
+                }
+
+                @Override
+                protected IValue evaluateMixed(ValueTypeCategoryNumber category, IVariable a, IVariable b) throws EvaluationException {
+                    return category.multiply(a, b);
                 }
             }).build());
 
@@ -160,32 +217,89 @@ public final class Operators {
      * Arithmetic DIVIDE operator with two input integers and one output integer.
      */
     public static final IOperator ARITHMETIC_DIVISION = REGISTRY.register(OperatorBuilders.ARITHMETIC_2.symbol("/").operatorName("division")
-            .function(new OperatorBase.IFunction() {
+            .function(new ArithmeticFunction() {
                 @Override
-                public IValue evaluate(OperatorBase.SafeVariablesGetter variables) throws EvaluationException {
-                    return ValueTypes.CATEGORY_NUMBER.divide(variables.getVariables()[0], variables.getVariables()[1]);
+                protected IValue evaluateInteger(IVariable a, IVariable b) throws EvaluationException {
+                    int bv = getInteger(b);
+                    if(bv == 0) { // You can not divide by zero
+                        throw new EvaluationException("Division by zero");
+                    }
+                    return ValueTypeInteger.ValueInteger.of(getInteger(a) / bv);
+                }
+
+                @Override
+                protected IValue evaluateDouble(IVariable a, IVariable b) throws EvaluationException {
+                    double bv = getDouble(b);
+                    if(bv == 0D) { // You can not divide by zero
+                        throw new EvaluationException("Division by zero");
+                    }
+                    return ValueTypeDouble.ValueDouble.of(getDouble(a) / bv);
+                }
+
+                @Override
+                protected IValue evaluateLong(IVariable a, IVariable b) throws EvaluationException {
+                    long bv = getLong(b);
+                    if(bv == 0L) { // You can not divide by zero
+                        throw new EvaluationException("Division by zero");
+                    }
+                    return ValueTypeLong.ValueLong.of(getLong(a) / bv);
+                }
+
+                @Override
+                protected IValue evaluateMixed(ValueTypeCategoryNumber category, IVariable a, IVariable b) throws EvaluationException {
+                    return category.divide(a, b);
                 }
             }).build());
 
     /**
      * Arithmetic MAX operator with two input integers and one output integer.
      */
-    public static final IOperator ARITHMETIC_MAXIMUM = REGISTRY.register(OperatorBuilders.ARITHMETIC_2_PREFIX.symbol("max").operatorName("maximum")
-            .function(new OperatorBase.IFunction() {
+    public static final IOperator ARITHMETIC_MAXIMUM = REGISTRY.register(OperatorBuilders.ARITHMETIC_2_PREFIX.symbol("max").operatorName("maximum").associative(true)
+            .function(new ArithmeticFunction() {
                 @Override
-                public IValue evaluate(OperatorBase.SafeVariablesGetter variables) throws EvaluationException {
-                    return ValueTypes.CATEGORY_NUMBER.max(variables.getVariables()[0], variables.getVariables()[1]);
+                protected IValue evaluateInteger(IVariable a, IVariable b) throws EvaluationException {
+                    return ValueTypeInteger.ValueInteger.of(Math.max(getInteger(a), getInteger(b)));
+                }
+
+                @Override
+                protected IValue evaluateDouble(IVariable a, IVariable b) throws EvaluationException {
+                    return ValueTypeDouble.ValueDouble.of(Math.max(getDouble(a), getDouble(b)));
+                }
+
+                @Override
+                protected IValue evaluateLong(IVariable a, IVariable b) throws EvaluationException {
+                    return ValueTypeLong.ValueLong.of(Math.max(getLong(a), getLong(b)));
+                }
+
+                @Override
+                protected IValue evaluateMixed(ValueTypeCategoryNumber category, IVariable a, IVariable b) throws EvaluationException {
+                    return category.max(a, b);
                 }
             }).build());
 
     /**
      * Arithmetic MIN operator with two input integers and one output integer.
      */
-    public static final IOperator ARITHMETIC_MINIMUM = REGISTRY.register(OperatorBuilders.ARITHMETIC_2_PREFIX.symbol("min").operatorName("minimum")
-            .function(new OperatorBase.IFunction() {
+    public static final IOperator ARITHMETIC_MINIMUM = REGISTRY.register(OperatorBuilders.ARITHMETIC_2_PREFIX.symbol("min").operatorName("minimum").associative(true)
+            .function(new ArithmeticFunction() {
                 @Override
-                public IValue evaluate(OperatorBase.SafeVariablesGetter variables) throws EvaluationException {
-                    return ValueTypes.CATEGORY_NUMBER.min(variables.getVariables()[0], variables.getVariables()[1]);
+                protected IValue evaluateInteger(IVariable a, IVariable b) throws EvaluationException {
+                    return ValueTypeInteger.ValueInteger.of(Math.min(getInteger(a), getInteger(b)));
+                }
+
+                @Override
+                protected IValue evaluateDouble(IVariable a, IVariable b) throws EvaluationException {
+                    return ValueTypeDouble.ValueDouble.of(Math.min(getDouble(a), getDouble(b)));
+                }
+
+                @Override
+                protected IValue evaluateLong(IVariable a, IVariable b) throws EvaluationException {
+                    return ValueTypeLong.ValueLong.of(Math.min(getLong(a), getLong(b)));
+                }
+
+                @Override
+                protected IValue evaluateMixed(ValueTypeCategoryNumber category, IVariable a, IVariable b) throws EvaluationException {
+                    return category.min(a, b);
                 }
             }).build());
 
@@ -341,7 +455,7 @@ public final class Operators {
     /**
      * Binary AND operator with two input integers and one output integers.
      */
-    public static final IOperator BINARY_AND = REGISTRY.register(OperatorBuilders.BINARY_2.symbol("&").operatorName("and")
+    public static final IOperator BINARY_AND = REGISTRY.register(OperatorBuilders.BINARY_2.symbol("&").operatorName("and").associative(true)
             .function(new OperatorBase.IFunction() {
                 @Override
                 public IValue evaluate(OperatorBase.SafeVariablesGetter variables) throws EvaluationException {
@@ -354,7 +468,7 @@ public final class Operators {
     /**
      * Binary OR operator with two input integers and one output integers.
      */
-    public static final IOperator BINARY_OR = REGISTRY.register(OperatorBuilders.BINARY_2.symbol("|").operatorName("or")
+    public static final IOperator BINARY_OR = REGISTRY.register(OperatorBuilders.BINARY_2.symbol("|").operatorName("or").associative(true)
             .function(new OperatorBase.IFunction() {
                 @Override
                 public IValue evaluate(OperatorBase.SafeVariablesGetter variables) throws EvaluationException {
@@ -367,7 +481,7 @@ public final class Operators {
     /**
      * Binary XOR operator with two input integers and one output integers.
      */
-    public static final IOperator BINARY_XOR = REGISTRY.register(OperatorBuilders.BINARY_2.symbol("^").operatorName("xor")
+    public static final IOperator BINARY_XOR = REGISTRY.register(OperatorBuilders.BINARY_2.symbol("^").operatorName("xor").associative(true)
             .function(new OperatorBase.IFunction() {
                 @Override
                 public IValue evaluate(OperatorBase.SafeVariablesGetter variables) throws EvaluationException {
@@ -447,7 +561,7 @@ public final class Operators {
     /**
      * String concat operator with two input strings and one output string.
      */
-    public static final IOperator STRING_CONCAT = REGISTRY.register(OperatorBuilders.STRING_2.symbol("+").operatorName("concat")
+    public static final IOperator STRING_CONCAT = REGISTRY.register(OperatorBuilders.STRING_2.symbol("+").operatorName("concat").associative(true)
             .function(new OperatorBase.IFunction() {
                 @Override
                 public IValue evaluate(OperatorBase.SafeVariablesGetter variables) throws EvaluationException {
@@ -460,7 +574,7 @@ public final class Operators {
     /**
      * Get a name value type name.
      */
-    public static final IOperator NAMED_NAME = REGISTRY.register(OperatorBuilders.STRING_2.symbol("name").operatorName("name")
+    public static final IOperator NAMED_NAME = REGISTRY.register(OperatorBuilders.STRING_2.symbol("name").operatorName("name").pure(false)
             .inputType(ValueTypes.CATEGORY_NAMED).renderPattern(IConfigRenderPattern.SUFFIX_1_LONG)
             .function(new OperatorBase.IFunction() {
                 @Override
@@ -589,13 +703,18 @@ public final class Operators {
                 @Override
                 public IValue evaluate(OperatorBase.SafeVariablesGetter variables) throws EvaluationException {
                     IValueTypeListProxy<IValueType<IValue>, IValue> list = ((ValueTypeList.ValueList) variables.getValue(0)).getRawValue();
-                    IValue input = variables.getValue(1);
-                    for (IValue value : list) {
-                        if (value.equals(input)) {
-                            return ValueTypeBoolean.ValueBoolean.of(true);
-                        }
+                    final IValue input = variables.getValue(1);
+                    if(list instanceof ValueTypeListProxyMaterialized) {
+                        return ValueTypeBoolean.ValueBoolean.of(((ValueTypeListProxyMaterialized) list).contains(input));
                     }
-                    return ValueTypeBoolean.ValueBoolean.of(false);
+                    // The traversal stops at the first match, so that the remaining elements are not evaluated.
+                    boolean notFound = ValueTypeListProxyBase.visit(list, new IListElementVisitor<IValue>() {
+                        @Override
+                        public boolean visit(IValue value) throws EvaluationException {
+                            return !value.equals(input);
+                        }
+                    });
+                    return ValueTypeBoolean.ValueBoolean.of(!notFound);
                 }
             }).build());
 
@@ -610,15 +729,16 @@ public final class Operators {
                 @Override
                 public IValue evaluate(OperatorBase.SafeVariablesGetter variables) throws EvaluationException {
                     IValueTypeListProxy<IValueType<IValue>, IValue> list = ((ValueTypeList.ValueList) variables.getValue(0)).getRawValue();
-                    IOperator operator = OperatorBuilders.getSafePredictate((ValueTypeOperator.ValueOperator) variables.getValue(1));
-                    IVariable container = variables.getVariables()[2];
-                    for (IValue value : list) {
-                        IValue result = operator.evaluate(new IVariable[]{container, new Variable<>(value.getType(), value)});
-                        if (((ValueTypeBoolean.ValueBoolean) result).getRawValue()) {
-                            return ValueTypeBoolean.ValueBoolean.of(true);
+                    final IOperator operator = OperatorBuilders.getSafePredictate((ValueTypeOperator.ValueOperator) variables.getValue(1));
+                    final IVariable container = variables.getVariables()[2];
+                    boolean notFound = ValueTypeListProxyBase.visit(list, new IListElementVisitor<IValue>() {
+                        @Override
+                        public boolean visit(IValue value) throws EvaluationException {
+                            IValue result = operator.evaluate(new IVariable[]{container, new Variable<>(value.getType(), value)});
+                            return !((ValueTypeBoolean.ValueBoolean) result).getRawValue();
                         }
-                    }
-                    return ValueTypeBoolean.ValueBoolean.of(false);
+                    });
+                    return ValueTypeBoolean.ValueBoolean.of(!notFound);
                 }
             }).build());
 
@@ -1031,7 +1151,7 @@ public final class Operators {
     /**
      * Get a list of items that correspond to the given oredict key.
      */
-    public static final IOperator OBJECT_ITEMSTACK_OREDICT_STACKS = REGISTRY.register(OperatorBuilders.STRING_1_PREFIX.symbolOperator("oredict")
+    public static final IOperator OBJECT_ITEMSTACK_OREDICT_STACKS = REGISTRY.register(OperatorBuilders.STRING_1_PREFIX.symbolOperator("oredict").pure(false)
             .inputType(ValueTypes.STRING).renderPattern(IConfigRenderPattern.SUFFIX_1_LONG)
             .function(new OperatorBase.IFunction() {
                 @Override
@@ -1618,6 +1738,9 @@ public final class Operators {
                             final IOperator innerOperator = input.getLeft();
                             OperatorBase.SafeVariablesGetter variables = input.getRight();
                             ValueTypeList.ValueList inputList = variables.getValue(0);
+                            if (ParallelListOperators.canParallelize(innerOperator, inputList.getRawValue())) {
+                                return ParallelListOperators.map(innerOperator, inputList.getRawValue());
+                            }
                             return ValueTypeList.ValueList.ofFactory(
                                     new ValueTypeListProxyOperatorMapped(innerOperator, inputList.getRawValue()));
                         }
@@ -1635,29 +1758,19 @@ public final class Operators {
                         public IValue getOutput(Pair<IOperator, OperatorBase.SafeVariablesGetter> input) throws EvaluationException {
                             final IOperator innerOperator = input.getLeft();
                             OperatorBase.SafeVariablesGetter variables = input.getRight();
-                            ValueTypeList.ValueList<?, ?> inputList = variables.getValue(0);
-                            List<IValue> filtered = Lists.newArrayList();
-                            for (IValue value : inputList.getRawValue()) {
-                                IValue result = ValueHelpers.evaluateOperator(innerOperator, value);
-                                if (result.getType() != ValueTypes.BOOLEAN) {
-                                    L10NHelpers.UnlocalizedString error = new L10NHelpers.UnlocalizedString(
-                                            L10NValues.VALUETYPE_ERROR_WRONGPREDICATE,
-                                            OPERATOR_FILTER.getLocalizedNameFull(),
-                                            result.getType(), ValueTypes.BOOLEAN);
-                                    throw new EvaluationException(error.localize());
-                                } else if (((ValueTypeBoolean.ValueBoolean) result).getRawValue()) {
-                                    filtered.add(value);
-                                }
+                            ValueTypeList.ValueList<IValueType<IValue>, IValue> inputList = variables.getValue(0);
+                            if (ParallelListOperators.canParallelize(innerOperator, inputList.getRawValue())) {
+                                return ParallelListOperators.filter(innerOperator, inputList.getRawValue());
                             }
-                            IValueType valueType = inputList.getRawValue().getValueType();
-                            return ValueTypeList.ValueList.ofList(valueType, filtered);
+                            return ValueTypeList.ValueList.ofFactory(
+                                    new ValueTypeListProxyOperatorFiltered<>(innerOperator, inputList.getRawValue()));
                         }
                     })).build());
 
     /**
      * Takes the conjunction of two predicates.
      */
-    public static final IOperator OPERATOR_CONJUNCTION = REGISTRY.register(OperatorBuilders.OPERATOR_2_INFIX_LONG
+    public static final IOperator OPERATOR_CONJUNCTION = REGISTRY.register(OperatorBuilders.OPERATOR_2_INFIX_LONG.pure(true)
             .inputTypes(new IValueType[]{ValueTypes.OPERATOR, ValueTypes.OPERATOR})
             .output(ValueTypes.OPERATOR).symbol(".&&.").operatorName("conjunction")
             .function(OperatorBuilders.FUNCTION_TWO_PREDICATES.build(new IOperatorValuePropagator<Pair<IOperator, IOperator>, IValue>() {
@@ -1672,7 +1785,7 @@ public final class Operators {
     /**
      * Takes the disjunction of two predicates.
      */
-    public static final IOperator OPERATOR_DISJUNCTION = REGISTRY.register(OperatorBuilders.OPERATOR_2_INFIX_LONG
+    public static final IOperator OPERATOR_DISJUNCTION = REGISTRY.register(OperatorBuilders.OPERATOR_2_INFIX_LONG.pure(true)
             .inputTypes(new IValueType[]{ValueTypes.OPERATOR, ValueTypes.OPERATOR})
             .output(ValueTypes.OPERATOR).symbol(".||.").operatorName("disjunction")
             .function(OperatorBuilders.FUNCTION_TWO_PREDICATES.build(new IOperatorValuePropagator<Pair<IOperator, IOperator>, IValue>() {
@@ -1687,7 +1800,7 @@ public final class Operators {
     /**
      * Takes the negation of a predicate.
      */
-    public static final IOperator OPERATOR_NEGATION = REGISTRY.register(OperatorBuilders.OPERATOR_1_PREFIX_LONG
+    public static final IOperator OPERATOR_NEGATION = REGISTRY.register(OperatorBuilders.OPERATOR_1_PREFIX_LONG.pure(true)
             .inputTypes(new IValueType[]{ValueTypes.OPERATOR})
             .output(ValueTypes.OPERATOR).symbol("!.").operatorName("negation")
             .function(OperatorBuilders.FUNCTION_ONE_PREDICATE.build(new IOperatorValuePropagator<IOperator, IValue>() {
@@ -1702,7 +1815,7 @@ public final class Operators {
     /**
      * Create a new operator that pipes the output from the first operator to the second operator.
      */
-    public static final IOperator OPERATOR_PIPE = REGISTRY.register(OperatorBuilders.OPERATOR_2_INFIX_LONG
+    public static final IOperator OPERATOR_PIPE = REGISTRY.register(OperatorBuilders.OPERATOR_2_INFIX_LONG.pure(true)
             .inputTypes(new IValueType[]{ValueTypes.OPERATOR, ValueTypes.OPERATOR})
             .output(ValueTypes.OPERATOR).symbol(".").operatorName("pipe")
             .function(OperatorBuilders.FUNCTION_TWO_OPERATORS.build(new IOperatorValuePropagator<Pair<IOperator, IOperator>, IValue>() {
@@ -1717,7 +1830,7 @@ public final class Operators {
     /**
      * Flip the input parameters of an operator with two inputs.
      */
-    public static final IOperator OPERATOR_FLIP = REGISTRY.register(OperatorBuilders.OPERATOR_1_PREFIX_LONG
+    public static final IOperator OPERATOR_FLIP = REGISTRY.register(OperatorBuilders.OPERATOR_1_PREFIX_LONG.pure(true)
             .inputTypes(new IValueType[]{ValueTypes.OPERATOR})
             .output(ValueTypes.OPERATOR).symbolOperator("flip")
             .function(OperatorBuilders.FUNCTION_ONE_OPERATOR.build(new IOperatorValuePropagator<IOperator, IValue>() {
@@ -1742,7 +1855,7 @@ public final class Operators {
             .inputTypes(new IValueType[]{ValueTypes.OPERATOR, ValueTypes.LIST, ValueTypes.CATEGORY_ANY})
             .renderPattern(IConfigRenderPattern.PREFIX_3_LONG)
             .output(ValueTypes.CATEGORY_ANY).symbolOperator("reduce")
-            .conditionalOutputTypeDeriver(new OperatorBuilder.IConditionalOutputTypeDeriver() {
+            .conditionalOutputTypeDeriver(new OperatorBuilder.ITypeConditionalOutputTypeDeriver() {
                 @Override
                 public IValueType getConditionalOutputType(OperatorBase operator, IVariable[] input) {
                     return input[2].getType();
@@ -1755,12 +1868,21 @@ public final class Operators {
                     final IOperator innerOperator = OperatorBuilders.getSafeOperator((ValueTypeOperator.ValueOperator)
                             variables.getValue(0), accumulator.getType());
                     ValueTypeList.ValueList<IValueType<IValue>, IValue> inputList = variables.getValue(1);
-                    for (IValue listValue : inputList.getRawValue()) {
-                        accumulator = innerOperator.evaluate(new IVariable[]{
-                                new Variable<>(accumulator.getType(), accumulator),
-                                new Variable<>(listValue.getType(), listValue)});
+                    if (ParallelListOperators.canReduce(innerOperator, inputList.getRawValue(), accumulator)) {
+                        return ParallelListOperators.reduce(innerOperator, inputList.getRawValue(), accumulator);
                     }
-                    return accumulator;
+                    final IValue[] result = new IValue[]{accumulator};
+                    ValueTypeListProxyBase.visit(inputList.getRawValue(), new IListElementVisitor<IValue>() {
+                        @Override
+                        public boolean visit(IValue listValue) throws EvaluationException {
+                            IValue current = result[0];
+                            result[0] = innerOperator.evaluate(new IVariable[]{
+                                    new Variable<>(current.getType(), current),
+                                    new Variable<>(listValue.getType(), listValue)});
+                            return true;
+                        }
+                    });
+                    return result[0];
                 }
             }).build());
 
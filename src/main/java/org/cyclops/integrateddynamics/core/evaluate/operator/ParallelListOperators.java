@@ -0,0 +1,274 @@
+package org.cyclops.integrateddynamics.core.evaluate.operator;
+
+import com.google.common.collect.Lists;
+import org.cyclops.cyclopscore.helper.L10NHelpers;
+import org.cyclops.integrateddynamics.GeneralConfig;
+import org.cyclops.integrateddynamics.api.evaluate.EvaluationException;
+import org.cyclops.integrateddynamics.api.evaluate.operator.IOperator;
+import org.cyclops.integrateddynamics.api.evaluate.variable.IValue;
+import org.cyclops.integrateddynamics.api.evaluate.variable.IValueType;
+import org.cyclops.integrateddynamics.api.evaluate.variable.IValueTypeListProxy;
+import org.cyclops.integrateddynamics.core.evaluate.variable.ValueHelpers;
+import org.cyclops.integrateddynamics.core.evaluate.variable.ValueTypeBoolean;
+import org.cyclops.integrateddynamics.core.evaluate.variable.ValueTypeList;
+import org.cyclops.integrateddynamics.core.evaluate.variable.ValueTypeListProxyMaterialized;
+import org.cyclops.integrateddynamics.core.evaluate.variable.ValueTypes;
+import org.cyclops.integrateddynamics.core.helper.L10NValues;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Evaluates the map, filter and reduce operators over large lists on a fork-join pool.
+ *
+ * This is only done for pure operators over materialized lists, see {@link IOperator#isPure()},
+ * so that no world state or lazily evaluated list elements are accessed concurrently.
+ * Lists are always split in the same chunks, so that the results do not depend on the number of threads.
+ * @author rubensworks
+ */
+public final class ParallelListOperators {
+
+    /**
+     * The number of elements that are evaluated sequentially within one task.
+     */
+    public static final int CHUNK_SIZE = 1024;
+
+    private static ForkJoinPool POOL = null;
+
+    private ParallelListOperators() {
+
+    }
+
+    protected static synchronized ForkJoinPool getPool() {
+        if(POOL == null) {
+            POOL = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+        }
+        return POOL;
+    }
+
+    /**
+     * Check if the given operator can be applied to all elements of the given list in parallel.
+     * @param operator The operator.
+     * @param list The list.
+     * @return If the list is long enough, its elements can be read concurrently and the operator is pure.
+     * @throws EvaluationException If the list length could not be determined.
+     */
+    public static boolean canParallelize(IOperator operator, IValueTypeListProxy<?, ?> list) throws EvaluationException {
+        int threshold = GeneralConfig.parallelListThreshold;
+        return threshold > 0 && Runtime.getRuntime().availableProcessors() > 1
+                && operator.isPure()
+                && list instanceof ValueTypeListProxyMaterialized
+                // Nested lists may still lazily evaluate other operators.
+                && !ValueHelpers.correspondsTo(list.getValueType(), ValueTypes.LIST)
+                && list.getLength() >= threshold;
+    }
+
+    /**
+     * Check if the given list can be reduced in parallel with the given operator.
+     * @param operator The reduce operator.
+     * @param list The list.
+     * @param accumulator The initial value.
+     * @return If the list can be reduced in parallel.
+     * @throws EvaluationException If the list length could not be determined.
+     */
+    public static boolean canReduce(IOperator operator, IValueTypeListProxy<?, ?> list, IValue accumulator) throws EvaluationException {
+        // Partial results are combined with the same operator, so it must be associative and closed over the element type.
+        return operator instanceof OperatorBase && ((OperatorBase) operator).isAssociative()
+                && accumulator.getType() == list.getValueType()
+                && isExactlyAssociative(list.getValueType())
+                && canParallelize(operator, list);
+    }
+
+    /**
+     * Floating point arithmetic is only associative up to rounding,
+     * so regrouping a reduction over doubles could change its result.
+     * @param valueType A value type.
+     * @return If associative operators over the given type give exactly the same result in any grouping.
+     */
+    public static boolean isExactlyAssociative(IValueType<?> valueType) {
+        return valueType == ValueTypes.INTEGER || valueType == ValueTypes.LONG
+                || valueType == ValueTypes.BOOLEAN || valueType == ValueTypes.STRING;
+    }
+
+    /**
+     * Apply the given operator to all elements of the given list in parallel.
+     * @param operator The operator.
+     * @param list The list.
+     * @return The list of mapped elements.
+     * @throws EvaluationException If an element could not be mapped.
+     */
+    public static ValueTypeList.ValueList map(final IOperator operator, final IValueTypeListProxy<IValueType<IValue>, IValue> list) throws EvaluationException {
+        final IValue[] mapped = new IValue[list.getLength()];
+        invoke(new RangeAction(new IRangeFunction() {
+            @Override
+            public void compute(int from, int to) throws EvaluationException {
+                for(int i = from; i < to; i++) {
+                    mapped[i] = ValueHelpers.evaluateOperator(operator, list.get(i));
+                }
+            }
+        }, 0, mapped.length));
+        return ValueTypeList.ValueList.ofList(operator.getOutputType(), Arrays.asList(mapped));
+    }
+
+    /**
+     * Filter the elements of the given list with the given predicate in parallel.
+     * @param predicate The predicate.
+     * @param list The list.
+     * @return The list of elements that match the predicate, in their original order.
+     * @throws EvaluationException If an element could not be tested.
+     */
+    public static ValueTypeList.ValueList filter(final IOperator predicate, final IValueTypeListProxy<IValueType<IValue>, IValue> list) throws EvaluationException {
+        final boolean[] matches = new boolean[list.getLength()];
+        invoke(new RangeAction(new IRangeFunction() {
+            @Override
+            public void compute(int from, int to) throws EvaluationException {
+                for(int i = from; i < to; i++) {
+                    IValue result = ValueHelpers.evaluateOperator(predicate, list.get(i));
+                    if (result.getType() != ValueTypes.BOOLEAN) {
+                        L10NHelpers.UnlocalizedString error = new L10NHelpers.UnlocalizedString(
+                                L10NValues.VALUETYPE_ERROR_WRONGPREDICATE,
+                                Operators.OPERATOR_FILTER.getLocalizedNameFull(),
+                                result.getType(), ValueTypes.BOOLEAN);
+                        throw new EvaluationException(error.localize());
+                    }
+                    matches[i] = ((ValueTypeBoolean.ValueBoolean) result).getRawValue();
+                }
+            }
+        }, 0, matches.length));
+        List<IValue> filtered = Lists.newArrayList();
+        for(int i = 0; i < matches.length; i++) {
+            if(matches[i]) {
+                filtered.add(list.get(i));
+            }
+        }
+        return ValueTypeList.ValueList.ofList(list.getValueType(), filtered);
+    }
+
+    /**
+     * Reduce the elements of the given list with the given associative operator in parallel.
+     * @param operator The reduce operator.
+     * @param list The list.
+     * @param accumulator The initial value.
+     * @return The reduced value.
+     * @throws EvaluationException If the elements could not be reduced.
+     */
+    public static IValue reduce(IOperator operator, IValueTypeListProxy<IValueType<IValue>, IValue> list, IValue accumulator) throws EvaluationException {
+        IValue reduced = invoke(new ReduceTask(operator, list, 0, list.getLength()));
+        return ValueHelpers.evaluateOperator(operator, accumulator, reduced);
+    }
+
+    protected static <R> R invoke(ForkJoinTask<R> task) throws EvaluationException {
+        try {
+            // Within a pool, such as for parallel network updates, the task is forked into that same pool.
+            return ForkJoinTask.inForkJoinPool() ? task.invoke() : getPool().invoke(task);
+        } catch (RuntimeException e) {
+            // Exceptions may be rethrown wrapped in a copy when joined from another thread.
+            Throwable cause = e;
+            while(cause != null) {
+                if(cause instanceof EvaluationException) {
+                    throw (EvaluationException) cause;
+                }
+                cause = cause.getCause();
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * A function over a range of list elements.
+     */
+    protected static interface IRangeFunction {
+
+        /**
+         * Compute the elements of the given range.
+         * @param from The first index.
+         * @param to The index after the last index.
+         * @throws EvaluationException If an element could not be computed.
+         */
+        public void compute(int from, int to) throws EvaluationException;
+
+    }
+
+    /**
+     * A task that is split in halves until it covers at most {@link #CHUNK_SIZE} elements.
+     */
+    protected static class RangeAction extends RecursiveAction {
+
+        private final IRangeFunction function;
+        private final int from;
+        private final int to;
+
+        public RangeAction(IRangeFunction function, int from, int to) {
+            this.function = function;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if(to - from <= CHUNK_SIZE) {
+                try {
+                    function.compute(from, to);
+                } catch (EvaluationException e) {
+                    throw new TaskException(e);
+                }
+            } else {
+                int middle = (from + to) >>> 1;
+                invokeAll(new RangeAction(function, from, middle), new RangeAction(function, middle, to));
+            }
+        }
+    }
+
+    /**
+     * A task that reduces a non-empty range of list elements from left to right.
+     */
+    protected static class ReduceTask extends RecursiveTask<IValue> {
+
+        private final IOperator operator;
+        private final IValueTypeListProxy<IValueType<IValue>, IValue> list;
+        private final int from;
+        private final int to;
+
+        public ReduceTask(IOperator operator, IValueTypeListProxy<IValueType<IValue>, IValue> list, int from, int to) {
+            this.operator = operator;
+            this.list = list;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected IValue compute() {
+            try {
+                if(to - from <= CHUNK_SIZE) {
+                    IValue result = list.get(from);
+                    for(int i = from + 1; i < to; i++) {
+                        result = ValueHelpers.evaluateOperator(operator, result, list.get(i));
+                    }
+                    return result;
+                }
+                int middle = (from + to) >>> 1;
+                ReduceTask right = new ReduceTask(operator, list, middle, to);
+                right.fork();
+                IValue left = new ReduceTask(operator, list, from, middle).compute();
+                return ValueHelpers.evaluateOperator(operator, left, right.join());
+            } catch (EvaluationException e) {
+                throw new TaskException(e);
+            }
+        }
+    }
+
+    /**
+     * Carries an evaluation exception out of a fork-join task.
+     */
+    protected static class TaskException extends RuntimeException {
+
+        public TaskException(EvaluationException cause) {
+            super(cause);
+        }
+    }
+
+}
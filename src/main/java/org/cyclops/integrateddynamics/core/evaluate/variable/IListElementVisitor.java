@@ -0,0 +1,22 @@
+package org.cyclops.integrateddynamics.core.evaluate.variable;
+
+import org.cyclops.integrateddynamics.api.evaluate.EvaluationException;
+import org.cyclops.integrateddynamics.api.evaluate.variable.IValue;
+
+/**
+ * A visitor for the elements of a list, which are pushed to it one at a time.
+ * Chained list proxies pass their elements on through visitors, so that a chain is traversed in a single pass.
+ * @param <V> The list element type.
+ * @author rubensworks
+ */
+public interface IListElementVisitor<V extends IValue> {
+
+    /**
+     * Visit the next list element.
+     * @param value The element.
+     * @return If the traversal should continue, false stops it.
+     * @throws EvaluationException If something went wrong while handling the element.
+     */
+    public boolean visit(V value) throws EvaluationException;
+
+}
@@ -1,14 +1,20 @@
 package org.cyclops.integrateddynamics.core.evaluate.variable;
 
+import com.google.common.base.Optional;
+import com.google.common.collect.Lists;
+import net.minecraft.item.ItemStack;
+import net.minecraftforge.fluids.FluidStack;
 import org.cyclops.cyclopscore.helper.L10NHelpers;
 import org.cyclops.integrateddynamics.api.evaluate.EvaluationException;
 import org.cyclops.integrateddynamics.api.evaluate.operator.IOperator;
 import org.cyclops.integrateddynamics.api.evaluate.variable.IValue;
 import org.cyclops.integrateddynamics.api.evaluate.variable.IValueType;
+import org.cyclops.integrateddynamics.api.evaluate.variable.IValueTypeListProxy;
 import org.cyclops.integrateddynamics.api.evaluate.variable.IVariable;
 import org.cyclops.integrateddynamics.api.item.IVariableFacade;
 
 import javax.annotation.Nullable;
+import java.util.List;
 
 /**
  * A collection of helpers for variables, values and value types.
@@ -71,6 +77,47 @@ public class ValueHelpers {
         return v1 == null && v2 == null || (!(v1 == null || v2 == null) && v1.equals(v2));
     }
 
+    /**
+     * Check if changes to values of the given type can be detected by comparing them with {@link Object#equals(Object)}.
+     * This is not the case for types such as lists and objects, which may refer to state in the world.
+     * @param valueType The value type.
+     * @return If values of the type can be change-tracked.
+     */
+    public static boolean isChangeTrackable(@Nullable IValueType valueType) {
+        return valueType == ValueTypes.BOOLEAN || valueType == ValueTypes.INTEGER || valueType == ValueTypes.DOUBLE
+                || valueType == ValueTypes.LONG || valueType == ValueTypes.STRING;
+    }
+
+    /**
+     * Create a copy of the given value that is not affected by later changes in the world.
+     * Item and fluid stacks are copied, and lists, which may be backed by an inventory or another list,
+     * are materialized element-wise.
+     * Other values are immutable, so they are returned as is.
+     * @param value The value.
+     * @return A value that is equal to the given value at this moment.
+     * @throws EvaluationException If a list element could not be evaluated.
+     */
+    public static IValue snapshot(IValue value) throws EvaluationException {
+        if(value instanceof ValueObjectTypeItemStack.ValueItemStack) {
+            Optional<ItemStack> itemStack = ((ValueObjectTypeItemStack.ValueItemStack) value).getRawValue();
+            return itemStack.isPresent() ? ValueObjectTypeItemStack.ValueItemStack.of(itemStack.get().copy()) : value;
+        }
+        if(value instanceof ValueObjectTypeFluidStack.ValueFluidStack) {
+            Optional<FluidStack> fluidStack = ((ValueObjectTypeFluidStack.ValueFluidStack) value).getRawValue();
+            return fluidStack.isPresent() ? ValueObjectTypeFluidStack.ValueFluidStack.of(fluidStack.get().copy()) : value;
+        }
+        if(value instanceof ValueTypeList.ValueList) {
+            IValueTypeListProxy<?, ?> list = ((ValueTypeList.ValueList) value).getRawValue();
+            int length = list.getLength();
+            List<IValue> values = Lists.newArrayListWithExpectedSize(length);
+            for(int i = 0; i < length; i++) {
+                values.add(snapshot(list.get(i)));
+            }
+            return ValueTypeList.ValueList.ofList((IValueType) list.getValueType(), values);
+        }
+        return value;
+    }
+
     /**
      * Bidirectional checking of correspondence.
      * @param t1 First type.
@@ -82,7 +82,12 @@ public class ValueObjectTypeBlock extends ValueObjectTypeBase<ValueObjectTypeBlo
 
         @Override
         protected boolean isEqual(IBlockState a, IBlockState b) {
-            return a.getBlock().getMetaFromState(a) == b.getBlock().getMetaFromState(b);
+            return a.getBlock() == b.getBlock() && a.getBlock().getMetaFromState(a) == b.getBlock().getMetaFromState(b);
+        }
+
+        @Override
+        protected int getHash(IBlockState value) {
+            return 31 * value.getBlock().hashCode() + value.getBlock().getMetaFromState(value);
         }
     }
 
@@ -100,6 +100,11 @@ public class ValueObjectTypeEntity extends ValueObjectTypeBase<ValueObjectTypeEn
         protected boolean isEqual(Entity a, Entity b) {
             return a.getEntityId() == b.getEntityId();
         }
+
+        @Override
+        protected int getHash(Entity value) {
+            return value.getEntityId();
+        }
     }
 
 }
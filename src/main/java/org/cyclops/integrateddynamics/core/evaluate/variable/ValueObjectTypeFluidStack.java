@@ -75,6 +75,11 @@ public class ValueObjectTypeFluidStack extends ValueObjectTypeBase<ValueObjectTy
         protected boolean isEqual(FluidStack a, FluidStack b) {
             return a.isFluidStackIdentical(b);
         }
+
+        @Override
+        protected int getHash(FluidStack value) {
+            return 31 * value.getFluid().hashCode() + value.amount;
+        }
     }
 
 }
@@ -76,6 +76,11 @@ public class ValueObjectTypeItemStack extends ValueObjectTypeBase<ValueObjectTyp
         protected boolean isEqual(ItemStack a, ItemStack b) {
             return ItemStackHelpers.areItemStacksIdentical(a, b);
         }
+
+        @Override
+        protected int getHash(ItemStack value) {
+            return 31 * value.getItem().hashCode() + value.getMetadata();
+        }
     }
 
 }
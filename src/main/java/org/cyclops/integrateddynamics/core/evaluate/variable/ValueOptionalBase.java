@@ -36,6 +36,19 @@ public abstract class ValueOptionalBase<T> extends ValueBase {
         return false;
     }
 
+    @Override
+    public int hashCode() {
+        return getRawValue().isPresent() ? getHash(getRawValue().get()) : 0;
+    }
+
     protected abstract boolean isEqual(T a, T b);
 
+    /**
+     * Calculate the hash of a raw value.
+     * Values that are equal according to {@link #isEqual(Object, Object)} must have the same hash.
+     * @param value The raw value.
+     * @return The hash.
+     */
+    protected abstract int getHash(T value);
+
 }
@@ -78,6 +78,9 @@ public class ValueTypeDouble extends ValueTypeBase<ValueTypeDouble.ValueDouble>
     @ToString
     public static class ValueDouble extends ValueBase {
 
+        private static final ValueDouble ZERO = new ValueDouble(0D);
+        private static final ValueDouble ONE = new ValueDouble(1D);
+
         private final double value;
 
         private ValueDouble(double value) {
@@ -86,6 +89,12 @@ public class ValueTypeDouble extends ValueTypeBase<ValueTypeDouble.ValueDouble>
         }
 
         public static ValueDouble of(double value) {
+            // Negative zero is not shared, as it is not identical to zero.
+            if(value == 0D && Double.doubleToRawLongBits(value) == 0L) {
+                return ZERO;
+            } else if(value == 1D) {
+                return ONE;
+            }
             return new ValueDouble(value);
         }
 
@@ -97,6 +106,16 @@ public class ValueTypeDouble extends ValueTypeBase<ValueTypeDouble.ValueDouble>
         public boolean equals(Object o) {
             return o instanceof ValueDouble && ((ValueDouble) o).value == this.value;
         }
+
+        @Override
+        public int hashCode() {
+            // Zero and negative zero are equal, so they must have the same hash.
+            if(value == 0D) {
+                return 0;
+            }
+            long bits = Double.doubleToLongBits(value);
+            return (int) (bits ^ (bits >>> 32));
+        }
     }
 
 }
@@ -79,6 +79,15 @@ public class ValueTypeInteger extends ValueTypeBase<ValueTypeInteger.ValueIntege
     @ToString
     public static class ValueInteger extends ValueBase {
 
+        private static final int CACHE_LOW = -128;
+        private static final int CACHE_HIGH = 1024;
+        private static final ValueInteger[] CACHE = new ValueInteger[CACHE_HIGH - CACHE_LOW + 1];
+        static {
+            for(int i = 0; i < CACHE.length; i++) {
+                CACHE[i] = new ValueInteger(i + CACHE_LOW);
+            }
+        }
+
         private final int value;
 
         private ValueInteger(int value) {
@@ -87,6 +96,10 @@ public class ValueTypeInteger extends ValueTypeBase<ValueTypeInteger.ValueIntege
         }
 
         public static ValueInteger of(int value) {
+            // Small values, such as redstone levels, light levels and stack sizes, are shared.
+            if(value >= CACHE_LOW && value <= CACHE_HIGH) {
+                return CACHE[value - CACHE_LOW];
+            }
             return new ValueInteger(value);
         }
 
@@ -98,6 +111,11 @@ public class ValueTypeInteger extends ValueTypeBase<ValueTypeInteger.ValueIntege
         public boolean equals(Object o) {
             return o instanceof ValueInteger && ((ValueInteger) o).value == this.value;
         }
+
+        @Override
+        public int hashCode() {
+            return value;
+        }
     }
 
 }
@@ -1,6 +1,7 @@
 package org.cyclops.integrateddynamics.core.evaluate.variable;
 
 import com.google.common.collect.Iterables;
+import org.cyclops.integrateddynamics.api.evaluate.EvaluationException;
 import org.cyclops.integrateddynamics.api.evaluate.variable.IValue;
 import org.cyclops.integrateddynamics.api.evaluate.variable.IValueType;
 import org.cyclops.integrateddynamics.api.evaluate.variable.IValueTypeListProxy;
@@ -53,6 +54,46 @@ public abstract class ValueTypeListProxyBase<T extends IValueType<V>, V extends
         return sb.toString();
     }
 
+    /**
+     * Push all elements of this list to the given visitor, until it stops the traversal.
+     * Contrary to the iterator, errors while retrieving elements are thrown instead of replaced by default values.
+     * @param visitor The element visitor.
+     * @return If all elements were visited.
+     * @throws EvaluationException If something went wrong while retrieving or visiting an element.
+     */
+    public boolean visit(IListElementVisitor<V> visitor) throws EvaluationException {
+        int length = getLength();
+        for(int i = 0; i < length; i++) {
+            if(!visitor.visit(get(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Push all elements of the given list to the given visitor, until it stops the traversal.
+     * @param list The list.
+     * @param visitor The element visitor.
+     * @param <T> The value type type.
+     * @param <V> The value type.
+     * @return If all elements were visited.
+     * @throws EvaluationException If something went wrong while retrieving or visiting an element.
+     */
+    public static <T extends IValueType<V>, V extends IValue> boolean visit(IValueTypeListProxy<T, V> list,
+                                                                             IListElementVisitor<V> visitor) throws EvaluationException {
+        if(list instanceof ValueTypeListProxyBase) {
+            return ((ValueTypeListProxyBase<T, V>) list).visit(visitor);
+        }
+        int length = list.getLength();
+        for(int i = 0; i < length; i++) {
+            if(!visitor.visit(list.get(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     @Override
     public Iterator<V> iterator() {
         return new ValueTypeList.ListFactoryIterator<>(this);
@@ -72,4 +113,11 @@ public abstract class ValueTypeListProxyBase<T extends IValueType<V>, V extends
         Object[] o2 = Iterables.toArray(other, Object.class);
         return Arrays.equals(o, o2);
     }
+
+    @Override
+    public int hashCode() {
+        int result = getName().hashCode();
+        result = 31 * result + getValueType().hashCode();
+        return 31 * result + Arrays.hashCode(Iterables.toArray(this, Object.class));
+    }
 }
@@ -1,10 +1,12 @@
 package org.cyclops.integrateddynamics.core.evaluate.variable;
 
+import com.google.common.collect.Sets;
 import org.cyclops.integrateddynamics.api.evaluate.EvaluationException;
 import org.cyclops.integrateddynamics.api.evaluate.variable.IValue;
 import org.cyclops.integrateddynamics.api.evaluate.variable.IValueType;
 
 import java.util.List;
+import java.util.Set;
 
 /**
  * A list proxy for a list that is fully materialized already.
@@ -13,7 +15,14 @@ import java.util.List;
  */
 public class ValueTypeListProxyMaterialized<T extends IValueType<V>, V extends IValue> extends ValueTypeListProxyBase<T, V> {
 
+    /**
+     * Lists up to this length are scanned linearly for membership queries,
+     * longer lists build a hash index.
+     */
+    public static final int INDEX_THRESHOLD = 16;
+
     private final List<V> list;
+    private volatile Set<V> index = null;
 
     public ValueTypeListProxyMaterialized(T valueType, List<V> list) {
         super(ValueTypeListProxyFactories.MATERIALIZED.getName(), valueType);
@@ -29,4 +38,33 @@ public class ValueTypeListProxyMaterialized<T extends IValueType<V>, V extends I
     public V get(int index) throws EvaluationException {
         return list.get(index);
     }
+
+    @Override
+    public boolean visit(IListElementVisitor<V> visitor) throws EvaluationException {
+        for(V value : list) {
+            if(!visitor.visit(value)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Check if this list contains the given value.
+     * For long lists, a hash index is built on the first query and reused for all later queries,
+     * as the elements of a materialized list never change.
+     * @param value The value to look for.
+     * @return If an element of this list equals the given value.
+     */
+    public boolean contains(IValue value) {
+        if(list.size() <= INDEX_THRESHOLD) {
+            return list.contains(value);
+        }
+        Set<V> index = this.index;
+        if(index == null) {
+            index = Sets.newHashSet(list);
+            this.index = index;
+        }
+        return index.contains(value);
+    }
 }
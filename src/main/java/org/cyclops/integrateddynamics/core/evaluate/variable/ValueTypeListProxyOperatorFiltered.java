@@ -0,0 +1,98 @@
+package org.cyclops.integrateddynamics.core.evaluate.variable;
+
+import com.google.common.collect.Lists;
+import org.cyclops.cyclopscore.helper.L10NHelpers;
+import org.cyclops.integrateddynamics.api.evaluate.EvaluationException;
+import org.cyclops.integrateddynamics.api.evaluate.operator.IOperator;
+import org.cyclops.integrateddynamics.api.evaluate.variable.IValue;
+import org.cyclops.integrateddynamics.api.evaluate.variable.IValueType;
+import org.cyclops.integrateddynamics.api.evaluate.variable.IValueTypeListProxy;
+import org.cyclops.integrateddynamics.core.evaluate.operator.Operators;
+import org.cyclops.integrateddynamics.core.helper.L10NValues;
+
+import java.util.List;
+
+/**
+ * A list proxy for a list of which the elements are filtered by a predicate.
+ *
+ * Visits stream the elements of the underlying list through the predicate,
+ * and stop as soon as the visitor does not need any more elements.
+ * The filtered elements are remembered once the underlying list has been fully traversed,
+ * either by an indexed access or by a completed visit, and all later accesses use them,
+ * so that a single list value never shows two different views of an underlying list that changes.
+ */
+public class ValueTypeListProxyOperatorFiltered<T extends IValueType<V>, V extends IValue> extends ValueTypeListProxyBase<T, V> {
+
+    private final IOperator predicate;
+    private final IValueTypeListProxy<T, V> listProxy;
+
+    private List<V> filtered = null;
+
+    public ValueTypeListProxyOperatorFiltered(IOperator predicate, IValueTypeListProxy<T, V> listProxy) {
+        super(ValueTypeListProxyFactories.MATERIALIZED.getName(), listProxy.getValueType());
+        this.predicate = predicate;
+        this.listProxy = listProxy;
+    }
+
+    protected boolean test(V value) throws EvaluationException {
+        IValue result = ValueHelpers.evaluateOperator(predicate, value);
+        if (result.getType() != ValueTypes.BOOLEAN) {
+            L10NHelpers.UnlocalizedString error = new L10NHelpers.UnlocalizedString(
+                    L10NValues.VALUETYPE_ERROR_WRONGPREDICATE,
+                    Operators.OPERATOR_FILTER.getLocalizedNameFull(),
+                    result.getType(), ValueTypes.BOOLEAN);
+            throw new EvaluationException(error.localize());
+        }
+        return ((ValueTypeBoolean.ValueBoolean) result).getRawValue();
+    }
+
+    protected List<V> getFiltered() throws EvaluationException {
+        if(filtered == null) {
+            // A completed visit remembers the filtered elements.
+            visit(new IListElementVisitor<V>() {
+                @Override
+                public boolean visit(V value) throws EvaluationException {
+                    return true;
+                }
+            });
+        }
+        return filtered;
+    }
+
+    @Override
+    public int getLength() throws EvaluationException {
+        return getFiltered().size();
+    }
+
+    @Override
+    public V get(int index) throws EvaluationException {
+        return getFiltered().get(index);
+    }
+
+    @Override
+    public boolean visit(final IListElementVisitor<V> visitor) throws EvaluationException {
+        if(filtered != null) {
+            for(V value : filtered) {
+                if(!visitor.visit(value)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        final List<V> values = Lists.newArrayList();
+        boolean completed = ValueTypeListProxyBase.visit(listProxy, new IListElementVisitor<V>() {
+            @Override
+            public boolean visit(V value) throws EvaluationException {
+                if(!test(value)) {
+                    return true;
+                }
+                values.add(value);
+                return visitor.visit(value);
+            }
+        });
+        if(completed) {
+            filtered = values;
+        }
+        return completed;
+    }
+}
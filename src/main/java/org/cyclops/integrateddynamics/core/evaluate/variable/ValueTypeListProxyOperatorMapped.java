@@ -1,25 +1,66 @@
 package org.cyclops.integrateddynamics.core.evaluate.variable;
 
+import org.cyclops.integrateddynamics.GeneralConfig;
 import org.cyclops.integrateddynamics.api.evaluate.EvaluationException;
 import org.cyclops.integrateddynamics.api.evaluate.operator.IOperator;
 import org.cyclops.integrateddynamics.api.evaluate.variable.IValue;
 import org.cyclops.integrateddynamics.api.evaluate.variable.IValueType;
 import org.cyclops.integrateddynamics.api.evaluate.variable.IValueTypeListProxy;
+import org.cyclops.integrateddynamics.core.TickHandler;
+
+import java.util.Arrays;
 
 /**
  * A list proxy for a list that is mapped to another list by an operator.
+ *
+ * Mapped elements are remembered during the network tick in which they were first mapped,
+ * just like the values in the lazy expression value cache of a network,
+ * so that consumers of the same list within a tick do not map the same elements again.
+ * The memory only grows up to the highest index that was accessed,
+ * so that the length of the underlying list never has to be determined for it,
+ * and at most {@link GeneralConfig#mappedListCacheSize} elements are remembered.
  */
 public class ValueTypeListProxyOperatorMapped extends ValueTypeListProxyBase<IValueType<IValue>, IValue> {
 
+    private static final IValue[] EMPTY = new IValue[0];
+    private static final int MIN_CAPACITY = 16;
+
     private final IOperator operator;
     private final IValueTypeListProxy listProxy;
 
+    private IValue[] mapped = EMPTY;
+    private long mappedTick = -1;
+
     public ValueTypeListProxyOperatorMapped(IOperator operator, IValueTypeListProxy listProxy) {
         super(ValueTypeListProxyFactories.MATERIALIZED.getName(), operator.getOutputType());
         this.operator = operator;
         this.listProxy = listProxy;
     }
 
+    protected void checkTick() {
+        long tick = TickHandler.getInstance().getTick();
+        if(mappedTick != tick) {
+            mapped = EMPTY;
+            mappedTick = tick;
+        }
+    }
+
+    protected IValue map(int index, IValue value) throws EvaluationException {
+        int cacheSize = GeneralConfig.mappedListCacheSize;
+        if(index >= cacheSize) {
+            return ValueHelpers.evaluateOperator(operator, value);
+        }
+        if(index >= mapped.length) {
+            int capacity = Math.max(index + 1, Math.max(mapped.length * 2, MIN_CAPACITY));
+            mapped = Arrays.copyOf(mapped, Math.min(capacity, cacheSize));
+        }
+        IValue mappedValue = mapped[index];
+        if(mappedValue == null) {
+            mappedValue = mapped[index] = ValueHelpers.evaluateOperator(operator, value);
+        }
+        return mappedValue;
+    }
+
     @Override
     public int getLength() throws EvaluationException {
         return listProxy.getLength();
@@ -27,7 +68,23 @@ public class ValueTypeListProxyOperatorMapped extends ValueTypeListProxyBase<IVa
 
     @Override
     public IValue get(int index) throws EvaluationException {
-        IValue value = listProxy.get(index);
-        return ValueHelpers.evaluateOperator(operator, value);
+        checkTick();
+        if(index < mapped.length && mapped[index] != null) {
+            return mapped[index];
+        }
+        return map(index, listProxy.get(index));
+    }
+
+    @Override
+    public boolean visit(final IListElementVisitor<IValue> visitor) throws EvaluationException {
+        checkTick();
+        return ValueTypeListProxyBase.visit(listProxy, new IListElementVisitor<IValue>() {
+            private int index = 0;
+
+            @Override
+            public boolean visit(IValue value) throws EvaluationException {
+                return visitor.visit(map(index++, value));
+            }
+        });
     }
 }
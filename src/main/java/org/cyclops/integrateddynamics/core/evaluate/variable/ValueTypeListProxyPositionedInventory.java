@@ -6,6 +6,7 @@ import org.cyclops.cyclopscore.datastructure.DimPos;
 import org.cyclops.cyclopscore.helper.TileHelpers;
 import org.cyclops.cyclopscore.persist.nbt.INBTProvider;
 import org.cyclops.cyclopscore.persist.nbt.NBTPersist;
+import org.cyclops.integrateddynamics.api.evaluate.EvaluationException;
 
 /**
  * A list proxy for an inventory at a certain position.
@@ -42,6 +43,21 @@ public class ValueTypeListProxyPositionedInventory extends ValueTypeListProxyBas
         return ValueObjectTypeItemStack.ValueItemStack.of(getInventory().getStackInSlot(index));
     }
 
+    @Override
+    public boolean visit(IListElementVisitor<ValueObjectTypeItemStack.ValueItemStack> visitor) throws EvaluationException {
+        // Only look up the inventory once for the whole traversal.
+        IInventory inventory = getInventory();
+        if(inventory != null) {
+            int length = inventory.getSizeInventory();
+            for(int i = 0; i < length; i++) {
+                if(!visitor.visit(ValueObjectTypeItemStack.ValueItemStack.of(inventory.getStackInSlot(i)))) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
     @Override
     public void writeGeneratedFieldsToNBT(NBTTagCompound tag) {
 
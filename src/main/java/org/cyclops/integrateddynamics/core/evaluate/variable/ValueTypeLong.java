@@ -78,6 +78,15 @@ public class ValueTypeLong extends ValueTypeBase<ValueTypeLong.ValueLong> implem
     @ToString
     public static class ValueLong extends ValueBase {
 
+        private static final int CACHE_LOW = -128;
+        private static final int CACHE_HIGH = 127;
+        private static final ValueLong[] CACHE = new ValueLong[CACHE_HIGH - CACHE_LOW + 1];
+        static {
+            for(int i = 0; i < CACHE.length; i++) {
+                CACHE[i] = new ValueLong(i + CACHE_LOW);
+            }
+        }
+
         private final long value;
 
         private ValueLong(long value) {
@@ -86,6 +95,9 @@ public class ValueTypeLong extends ValueTypeBase<ValueTypeLong.ValueLong> implem
         }
 
         public static ValueLong of(long value) {
+            if(value >= CACHE_LOW && value <= CACHE_HIGH) {
+                return CACHE[(int) value - CACHE_LOW];
+            }
             return new ValueLong(value);
         }
 
@@ -97,6 +109,11 @@ public class ValueTypeLong extends ValueTypeBase<ValueTypeLong.ValueLong> implem
         public boolean equals(Object o) {
             return o instanceof ValueLong && ((ValueLong) o).value == this.value;
         }
+
+        @Override
+        public int hashCode() {
+            return (int) (value ^ (value >>> 32));
+        }
     }
 
 }
@@ -153,6 +153,11 @@ public class ValueTypeOperator extends ValueTypeBase<ValueTypeOperator.ValueOper
         public boolean equals(Object o) {
             return o instanceof ValueOperator && ((ValueOperator) o).value == this.value;
         }
+
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(value);
+        }
     }
 
 }
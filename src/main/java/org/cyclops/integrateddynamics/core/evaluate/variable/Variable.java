@@ -1,15 +1,17 @@
 package org.cyclops.integrateddynamics.core.evaluate.variable;
 
 import org.cyclops.integrateddynamics.api.evaluate.EvaluationException;
+import org.cyclops.integrateddynamics.api.evaluate.variable.IChangeTrackingVariable;
 import org.cyclops.integrateddynamics.api.evaluate.variable.IValue;
 import org.cyclops.integrateddynamics.api.evaluate.variable.IValueType;
-import org.cyclops.integrateddynamics.api.evaluate.variable.IVariable;
+import org.cyclops.integrateddynamics.api.evaluate.variable.IVariableInvalidateListener;
 
 /**
  * A default variable implementation.
+ * Its value never changes, so it never has to notify listeners.
  * @author rubensworks
  */
-public class Variable<V extends IValue> implements IVariable<V> {
+public class Variable<V extends IValue> implements IChangeTrackingVariable<V> {
 
     private final IValueType<V> type;
     private final V value;
@@ -28,4 +30,14 @@ public class Variable<V extends IValue> implements IVariable<V> {
     public V getValue() throws EvaluationException {
         return value;
     }
+
+    @Override
+    public boolean isChangeTracked() {
+        return true;
+    }
+
+    @Override
+    public void addInvalidationListener(IVariableInvalidateListener listener) {
+
+    }
 }
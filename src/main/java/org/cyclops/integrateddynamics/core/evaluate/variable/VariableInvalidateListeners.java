@@ -0,0 +1,41 @@
+package org.cyclops.integrateddynamics.core.evaluate.variable;
+
+import com.google.common.collect.MapMaker;
+import org.cyclops.integrateddynamics.api.evaluate.variable.IVariableInvalidateListener;
+
+import java.util.Collections;
+import java.util.Set;
+
+/**
+ * A weakly held set of invalidation listeners of a variable.
+ * @author rubensworks
+ */
+public class VariableInvalidateListeners {
+
+    private final Set<IVariableInvalidateListener> listeners =
+            Collections.newSetFromMap(new MapMaker().weakKeys().<IVariableInvalidateListener, Boolean>makeMap());
+
+    /**
+     * @param listener The listener to add.
+     */
+    public void add(IVariableInvalidateListener listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * @return If there are no listeners.
+     */
+    public boolean isEmpty() {
+        return listeners.isEmpty();
+    }
+
+    /**
+     * Notify all listeners of a value change.
+     */
+    public void invalidate() {
+        for(IVariableInvalidateListener listener : listeners) {
+            listener.invalidate();
+        }
+    }
+
+}
@@ -47,6 +47,8 @@ public class AspectVariableFacade extends VariableFacadeBase implements IAspectV
     @Override
     public <V extends IValue> IVariable<V> getVariable(IPartNetwork network) {
         if(isValid() && getAspect() instanceof IAspectRead && network.hasPartVariable(getPartId(), (IAspectRead<IValue, ?>) getAspect())) {
+            // Renew the reference, so that the part keeps this variable up to date.
+            network.addPartVariableReference(getPartId(), (IAspectRead) getAspect(), getId());
             return network.getPartVariable(getPartId(), (IAspectRead) getAspect());
         }
         return null;
@@ -69,6 +71,8 @@ public class AspectVariableFacade extends VariableFacadeBase implements IAspectV
             validator.addError(new L10NHelpers.UnlocalizedString(L10NValues.ASPECT_ERROR_INVALIDTYPE,
                     new L10NHelpers.UnlocalizedString(containingValueType.getUnlocalizedName()),
                     new L10NHelpers.UnlocalizedString(getAspect().getValueType().getUnlocalizedName())));
+        } else {
+            network.addPartVariableReference(getPartId(), (IAspectRead) getAspect(), getId());
         }
     }
 
@@ -19,7 +19,7 @@ import org.cyclops.integrateddynamics.api.item.IOperatorVariableFacade;
 import org.cyclops.integrateddynamics.api.item.IVariableFacade;
 import org.cyclops.integrateddynamics.api.network.IPartNetwork;
 import org.cyclops.integrateddynamics.core.client.model.VariableModelProviders;
-import org.cyclops.integrateddynamics.core.evaluate.expression.LazyExpression;
+import org.cyclops.integrateddynamics.core.evaluate.expression.ConstantFolding;
 import org.cyclops.integrateddynamics.core.evaluate.variable.ValueHelpers;
 import org.cyclops.integrateddynamics.core.helper.L10NValues;
 
@@ -36,6 +36,7 @@ public class OperatorVariableFacade extends VariableFacadeBase implements IOpera
     private final IOperator operator;
     private final int[] variableIds;
     private IExpression expression = null;
+    private IVariable constant = null;
     private int lastNetworkHash = -1;
 
     public OperatorVariableFacade(boolean generateId, IOperator operator, int[] variableIds) {
@@ -54,7 +55,8 @@ public class OperatorVariableFacade extends VariableFacadeBase implements IOpera
     public <V extends IValue> IVariable<V> getVariable(IPartNetwork network) {
         if(isValid()) {
             int newNetworkHash = network != null ? network.hashCode() : -1;
-            if(expression == null || expression.hasErrored() || newNetworkHash != this.lastNetworkHash) {
+            if((expression == null && constant == null) || (expression != null && expression.hasErrored())
+                    || newNetworkHash != this.lastNetworkHash) {
                 this.lastNetworkHash = newNetworkHash;
                 IVariable[] variables = new IVariable[variableIds.length];
                 for (int i = 0; i < variableIds.length; i++) {
@@ -71,9 +73,11 @@ public class OperatorVariableFacade extends VariableFacadeBase implements IOpera
                         return null;
                     }
                 }
-                expression = new LazyExpression(getId(), operator, variables, network);
+                // Constant subtrees are evaluated once here, instead of every tick as an expression.
+                constant = ConstantFolding.fold(operator, variables);
+                expression = constant == null ? network.getExpression(getId(), operator, variables) : null;
             }
-            return expression;
+            return constant != null ? constant : expression;
         }
         return null;
     }
@@ -1,6 +1,6 @@
 package org.cyclops.integrateddynamics.core.network;
 
-import com.google.common.collect.Maps;
+import com.google.common.collect.Lists;
 import com.google.common.collect.Sets;
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.util.math.BlockPos;
@@ -21,8 +21,9 @@ import org.cyclops.integrateddynamics.core.path.Cluster;
 import org.cyclops.integrateddynamics.core.persist.world.NetworkWorldStorage;
 
 import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
 import java.util.Set;
-import java.util.TreeMap;
 import java.util.TreeSet;
 
 /**
@@ -37,8 +38,10 @@ public class Network<N extends INetwork<N>> implements INetwork<N> {
 
     private final INetworkEventBus<N> eventBus = new NetworkEventBus<>();
     private final TreeSet<INetworkElement<N>> elements = Sets.newTreeSet();
-    private TreeSet<INetworkElement<N>> updateableElements = null;
-    private TreeMap<INetworkElement<N>, Integer> updateableElementsTicks = null;
+    private TimingWheel<INetworkElement<N>> updateableElements = null;
+    // Ordered, and removals of elements happen in constant time.
+    private final Set<INetworkElement<N>> pendingUpdates = Sets.newLinkedHashSet();
+    private long deferredUpdates = 0;
 
     private volatile boolean killed = false;
 
@@ -62,7 +65,7 @@ public class Network<N extends INetwork<N>> implements INetwork<N> {
     public Network(Cluster<ICablePathElement> cables) {
         this.baseCluster = cables;
         onConstruct();
-        deriveNetworkElements(baseCluster);
+        deriveNetworkElements(baseCluster, true);
     }
 
     protected void onConstruct() {
@@ -73,7 +76,8 @@ public class Network<N extends INetwork<N>> implements INetwork<N> {
         return (N) this;
     }
 
-    private void deriveNetworkElements(Cluster<ICablePathElement> cables) {
+    private List<INetworkElement<N>> deriveNetworkElements(Iterable<ICablePathElement> cables, boolean networkPreinit) {
+        List<INetworkElement<N>> addedElements = Lists.newArrayList();
         if(!killIfEmpty()) {
             for (ICablePathElement cable : cables) {
                 World world = cable.getPosition().getWorld();
@@ -81,7 +85,9 @@ public class Network<N extends INetwork<N>> implements INetwork<N> {
                 INetworkElementProvider networkElementProvider = CableHelpers.getInterface(world, pos, INetworkElementProvider.class);
                 if (networkElementProvider != null) {
                     for(INetworkElement<N> element : ((INetworkElementProvider<N>) networkElementProvider).createNetworkElements(world, pos)) {
-                        addNetworkElement(element, true);
+                        if(addNetworkElement(element, networkPreinit)) {
+                            addedElements.add(element);
+                        }
                     }
                 }
                 INetworkCarrier<N> networkCarrier = CableHelpers.getInterface(world, pos, INetworkCarrier.class);
@@ -97,6 +103,82 @@ public class Network<N extends INetwork<N>> implements INetwork<N> {
                 }
             }
         }
+        return addedElements;
+    }
+
+    /**
+     * Notify the given elements that were added to this already alive network.
+     * @param elements The added elements.
+     */
+    protected void onElementsAlive(Collection<INetworkElement<N>> elements) {
+        for(INetworkElement<N> element : elements) {
+            element.afterNetworkAlive(getMaterializedThis());
+            element.afterNetworkReAlive(getMaterializedThis());
+        }
+    }
+
+    /**
+     * @return The number of cables in this network.
+     */
+    public int getCablesCount() {
+        return baseCluster.size();
+    }
+
+    /**
+     * Add a single cable to this alive network.
+     * Only the network elements of the given cable are derived, the other cables in this network are left untouched.
+     * @param cable The cable to add.
+     * @return If the cable was added, false if it was already present.
+     */
+    public boolean addCable(ICablePathElement cable) {
+        if(!baseCluster.add(cable)) {
+            return false;
+        }
+        onElementsAlive(deriveNetworkElements(Collections.singleton(cable), false));
+        return true;
+    }
+
+    /**
+     * Move all cables and network elements of the given network into this alive network.
+     * The network elements are moved as-is, they are not derived again from their cables.
+     * The given network is killed afterwards.
+     * @param network The network to merge into this one, preferably the smaller of the two.
+     */
+    public void merge(Network<N> network) {
+        if(network == this) {
+            return;
+        }
+        List<INetworkElement<N>> movedElements = Lists.newArrayList(network.elements);
+        for(INetworkElement<N> element : movedElements) {
+            network.removeNetworkElementPost(element);
+        }
+        List<ICablePathElement> movedCables = Lists.newArrayList(network.baseCluster);
+        network.baseCluster.clear();
+        baseCluster.addAll(movedCables);
+        if(network.baseCluster.hasUnloadedPositions()) {
+            baseCluster.addUnloadedPositions(network.baseCluster);
+            NetworkChunkLoader.getInstance().register(this);
+        }
+
+        List<INetworkElement<N>> addedElements = Lists.newArrayList();
+        for(INetworkElement<N> element : movedElements) {
+            if(addNetworkElement(element, false)) {
+                addedElements.add(element);
+            }
+        }
+        for(ICablePathElement cable : movedCables) {
+            World world = cable.getPosition().getWorld();
+            BlockPos pos = cable.getPosition().getBlockPos();
+            INetworkCarrier<N> networkCarrier = CableHelpers.getInterface(world, pos, INetworkCarrier.class);
+            if (networkCarrier != null) {
+                networkCarrier.resetCurrentNetwork(world, pos);
+                networkCarrier.setNetwork(getMaterializedThis(), world, pos);
+            }
+        }
+
+        network.kill();
+        NetworkWorldStorage.getInstance(IntegratedDynamics._instance).removeInvalidatedNetwork(network);
+        onElementsAlive(addedElements);
     }
 
     @Override
@@ -137,8 +219,37 @@ public class Network<N extends INetwork<N>> implements INetwork<N> {
     @Override
     public void fromNBT(NBTTagCompound tag) {
         this.baseCluster.fromNBT(tag.getCompoundTag("baseCluster"));
-        deriveNetworkElements(baseCluster);
+        deriveNetworkElements(baseCluster, true);
         initialize(true);
+        if(hasUnloadedCables()) {
+            NetworkChunkLoader.getInstance().register(this);
+        }
+    }
+
+    /**
+     * @return If this network has cables in chunks that were not loaded yet since this network was restored.
+     */
+    public boolean hasUnloadedCables() {
+        return baseCluster.hasUnloadedPositions();
+    }
+
+    /**
+     * Materialize the cables of this network in the given chunk that were not loaded yet
+     * when this network was restored.
+     * The network elements of these cables are added silently, as if they were restored with this network.
+     * @param world The world of the chunk.
+     * @param chunkX The chunk x coordinate.
+     * @param chunkZ The chunk z coordinate.
+     * @return If this network still has cables in unloaded chunks.
+     */
+    public boolean onChunkLoaded(World world, int chunkX, int chunkZ) {
+        List<ICablePathElement> cables = baseCluster.loadPositions(world, chunkX, chunkZ);
+        if(!cables.isEmpty()) {
+            for(INetworkElement<N> element : deriveNetworkElements(cables, false)) {
+                element.afterNetworkReAlive(getMaterializedThis());
+            }
+        }
+        return hasUnloadedCables();
     }
 
     @Override
@@ -170,8 +281,7 @@ public class Network<N extends INetwork<N>> implements INetwork<N> {
     @Override
     public void addNetworkElementUpdateable(INetworkElement<N> element) {
         if(element.isUpdate()) {
-            updateableElements.add(element);
-            updateableElementsTicks.put(element, 0);
+            updateableElements.add(element, 0);
         }
     }
 
@@ -199,7 +309,7 @@ public class Network<N extends INetwork<N>> implements INetwork<N> {
     @Override
     public void removeNetworkElementUpdateable(INetworkElement element) {
         updateableElements.remove(element);
-        updateableElementsTicks.remove(element);
+        pendingUpdates.remove(element);
     }
 
     /**
@@ -207,8 +317,8 @@ public class Network<N extends INetwork<N>> implements INetwork<N> {
      * @param silent If the element should not be notified for the network becoming alive.
      */
     protected void initialize(boolean silent) {
-        updateableElements = Sets.newTreeSet();
-        updateableElementsTicks = Maps.newTreeMap();
+        updateableElements = new TimingWheel<>();
+        pendingUpdates.clear();
         for(INetworkElement<N> element : elements) {
             addNetworkElementUpdateable(element);
             if(!silent) {
@@ -226,15 +336,32 @@ public class Network<N extends INetwork<N>> implements INetwork<N> {
         killed = true;
     }
 
+    /**
+     * @return If this network was killed.
+     */
+    public boolean isKilled() {
+        return killed;
+    }
+
     @Override
     public boolean killIfEmpty() {
-        if(baseCluster.isEmpty()) {
+        if(baseCluster.isEmpty() && !baseCluster.hasUnloadedPositions()) {
             kill();
             return true;
         }
         return false;
     }
 
+    /**
+     * Check if the given element is in a loaded chunk.
+     * Elements that are not loaded are not updated, so that they do not cause chunk loads.
+     * @param element The element.
+     * @return If the element is loaded.
+     */
+    protected boolean isLoaded(INetworkElement<N> element) {
+        return true;
+    }
+
     protected boolean canUpdate(INetworkElement<N> element) {
         return true;
     }
@@ -246,6 +373,8 @@ public class Network<N extends INetwork<N>> implements INetwork<N> {
     /**
      * When the given element is not being updated because {@link Network#canUpdate(INetworkElement)}
      * returned false.
+     * This is only checked for elements that are due, and an element that was skipped is retried on each tick
+     * until it can be updated again.
      * @param element The element that is not being updated.
      */
     protected void onSkipUpdate(INetworkElement<N> element) {
@@ -254,25 +383,60 @@ public class Network<N extends INetwork<N>> implements INetwork<N> {
 
     @Override
     public final void update() {
+        update(0);
+    }
+
+    @Override
+    public final boolean update(long budget) {
         if(killIfEmpty() || killed) {
             NetworkWorldStorage.getInstance(IntegratedDynamics._instance).removeInvalidatedNetwork(this);
         } else {
+            long deadline = budget > 0 ? System.nanoTime() + budget : Long.MAX_VALUE;
             onUpdate();
 
-            // Update updateable network elements
-            for (INetworkElement<N> element : updateableElements) {
-                if (canUpdate(element)) {
-                    if(updateableElementsTicks.get(element) <= 0) {
-                        updateableElementsTicks.put(element, element.getUpdateInterval());
-                        element.update(getMaterializedThis());
-                        postUpdate(element);
-                    }
+            // Queue the network elements that are due in this tick after the ones that were deferred before.
+            List<INetworkElement<N>> due = updateableElements.advance();
+
+            pendingUpdates.addAll(due);
+
+            // Update the queued elements as long as the budget allows it.
+            // Elements that can not be updated are retried in the next tick.
+            // At least one element is updated per call, so that a network always makes progress.
+            // A new iterator is taken for each element, since updates may remove other elements from the queue.
+            while(!pendingUpdates.isEmpty()) {
+                INetworkElement<N> element = pendingUpdates.iterator().next();
+                pendingUpdates.remove(element);
+                if (!updateableElements.contains(element)) {
+                    continue; // The element was removed by an earlier update in this tick.
+                }
+                if (!isLoaded(element)) {
+                    // Suspended until its chunk is loaded again.
+                    updateableElements.reschedule(element, 1);
+                } else if (canUpdate(element)) {
+                    updateableElements.reschedule(element, element.getUpdateInterval());
+                    element.update(getMaterializedThis());
+                    postUpdate(element);
                 } else {
                     onSkipUpdate(element);
+                    updateableElements.reschedule(element, 1);
+                }
+                if(budget > 0 && !pendingUpdates.isEmpty() && System.nanoTime() >= deadline) {
+                    deferredUpdates++;
+                    return false;
                 }
-                updateableElementsTicks.put(element, updateableElementsTicks.get(element) - 1);
             }
         }
+        return true;
+    }
+
+    @Override
+    public void onUpdateDeferred() {
+        deferredUpdates++;
+    }
+
+    @Override
+    public long getDeferredUpdates() {
+        return deferredUpdates;
     }
 
     protected void onUpdate() {
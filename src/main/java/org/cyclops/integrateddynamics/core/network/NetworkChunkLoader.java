@@ -0,0 +1,85 @@
+package org.cyclops.integrateddynamics.core.network;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Sets;
+import net.minecraft.world.World;
+import net.minecraft.world.chunk.Chunk;
+import net.minecraftforge.event.world.ChunkEvent;
+import net.minecraftforge.fml.common.eventhandler.SubscribeEvent;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Materializes the cables of restored networks once the chunks they are in are loaded.
+ *
+ * Networks that were restored with cables in unloaded chunks register themselves here.
+ * Chunk loads are queued, and are handled at the end of the server tick,
+ * so that tile entities are never queried while a chunk is still being loaded.
+ * Chunk loads are queued even if no network is registered yet,
+ * so that networks that are restored later in the same tick still receive them.
+ * @author rubensworks
+ */
+public final class NetworkChunkLoader {
+
+    private static NetworkChunkLoader INSTANCE;
+
+    private final Set<Network<?>> networks = Sets.newIdentityHashSet();
+    private final List<Chunk> loadedChunks = Lists.newArrayList();
+
+    private NetworkChunkLoader() {
+
+    }
+
+    public static NetworkChunkLoader getInstance() {
+        if(INSTANCE == null) {
+            INSTANCE = new NetworkChunkLoader();
+        }
+        return INSTANCE;
+    }
+
+    /**
+     * Register a network that has cables in unloaded chunks.
+     * @param network The network.
+     */
+    public synchronized void register(Network<?> network) {
+        networks.add(network);
+    }
+
+    @SubscribeEvent
+    public synchronized void onChunkLoad(ChunkEvent.Load event) {
+        World world = event.getWorld();
+        if(!world.isRemote) {
+            loadedChunks.add(event.getChunk());
+        }
+    }
+
+    /**
+     * Materialize the cables of the registered networks in the chunks that were loaded since the last call.
+     */
+    public synchronized void flush() {
+        if(loadedChunks.isEmpty() || networks.isEmpty()) {
+            loadedChunks.clear();
+            return;
+        }
+        for(Chunk chunk : loadedChunks) {
+            for(Iterator<Network<?>> it = networks.iterator(); it.hasNext();) {
+                Network<?> network = it.next();
+                if(network.isKilled() || !network.onChunkLoaded(chunk.getWorld(), chunk.xPosition, chunk.zPosition)) {
+                    it.remove();
+                }
+            }
+        }
+        loadedChunks.clear();
+    }
+
+    /**
+     * Forget all registered networks and loaded chunks.
+     */
+    public synchronized void reset() {
+        networks.clear();
+        loadedChunks.clear();
+    }
+
+}
@@ -0,0 +1,127 @@
+package org.cyclops.integrateddynamics.core.network;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Sets;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
+import org.cyclops.cyclopscore.datastructure.DimPos;
+import org.cyclops.integrateddynamics.api.block.cable.ICableFakeable;
+import org.cyclops.integrateddynamics.api.block.cable.ICableNetwork;
+import org.cyclops.integrateddynamics.api.network.IPartNetwork;
+import org.cyclops.integrateddynamics.api.path.ICablePathElement;
+import org.cyclops.integrateddynamics.core.helper.CableHelpers;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Records cable additions and removals during a tick, so that the affected networks are only updated once,
+ * at the end of the tick.
+ *
+ * Until the journal is flushed, removed cables and their network elements are already removed from their network,
+ * but networks are not yet split, and added cables are not part of any network yet.
+ * This means that part lookups in the meantime still resolve against the existing networks.
+ * @author rubensworks
+ */
+public final class NetworkTopologyJournal {
+
+    private static final Set<DimPos> ADDITIONS = Sets.newLinkedHashSet();
+    private static final Set<DimPos> REMOVALS = Sets.newLinkedHashSet();
+
+    private NetworkTopologyJournal() {
+
+    }
+
+    /**
+     * Record that a cable was placed at the given position.
+     * @param world The world.
+     * @param pos The position.
+     */
+    public static void recordAddition(World world, BlockPos pos) {
+        DimPos dimPos = DimPos.of(world, pos);
+        // A cable that is placed again after its removal in the same tick reconnects its neighbours,
+        // so these must not be split anymore.
+        REMOVALS.remove(dimPos);
+        ADDITIONS.add(dimPos);
+    }
+
+    /**
+     * Record that a cable was removed from the given position.
+     * @param world The world.
+     * @param pos The position.
+     */
+    public static void recordRemoval(World world, BlockPos pos) {
+        DimPos dimPos = DimPos.of(world, pos);
+        ADDITIONS.remove(dimPos);
+        REMOVALS.add(dimPos);
+    }
+
+    /**
+     * @return If there are recorded changes that were not flushed yet.
+     */
+    public static boolean hasChanges() {
+        return !ADDITIONS.isEmpty() || !REMOVALS.isEmpty();
+    }
+
+    /**
+     * @return The positions of the added cables that were not flushed yet.
+     */
+    public static Set<DimPos> getAdditions() {
+        return Collections.unmodifiableSet(ADDITIONS);
+    }
+
+    /**
+     * @return The positions of the removed cables that were not flushed yet.
+     */
+    public static Set<DimPos> getRemovals() {
+        return Collections.unmodifiableSet(REMOVALS);
+    }
+
+    /**
+     * Update all networks that are affected by the recorded changes, and clear the journal.
+     * Added cables are attached first, so that networks are never split while cables that may reconnect them
+     * are still pending.
+     */
+    public static void flush() {
+        if(!hasChanges()) {
+            return;
+        }
+
+        // Take the changes out of the journal first, as updating networks may cause new changes.
+        List<DimPos> additions = Lists.newArrayList(ADDITIONS);
+        List<DimPos> removals = Lists.newArrayList(REMOVALS);
+        ADDITIONS.clear();
+        REMOVALS.clear();
+
+        Set<DimPos> pending = Sets.newHashSet(additions);
+        Set<IPartNetwork> attachedNetworks = Sets.newIdentityHashSet();
+        for(DimPos dimPos : additions) {
+            pending.remove(dimPos);
+            World world = dimPos.getWorld();
+            BlockPos pos = dimPos.getBlockPos();
+            ICableNetwork<IPartNetwork, ICablePathElement> cable = CableHelpers.getInterface(world, pos, ICableNetwork.class);
+            if(cable != null && (!(cable instanceof ICableFakeable) || ((ICableFakeable) cable).isRealCable(world, pos))) {
+                // Cables that were already reached by a full network setup in this flush are skipped,
+                // all others are attached in the same way as without coalescing.
+                IPartNetwork network = cable.getNetwork(world, pos);
+                if(network == null || !attachedNetworks.contains(network)) {
+                    attachedNetworks.add(PartNetwork.attachNetworkSetup(cable, world, pos, pending));
+                }
+            }
+        }
+
+        if(!removals.isEmpty()) {
+            PartNetwork.detachNetworkSetup(removals);
+        }
+    }
+
+    /**
+     * Forget all recorded changes.
+     */
+    public static void reset() {
+        ADDITIONS.clear();
+        REMOVALS.clear();
+    }
+
+}
@@ -0,0 +1,126 @@
+package org.cyclops.integrateddynamics.core.network;
+
+import com.google.common.collect.Lists;
+import org.apache.logging.log4j.Level;
+import org.cyclops.integrateddynamics.GeneralConfig;
+import org.cyclops.integrateddynamics.IntegratedDynamics;
+import org.cyclops.integrateddynamics.api.network.INetwork;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+/**
+ * Updates independent networks concurrently on a bounded fork-join pool.
+ *
+ * While a network is being updated in parallel, world mutations must be passed to {@link #mutate(Runnable)}.
+ * These mutations are queued per network and are applied on the server thread once all networks are updated,
+ * in the order of the networks and in the order the mutations were queued.
+ * Outside of a parallel update, {@link #mutate(Runnable)} simply runs the mutation immediately.
+ * @author rubensworks
+ */
+public final class ParallelNetworkUpdater {
+
+    private static final ThreadLocal<List<Runnable>> MUTATIONS = new ThreadLocal<>();
+
+    private static ForkJoinPool POOL = null;
+
+    private ParallelNetworkUpdater() {
+
+    }
+
+    /**
+     * @return If the current thread is updating a network in parallel.
+     */
+    public static boolean isParallel() {
+        return MUTATIONS.get() != null;
+    }
+
+    /**
+     * Apply a world mutation.
+     * If this is called during a parallel network update, the mutation is queued until the commit phase,
+     * otherwise it is applied immediately.
+     * @param mutation The world mutation.
+     */
+    public static void mutate(Runnable mutation) {
+        List<Runnable> mutations = MUTATIONS.get();
+        if(mutations != null) {
+            mutations.add(mutation);
+        } else {
+            mutation.run();
+        }
+    }
+
+    protected static synchronized ForkJoinPool getPool() {
+        int parallelism = Math.max(1, Math.min(GeneralConfig.parallelNetworkThreads, Runtime.getRuntime().availableProcessors()));
+        if(POOL == null || POOL.getParallelism() != parallelism) {
+            if(POOL != null) {
+                POOL.shutdown();
+            }
+            POOL = new ForkJoinPool(parallelism);
+        }
+        return POOL;
+    }
+
+    /**
+     * Update the given networks in parallel and apply their queued world mutations afterwards.
+     * This must be called from the server thread.
+     * @param networks The networks to update, in the order their mutations must be applied.
+     * @param budget The update budget for each network in nanoseconds, zero or less means no limit.
+     */
+    public static void update(List<INetwork<?>> networks, final long budget) {
+        List<Callable<List<Runnable>>> tasks = Lists.newArrayListWithExpectedSize(networks.size());
+        for(final INetwork<?> network : networks) {
+            tasks.add(new Callable<List<Runnable>>() {
+                @Override
+                public List<Runnable> call() throws Exception {
+                    // A worker that joins a forked task may run another network update nested in this one,
+                    // so the mutations of the outer update are restored afterwards.
+                    List<Runnable> previousMutations = MUTATIONS.get();
+                    List<Runnable> mutations = Lists.newArrayList();
+                    MUTATIONS.set(mutations);
+                    try {
+                        network.update(budget);
+                    } finally {
+                        if(previousMutations == null) {
+                            MUTATIONS.remove();
+                        } else {
+                            MUTATIONS.set(previousMutations);
+                        }
+                    }
+                    return mutations;
+                }
+            });
+        }
+
+        List<Future<List<Runnable>>> futures;
+        try {
+            futures = getPool().invokeAll(tasks);
+        } catch (InterruptedException e) {
+            IntegratedDynamics.clog(Level.ERROR, "The parallel network update was interrupted: " + e.getMessage());
+            return;
+        }
+
+        // Commit phase: apply the mutations on this thread in a deterministic order.
+        for(Future<List<Runnable>> future : futures) {
+            List<Runnable> mutations;
+            try {
+                mutations = future.get();
+            } catch (InterruptedException | ExecutionException e) {
+                Throwable cause = e instanceof ExecutionException && e.getCause() != null ? e.getCause() : e;
+                IntegratedDynamics.clog(Level.ERROR, "A network failed to update in parallel: " + cause);
+                for(StackTraceElement element : cause.getStackTrace()) {
+                    IntegratedDynamics.clog(Level.ERROR, "    at " + element);
+                }
+                mutations = Collections.emptyList();
+            }
+            for(Runnable mutation : mutations) {
+                mutation.run();
+            }
+        }
+    }
+
+}
@@ -1,11 +1,12 @@
 package org.cyclops.integrateddynamics.core.network;
 
-import com.google.common.base.Function;
+import com.google.common.base.Supplier;
 import com.google.common.collect.ImmutableList;
-import com.google.common.collect.Iterables;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
 import net.minecraft.block.Block;
+import net.minecraft.util.EnumFacing;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.world.World;
 import org.apache.logging.log4j.Level;
@@ -17,6 +18,9 @@ import org.cyclops.integrateddynamics.api.block.IEnergyBattery;
 import org.cyclops.integrateddynamics.api.block.IEnergyBatteryFacade;
 import org.cyclops.integrateddynamics.api.block.IVariableContainerFacade;
 import org.cyclops.integrateddynamics.api.block.cable.ICable;
+import org.cyclops.integrateddynamics.api.block.cable.ICableNetwork;
+import org.cyclops.integrateddynamics.api.evaluate.expression.IExpression;
+import org.cyclops.integrateddynamics.api.evaluate.operator.IOperator;
 import org.cyclops.integrateddynamics.api.evaluate.variable.IValue;
 import org.cyclops.integrateddynamics.api.evaluate.variable.IVariable;
 import org.cyclops.integrateddynamics.api.item.IVariableFacade;
@@ -26,16 +30,20 @@ import org.cyclops.integrateddynamics.api.part.aspect.IAspectRead;
 import org.cyclops.integrateddynamics.api.part.read.IPartStateReader;
 import org.cyclops.integrateddynamics.api.part.read.IPartTypeReader;
 import org.cyclops.integrateddynamics.api.path.ICablePathElement;
+import org.cyclops.integrateddynamics.core.evaluate.expression.SharedExpressionCache;
+import org.cyclops.integrateddynamics.core.helper.CableHelpers;
 import org.cyclops.integrateddynamics.core.path.Cluster;
 import org.cyclops.integrateddynamics.core.path.PathFinder;
 import org.cyclops.integrateddynamics.core.persist.world.NetworkWorldStorage;
 import org.cyclops.integrateddynamics.core.tileentity.TileMultipartTicking;
 
 import javax.annotation.Nullable;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 /**
  * A network that can hold parts.
@@ -47,7 +55,12 @@ public class PartNetwork extends Network<IPartNetwork> implements IPartNetwork,
     private Map<Integer, PartPos> partPositions;
     private List<DimPos> variableContainerPositions;
     private Map<Integer, IVariableFacade> compositeVariableCache;
+    private boolean variableCacheIncomplete;
+    private VariableDependencyGraph variableDependencyGraph;
     private Map<Integer, IValue> lazyExpressionValueCache;
+    private SharedExpressionCache sharedExpressionCache;
+    private long expressionCacheHits;
+    private long expressionCacheMisses;
     private Map<DimPos, IEnergyBatteryFacade> energyBatteryPositions;
     private Map<Integer, DimPos> proxyPositions;
 
@@ -79,7 +92,17 @@ public class PartNetwork extends Network<IPartNetwork> implements IPartNetwork,
         partPositions = Maps.newHashMap();
         variableContainerPositions = Lists.newArrayList();
         compositeVariableCache = null;
+        variableCacheIncomplete = false;
+        variableDependencyGraph = new VariableDependencyGraph(new Supplier<Map<Integer, IVariableFacade>>() {
+            @Override
+            public Map<Integer, IVariableFacade> get() {
+                return getVariableCache();
+            }
+        });
         lazyExpressionValueCache = Maps.newHashMap();
+        sharedExpressionCache = new SharedExpressionCache(this);
+        expressionCacheHits = 0;
+        expressionCacheMisses = 0;
         energyBatteryPositions = Maps.newHashMap();
         proxyPositions = Maps.newHashMap();
     }
@@ -142,14 +165,25 @@ public class PartNetwork extends Network<IPartNetwork> implements IPartNetwork,
         return ((IPartStateReader) getPartState(partId)).getVariable(aspect);
     }
 
+    @Override
+    public void addPartVariableReference(int partId, IAspectRead<?, ?> aspect, Object reference) {
+        ((IPartStateReader) getPartState(partId)).addVariableReference(aspect, reference);
+    }
+
     protected Map<Integer, IVariableFacade> getVariableCache() {
         if(compositeVariableCache == null) {
             // Create a new composite map view on the existing variable containers in this network.
             CompositeMap<Integer, IVariableFacade> compositeMap = new CompositeMap<>();
+            variableCacheIncomplete = false;
             for(Iterator<DimPos> it = variableContainerPositions.iterator(); it.hasNext();) {
                 DimPos dimPos = it.next();
                 World world = dimPos.getWorld();
                 BlockPos pos = dimPos.getBlockPos();
+                if(!world.isBlockLoaded(pos)) {
+                    // Skipped without loading its chunk, the cache is rebuilt in the next tick.
+                    variableCacheIncomplete = true;
+                    continue;
+                }
                 Block block = world.getBlockState(pos).getBlock();
                 if(block instanceof IVariableContainerFacade) {
                     compositeMap.addElement(((IVariableContainerFacade) block).getVariableContainer(world, pos).getVariableCache());
@@ -173,8 +207,50 @@ public class PartNetwork extends Network<IPartNetwork> implements IPartNetwork,
         return getVariableCache().get(variableId);
     }
 
+    @Override
+    public IVariableDependencyGraph getVariableDependencyGraph() {
+        return variableDependencyGraph;
+    }
+
+    @Override
+    public <V extends IValue> IExpression<V> getExpression(int id, IOperator operator, IVariable[] input) {
+        return sharedExpressionCache.getExpression(id, operator, input);
+    }
+
+    @Override
+    public long getExpressionCacheHits() {
+        return expressionCacheHits;
+    }
+
+    @Override
+    public long getExpressionCacheMisses() {
+        return expressionCacheMisses;
+    }
+
+    /**
+     * @return The number of bound expressions that are shared in this network.
+     */
+    public int getSharedExpressions() {
+        return sharedExpressionCache.size();
+    }
+
+    /**
+     * @return The number of times a facade reused an expression that was shared in this network.
+     */
+    public long getSharedExpressionHits() {
+        return sharedExpressionCache.getHits();
+    }
+
+    /**
+     * @return The number of times a new shared expression was created in this network.
+     */
+    public long getSharedExpressionMisses() {
+        return sharedExpressionCache.getMisses();
+    }
+
     @Override
     public void setValue(int id, IValue value) {
+        expressionCacheMisses++;
         lazyExpressionValueCache.put(id, value);
     }
 
@@ -185,6 +261,7 @@ public class PartNetwork extends Network<IPartNetwork> implements IPartNetwork,
 
     @Override
     public IValue getValue(int id) {
+        expressionCacheHits++;
         return lazyExpressionValueCache.get(id);
     }
 
@@ -196,12 +273,14 @@ public class PartNetwork extends Network<IPartNetwork> implements IPartNetwork,
     @Override
     public boolean addVariableContainer(DimPos dimPos) {
         compositeVariableCache = null;
+        variableDependencyGraph.invalidateVariables();
         return variableContainerPositions.add(dimPos);
     }
 
     @Override
     public void removeVariableContainer(DimPos dimPos) {
         compositeVariableCache = null;
+        variableDependencyGraph.invalidateVariables();
         variableContainerPositions.remove(dimPos);
     }
 
@@ -233,6 +312,20 @@ public class PartNetwork extends Network<IPartNetwork> implements IPartNetwork,
         System.out.println("Parts of network " + this + " are changed.");
     }
 
+    @Override
+    protected boolean isLoaded(INetworkElement<IPartNetwork> element) {
+        DimPos pos = null;
+        if(element instanceof IPartNetworkElement) {
+            pos = ((IPartNetworkElement) element).getTarget().getCenter().getPos();
+        } else if(element instanceof TileNetworkElement) {
+            pos = ((TileNetworkElement) element).getPos();
+        }
+        if(pos != null && !pos.getWorld().isBlockLoaded(pos.getBlockPos())) {
+            return false;
+        }
+        return super.isLoaded(element);
+    }
+
     @Override
     protected boolean canUpdate(INetworkElement<IPartNetwork> element) {
         if(!super.canUpdate(element)) return false;
@@ -270,6 +363,13 @@ public class PartNetwork extends Network<IPartNetwork> implements IPartNetwork,
         // Reset lazy variable cache
         lazyExpressionValueCache.clear();
 
+        // Retry the variable containers that were not loaded
+        if(variableCacheIncomplete) {
+            compositeVariableCache = null;
+            variableCacheIncomplete = false;
+            variableDependencyGraph.invalidateVariables();
+        }
+
         // Signal parts of any changes
         if (partsChanged) {
             this.partsChanged = false;
@@ -299,19 +399,170 @@ public class PartNetwork extends Network<IPartNetwork> implements IPartNetwork,
         return network;
     }
 
-    protected synchronized List<IEnergyBattery> getMaterializedEnergyBatteries() {
-        return ImmutableList.copyOf(Iterables.transform(energyBatteryPositions.entrySet(), new Function<Map.Entry<DimPos, IEnergyBatteryFacade>, IEnergyBattery>() {
-            @Nullable
-            @Override
-            public IEnergyBattery apply(Map.Entry<DimPos, IEnergyBatteryFacade> input) {
-                return input.getValue().getEnergyBattery(input.getKey().getWorld(), input.getKey().getBlockPos());
+    /**
+     * Add a newly placed cable to the networks of its connected neighbours.
+     * If the cable connects to a single network, it is attached to it.
+     * If it connects multiple networks, these are merged into the largest one, which keeps its elements untouched.
+     * Only if a neighbour has no network, or when the cable already had a network,
+     * a full network is initiated as in {@link #initiateNetworkSetup(ICable, World, BlockPos)}.
+     * @param connectable The newly placed cable.
+     * @param world The world.
+     * @param pos The position.
+     * @return The network the cable is now part of.
+     */
+    public static PartNetwork attachNetworkSetup(ICable<ICablePathElement> connectable, World world, BlockPos pos) {
+        return attachNetworkSetup(connectable, world, pos, Collections.<DimPos>emptySet());
+    }
+
+    /**
+     * Add a newly placed cable to the networks of its connected neighbours,
+     * as in {@link #attachNetworkSetup(ICable, World, BlockPos)}.
+     * @param connectable The newly placed cable.
+     * @param world The world.
+     * @param pos The position.
+     * @param pending Positions of placed cables that will be attached later, these neighbours are ignored.
+     * @return The network the cable is now part of.
+     */
+    public static PartNetwork attachNetworkSetup(ICable<ICablePathElement> connectable, World world, BlockPos pos,
+                                                 Set<DimPos> pending) {
+        ICablePathElement pathElement = connectable.createPathElement(world, pos);
+        if(getCarrierNetwork(world, pos) != null) {
+            return initiateAliveNetworkSetup(connectable, world, pos);
+        }
+
+        // Networks are compared by their elements, so distinct networks are collected by identity.
+        List<PartNetwork> networks = Lists.newArrayList();
+        Set<PartNetwork> seenNetworks = Sets.newIdentityHashSet();
+        for(ICablePathElement neighbour : pathElement.getReachableElements()) {
+            if(pending.contains(neighbour.getPosition())) {
+                continue;
             }
+            IPartNetwork network = getCarrierNetwork(neighbour.getPosition().getWorld(), neighbour.getPosition().getBlockPos());
+            if(!(network instanceof PartNetwork)) {
+                // A neighbour without a valid network can only be resolved by a full flood.
+                return initiateAliveNetworkSetup(connectable, world, pos);
+            }
+            if(seenNetworks.add((PartNetwork) network)) {
+                networks.add((PartNetwork) network);
+            }
+        }
+        if(networks.isEmpty()) {
+            // Pending neighbours will attach to this network themselves.
+            PartNetwork network = new PartNetwork(new Cluster<>(Sets.newTreeSet(Collections.singleton(pathElement))));
+            NetworkWorldStorage.getInstance(IntegratedDynamics._instance).addNewNetwork(network);
+            network.initialize();
+            return network;
+        }
 
-            @Override
-            public boolean equals(@Nullable Object object) {
-                return false;
+        PartNetwork root = getLargestNetwork(networks);
+        for(PartNetwork network : networks) {
+            if(network != root) {
+                root.merge(network);
             }
-        }));
+        }
+        root.addCable(pathElement);
+        root.notifyPartsChanged();
+        return root;
+    }
+
+    /**
+     * @param networks The networks.
+     * @return The network with the most cables, or the first one of those.
+     */
+    protected static PartNetwork getLargestNetwork(Collection<PartNetwork> networks) {
+        PartNetwork largest = null;
+        for(PartNetwork network : networks) {
+            if(largest == null || network.getCablesCount() > largest.getCablesCount()) {
+                largest = network;
+            }
+        }
+        return largest;
+    }
+
+    protected static PartNetwork initiateAliveNetworkSetup(ICable<ICablePathElement> connectable, World world, BlockPos pos) {
+        PartNetwork network = initiateNetworkSetup(connectable, world, pos);
+        network.initialize();
+        return network;
+    }
+
+    /**
+     * Split off the parts of a network that were disconnected by removing the cable at the given position.
+     * This only searches from the neighbours of the removed cable, and stops as soon as they are shown to be
+     * still connected.
+     * When the network is split, the largest component keeps the existing network and its elements untouched,
+     * while the other components are initiated as new networks.
+     * Neighbours that are not part of a network are fully initiated as before.
+     * @param world The world.
+     * @param pos The position of the removed cable.
+     */
+    public static void detachNetworkSetup(World world, BlockPos pos) {
+        detachNetworkSetup(Collections.singleton(DimPos.of(world, pos)));
+    }
+
+    /**
+     * Split off the parts of networks that were disconnected by removing the cables at the given positions,
+     * as in {@link #detachNetworkSetup(World, BlockPos)}.
+     * The neighbours of all removed cables are searched together, so that each network is split at most once.
+     * @param removed The positions of the removed cables.
+     */
+    public static void detachNetworkSetup(Collection<DimPos> removed) {
+        Map<PartNetwork, List<ICablePathElement>> neighbourNetworks = Maps.newIdentityHashMap();
+        Set<DimPos> checked = Sets.newHashSet();
+        for(DimPos dimPos : removed) {
+            World world = dimPos.getWorld();
+            for(EnumFacing side : EnumFacing.VALUES) {
+                BlockPos sidePos = dimPos.getBlockPos().offset(side);
+                if(!checked.add(DimPos.of(world, sidePos))) {
+                    continue;
+                }
+                ICableNetwork<IPartNetwork, ICablePathElement> sideCable = CableHelpers.getInterface(world, sidePos, ICableNetwork.class);
+                if(sideCable != null) {
+                    IPartNetwork network = sideCable.getNetwork(world, sidePos);
+                    if(network instanceof PartNetwork) {
+                        List<ICablePathElement> neighbours = neighbourNetworks.get(network);
+                        if(neighbours == null) {
+                            neighbours = Lists.newArrayList();
+                            neighbourNetworks.put((PartNetwork) network, neighbours);
+                        }
+                        neighbours.add(sideCable.createPathElement(world, sidePos));
+                    } else {
+                        sideCable.initNetwork(world, sidePos);
+                    }
+                }
+            }
+        }
+
+        for(Map.Entry<PartNetwork, List<ICablePathElement>> entry : neighbourNetworks.entrySet()) {
+            List<Cluster<ICablePathElement>> clusters = PathFinder.getSplitClusters(entry.getValue());
+            for(Cluster<ICablePathElement> cluster : clusters) {
+                // Deriving the new network moves the split off cables and their elements out of the existing network.
+                PartNetwork network = new PartNetwork(cluster);
+                NetworkWorldStorage.getInstance(IntegratedDynamics._instance).addNewNetwork(network);
+                network.initialize();
+            }
+            if(!clusters.isEmpty()) {
+                entry.getKey().notifyPartsChanged();
+            }
+        }
+    }
+
+    @Nullable
+    protected static IPartNetwork getCarrierNetwork(World world, BlockPos pos) {
+        INetworkCarrier<IPartNetwork> networkCarrier = CableHelpers.getInterface(world, pos, INetworkCarrier.class);
+        return networkCarrier != null ? networkCarrier.getNetwork(world, pos) : null;
+    }
+
+    protected synchronized List<IEnergyBattery> getMaterializedEnergyBatteries() {
+        ImmutableList.Builder<IEnergyBattery> energyBatteries = ImmutableList.builder();
+        for(Map.Entry<DimPos, IEnergyBatteryFacade> entry : energyBatteryPositions.entrySet()) {
+            World world = entry.getKey().getWorld();
+            BlockPos pos = entry.getKey().getBlockPos();
+            // Batteries in unloaded chunks are left out, so that they do not cause chunk loads.
+            if(world.isBlockLoaded(pos)) {
+                energyBatteries.add(entry.getValue().getEnergyBattery(world, pos));
+            }
+        }
+        return energyBatteries.build();
     }
 
     protected int addSafe(int a, int b) {
@@ -1,6 +1,9 @@
 package org.cyclops.integrateddynamics.core.network;
 
+import lombok.AccessLevel;
 import lombok.Data;
+import lombok.Getter;
+import lombok.Setter;
 import net.minecraft.block.Block;
 import net.minecraft.item.ItemStack;
 import net.minecraft.util.EnumFacing;
@@ -12,6 +15,7 @@ import org.cyclops.integrateddynamics.api.network.IPartNetwork;
 import org.cyclops.integrateddynamics.api.network.IPartNetworkElement;
 import org.cyclops.integrateddynamics.api.part.*;
 import org.cyclops.integrateddynamics.core.helper.CableHelpers;
+import org.cyclops.integrateddynamics.core.tileentity.TileMultipartTicking;
 
 import java.util.List;
 
@@ -24,6 +28,9 @@ public class PartNetworkElement<P extends IPartType<P, S>, S extends IPartState<
 
     private final P part;
     private final PartTarget target;
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private TileMultipartTicking cachedPartContainer = null;
 
     protected static DimPos getCenterPos(PartTarget target) {
         return target.getCenter().getPos();
@@ -48,12 +55,35 @@ public class PartNetworkElement<P extends IPartType<P, S>, S extends IPartState<
 
     @Override
     public S getPartState() {
+        return (S) getPartContainer().getPartState(getCenterSide(getTarget()));
+    }
+
+    /**
+     * Get the part container of this element.
+     * The container is cached as long as its tile is loaded and valid, and still holds this part.
+     * @return The part container.
+     */
+    protected IPartContainer getPartContainer() {
+        TileMultipartTicking cachedPartContainer = this.cachedPartContainer;
+        if(cachedPartContainer != null && cachedPartContainer.isValidPartContainer()
+                && cachedPartContainer.getPart(getCenterSide(getTarget())) == getPart()) {
+            return cachedPartContainer;
+        }
+        this.cachedPartContainer = null;
+        IPartContainer partContainer = resolvePartContainer();
+        if(partContainer instanceof TileMultipartTicking && partContainer.getPart(getCenterSide(getTarget())) == getPart()) {
+            this.cachedPartContainer = (TileMultipartTicking) partContainer;
+        }
+        return partContainer;
+    }
+
+    protected IPartContainer resolvePartContainer() {
         IPartContainerFacade partContainerFacade = getPartContainerFacade();
         DimPos dimPos = getCenterPos(getTarget());
         if(partContainerFacade != null) {
             IPartContainer partContainer = partContainerFacade.getPartContainer(getCenterPos(getTarget()).getWorld(), dimPos.getBlockPos());
             if(partContainer != null) {
-                return (S) partContainer.getPartState(getCenterSide(getTarget()));
+                return partContainer;
             } else {
                 throw new IllegalStateException(String.format("The part container at %s could not be found.", dimPos));
             }
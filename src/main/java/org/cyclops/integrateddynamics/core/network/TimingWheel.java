@@ -0,0 +1,215 @@
+package org.cyclops.integrateddynamics.core.network;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A hashed timing wheel that schedules elements at a tick deadline.
+ * Advancing the wheel only touches the elements that are due in the current tick,
+ * instead of counting down each scheduled element every tick.
+ *
+ * Elements with a delay larger than the wheel size simply stay in their bucket for multiple wheel rotations.
+ *
+ * Elements are looked up by their hash, so their equality must be consistent with their natural ordering,
+ * as is the case for network elements in a {@link Network}.
+ * Adding, rescheduling and removing elements therefore takes constant time.
+ * @param <E> The element type.
+ * @author rubensworks
+ */
+public class TimingWheel<E extends Comparable<? super E>> {
+
+    public static final int DEFAULT_SIZE = 256;
+
+    private final Entry<E>[] buckets;
+    private final int mask;
+    private final Map<E, Entry<E>> entries = Maps.newHashMap();
+    private long currentTick = 0;
+
+    public TimingWheel() {
+        this(DEFAULT_SIZE);
+    }
+
+    /**
+     * Create a new timing wheel.
+     * @param size The number of buckets, will be rounded up to the next power of two.
+     */
+    @SuppressWarnings("unchecked")
+    public TimingWheel(int size) {
+        int actualSize = Integer.highestOneBit(Math.max(1, size - 1)) << 1;
+        this.buckets = new Entry[actualSize];
+        this.mask = actualSize - 1;
+    }
+
+    /**
+     * @return The number of elements in this wheel, including those that are due and not rescheduled yet.
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * @return The number of times this wheel has been advanced.
+     */
+    public long getCurrentTick() {
+        return currentTick;
+    }
+
+    /**
+     * @param element An element.
+     * @return If the element is present in this wheel.
+     */
+    public boolean contains(E element) {
+        return entries.containsKey(element);
+    }
+
+    /**
+     * @param element An element.
+     * @return If the element is present in this wheel and waiting for its deadline,
+     *         so it was not taken out by {@link #advance()} without being rescheduled yet.
+     */
+    public boolean isScheduled(E element) {
+        Entry<E> entry = entries.get(element);
+        return entry != null && entry.bucket >= 0;
+    }
+
+    /**
+     * @return A view on all elements in this wheel, in no particular order.
+     */
+    public Collection<E> getElements() {
+        return Collections.unmodifiableSet(entries.keySet());
+    }
+
+    /**
+     * Add the given element, or reschedule it if it was already present.
+     * @param element The element.
+     * @param delay The number of ticks after which the element will be due,
+     *              values smaller than one will make the element due at the next tick.
+     */
+    public void add(E element, int delay) {
+        Entry<E> entry = entries.get(element);
+        if(entry == null) {
+            entry = new Entry<>(element);
+            entries.put(element, entry);
+        } else {
+            unlink(entry);
+        }
+        link(entry, currentTick + Math.max(1, delay));
+    }
+
+    /**
+     * Reschedule an element that is already present in this wheel.
+     * This is a no-op if the element was removed in the meantime.
+     * @param element The element.
+     * @param delay The number of ticks after which the element will be due,
+     *              values smaller than one will make the element due at the next tick.
+     * @return If the element was rescheduled.
+     */
+    public boolean reschedule(E element, int delay) {
+        Entry<E> entry = entries.get(element);
+        if(entry == null) {
+            return false;
+        }
+        unlink(entry);
+        link(entry, currentTick + Math.max(1, delay));
+        return true;
+    }
+
+    /**
+     * Remove the given element.
+     * @param element The element.
+     * @return If the element was present.
+     */
+    public boolean remove(E element) {
+        Entry<E> entry = entries.remove(element);
+        if(entry != null) {
+            unlink(entry);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Remove all elements.
+     */
+    public void clear() {
+        for(int i = 0; i < buckets.length; i++) {
+            buckets[i] = null;
+        }
+        entries.clear();
+    }
+
+    /**
+     * Move to the next tick and take out all elements that are due.
+     * The returned elements are still present in this wheel, but they will not become due again
+     * until they are rescheduled using {@link #reschedule(Comparable, int)}.
+     * @return The due elements, in their natural order.
+     */
+    public List<E> advance() {
+        currentTick++;
+        int index = (int) (currentTick & mask);
+        Entry<E> entry = buckets[index];
+        if(entry == null) {
+            return Collections.emptyList();
+        }
+        List<E> due = Lists.newArrayList();
+        while(entry != null) {
+            Entry<E> next = entry.next;
+            if(entry.deadline <= currentTick) {
+                unlink(entry);
+                due.add(entry.element);
+            }
+            entry = next;
+        }
+        Collections.sort(due);
+        return due;
+    }
+
+    protected void link(Entry<E> entry, long deadline) {
+        int index = (int) (deadline & mask);
+        entry.deadline = deadline;
+        entry.bucket = index;
+        entry.previous = null;
+        entry.next = buckets[index];
+        if(entry.next != null) {
+            entry.next.previous = entry;
+        }
+        buckets[index] = entry;
+    }
+
+    protected void unlink(Entry<E> entry) {
+        if(entry.bucket < 0) {
+            return;
+        }
+        if(entry.previous != null) {
+            entry.previous.next = entry.next;
+        } else {
+            buckets[entry.bucket] = entry.next;
+        }
+        if(entry.next != null) {
+            entry.next.previous = entry.previous;
+        }
+        entry.previous = null;
+        entry.next = null;
+        entry.bucket = -1;
+    }
+
+    protected static class Entry<E> {
+
+        private final E element;
+        private long deadline;
+        private int bucket = -1;
+        private Entry<E> previous;
+        private Entry<E> next;
+
+        public Entry(E element) {
+            this.element = element;
+        }
+
+    }
+
+}
@@ -0,0 +1,147 @@
+package org.cyclops.integrateddynamics.core.network;
+
+import com.google.common.base.Supplier;
+import com.google.common.collect.HashMultimap;
+import com.google.common.collect.Lists;
+import com.google.common.collect.MapMaker;
+import com.google.common.collect.Multimap;
+import com.google.common.collect.Sets;
+import org.cyclops.integrateddynamics.api.item.IAspectVariableFacade;
+import org.cyclops.integrateddynamics.api.item.IOperatorVariableFacade;
+import org.cyclops.integrateddynamics.api.item.IValueTypeVariableFacade;
+import org.cyclops.integrateddynamics.api.item.IVariableFacade;
+import org.cyclops.integrateddynamics.api.network.IVariableDependencyGraph;
+
+import java.util.Collection;
+import java.util.Deque;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The variable dependency graph of a {@link PartNetwork}.
+ *
+ * The references between the variables in the network are derived lazily from its variable containers,
+ * and are recalculated after {@link #invalidateVariables()}.
+ * Consumers are held weakly, so consumers that are removed from the network without unregistering are not leaked.
+ * @author rubensworks
+ */
+public class VariableDependencyGraph implements IVariableDependencyGraph {
+
+    private static final int[] NO_DEPENDENCIES = new int[0];
+
+    private final Supplier<Map<Integer, IVariableFacade>> variables;
+    private final Map<Object, int[]> consumerDependencies = new MapMaker().weakKeys().makeMap();
+
+    private Multimap<Integer, Integer> variableDependents = null;
+    private Set<Integer> unknownVariables = null;
+
+    private Collection<Integer> lastChangedVariableIds = null;
+    private Set<Integer> lastAffectedVariableIds = null;
+
+    /**
+     * Make a new instance.
+     * @param variables Provides the variables inside the network by id.
+     */
+    public VariableDependencyGraph(Supplier<Map<Integer, IVariableFacade>> variables) {
+        this.variables = variables;
+    }
+
+    /**
+     * Get the ids of the variables the given facade directly refers to.
+     * @param variableFacade The variable facade.
+     * @return The referenced variable ids, or null if they can not be determined.
+     */
+    public static int[] getDependencies(IVariableFacade variableFacade) {
+        if(variableFacade instanceof IOperatorVariableFacade) {
+            int[] variableIds = ((IOperatorVariableFacade) variableFacade).getVariableIds();
+            return variableIds == null ? NO_DEPENDENCIES : variableIds;
+        }
+        if(variableFacade == null || variableFacade instanceof IAspectVariableFacade
+                || variableFacade instanceof IValueTypeVariableFacade) {
+            return NO_DEPENDENCIES;
+        }
+        // Proxies and unknown facades may depend on anything.
+        return null;
+    }
+
+    @Override
+    public void setDependencies(Object consumer, IVariableFacade variableFacade) {
+        int[] dependencies = getDependencies(variableFacade);
+        if(dependencies == null) {
+            consumerDependencies.remove(consumer);
+        } else {
+            consumerDependencies.put(consumer, dependencies);
+        }
+    }
+
+    @Override
+    public void removeDependencies(Object consumer) {
+        consumerDependencies.remove(consumer);
+    }
+
+    @Override
+    public void invalidateVariables() {
+        variableDependents = null;
+        unknownVariables = null;
+        lastChangedVariableIds = null;
+        lastAffectedVariableIds = null;
+    }
+
+    protected void deriveVariables() {
+        variableDependents = HashMultimap.create();
+        unknownVariables = Sets.newHashSet();
+        for(Map.Entry<Integer, IVariableFacade> entry : variables.get().entrySet()) {
+            int[] dependencies = getDependencies(entry.getValue());
+            if(dependencies == null) {
+                unknownVariables.add(entry.getKey());
+            } else {
+                for(int dependency : dependencies) {
+                    variableDependents.put(dependency, entry.getKey());
+                }
+            }
+        }
+    }
+
+    /**
+     * Get the ids of all variables that are affected by changes to the given variables.
+     * The result for the last collection instance is cached, as an event passes the same instance to all consumers.
+     * @param changedVariableIds The ids of the changed variables.
+     * @return The changed variables and all variables in the network that depend on them.
+     */
+    protected Set<Integer> getAffectedVariables(Collection<Integer> changedVariableIds) {
+        if(variableDependents == null) {
+            deriveVariables();
+        }
+        if(lastChangedVariableIds != changedVariableIds) {
+            // Variables with unknown dependencies are always affected, and so are the variables referring to them.
+            Set<Integer> affected = Sets.newHashSet();
+            Deque<Integer> open = Lists.newLinkedList(changedVariableIds);
+            open.addAll(unknownVariables);
+            while(!open.isEmpty()) {
+                Integer variableId = open.removeFirst();
+                if(affected.add(variableId)) {
+                    open.addAll(variableDependents.get(variableId));
+                }
+            }
+            lastChangedVariableIds = changedVariableIds;
+            lastAffectedVariableIds = affected;
+        }
+        return lastAffectedVariableIds;
+    }
+
+    @Override
+    public boolean isAffected(Object consumer, Collection<Integer> changedVariableIds) {
+        int[] dependencies = consumerDependencies.get(consumer);
+        if(dependencies == null) {
+            return true;
+        }
+        Set<Integer> affected = getAffectedVariables(changedVariableIds);
+        for(int dependency : dependencies) {
+            if(affected.contains(dependency)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+}
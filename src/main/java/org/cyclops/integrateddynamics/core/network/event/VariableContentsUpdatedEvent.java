@@ -2,14 +2,49 @@ package org.cyclops.integrateddynamics.core.network.event;
 
 import org.cyclops.integrateddynamics.api.network.IPartNetwork;
 
+import java.util.Collection;
+
 /**
  * An event used to signal network elements of updated variables inside the network.
  * @author rubensworks
  */
 public class VariableContentsUpdatedEvent extends NetworkEvent<IPartNetwork> {
 
+    private final Collection<Integer> changedVariableIds;
+
+    /**
+     * Signal that any variable in the network may have changed.
+     * @param network The network.
+     */
     public VariableContentsUpdatedEvent(IPartNetwork network) {
+        this(network, null);
+    }
+
+    /**
+     * Signal that the given variables in the network have changed.
+     * @param network The network.
+     * @param changedVariableIds The ids of the added, removed or modified variables, null if unknown.
+     */
+    public VariableContentsUpdatedEvent(IPartNetwork network, Collection<Integer> changedVariableIds) {
         super(network);
+        this.changedVariableIds = changedVariableIds;
+    }
+
+    /**
+     * @return The ids of the added, removed or modified variables, null if unknown.
+     */
+    public Collection<Integer> getChangedVariableIds() {
+        return changedVariableIds;
+    }
+
+    /**
+     * Check if the given consumer depends on the changed variables.
+     * @param consumer A consumer of variables registered in the dependency graph of the network.
+     * @return If the consumer must be invalidated.
+     */
+    public boolean isAffected(Object consumer) {
+        return changedVariableIds == null
+                || getNetwork().getVariableDependencyGraph().isAffected(consumer, changedVariableIds);
     }
 
 }
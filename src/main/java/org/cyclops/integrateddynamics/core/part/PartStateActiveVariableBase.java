@@ -83,6 +83,9 @@ public abstract class PartStateActiveVariableBase<P extends IPartType>
                     validate(network);
                 }
             }
+            if(network != null) {
+                network.getVariableDependencyGraph().setDependencies(this, currentVariableFacade);
+            }
             this.checkedForWriteVariable = true;
         }
         if(currentVariableFacade == null) {
@@ -7,6 +7,7 @@ import org.cyclops.integrateddynamics.api.part.PartTarget;
 import org.cyclops.integrateddynamics.api.part.aspect.IAspect;
 import org.cyclops.integrateddynamics.part.aspect.Aspects;
 
+import java.util.Collection;
 import java.util.Set;
 
 /**
@@ -31,10 +32,18 @@ public abstract class PartTypeAspects<P extends IPartType<P, S>, S extends IPart
         return !getAspects().isEmpty();
     }
 
+    /**
+     * @param state The part state.
+     * @return The aspects that must be updated when this part is updated.
+     */
+    protected Collection<IAspect> getUpdateAspects(S state) {
+        return getAspects();
+    }
+
     @Override
     public void update(IPartNetwork network, PartTarget target, S state) {
         super.update(network, target, state);
-        for(IAspect aspect : getAspects()) {
+        for(IAspect aspect : getUpdateAspects(state)) {
             aspect.update(network, this, target, state);
         }
     }
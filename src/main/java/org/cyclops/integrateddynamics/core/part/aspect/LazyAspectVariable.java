@@ -3,8 +3,10 @@ package org.cyclops.integrateddynamics.core.part.aspect;
 import lombok.Getter;
 import lombok.NonNull;
 import org.apache.commons.lang3.tuple.Pair;
+import org.cyclops.integrateddynamics.api.evaluate.variable.IChangeTrackingVariable;
 import org.cyclops.integrateddynamics.api.evaluate.variable.IValue;
 import org.cyclops.integrateddynamics.api.evaluate.variable.IValueType;
+import org.cyclops.integrateddynamics.api.evaluate.variable.IVariableInvalidateListener;
 import org.cyclops.integrateddynamics.api.part.IPartState;
 import org.cyclops.integrateddynamics.api.part.IPartType;
 import org.cyclops.integrateddynamics.api.part.PartPos;
@@ -12,19 +14,31 @@ import org.cyclops.integrateddynamics.api.part.PartTarget;
 import org.cyclops.integrateddynamics.api.part.aspect.IAspectRead;
 import org.cyclops.integrateddynamics.api.part.aspect.IAspectVariable;
 import org.cyclops.integrateddynamics.api.part.aspect.property.IAspectProperties;
+import org.cyclops.integrateddynamics.core.TickHandler;
+import org.cyclops.integrateddynamics.core.evaluate.variable.ValueHelpers;
+import org.cyclops.integrateddynamics.core.evaluate.variable.VariableInvalidateListeners;
 
 /**
  * Variable for a specific aspect from a part that calculates its target value only maximum once per ticking interval.
  * No calculations will be done if the value of this variable is not called.
+ *
+ * Once expressions listen to changes of this variable, its value is recalculated on each update instead,
+ * and the listeners are only notified if the new value differs from the previous one.
+ *
+ * Once this variable is released by its part, it is not updated anymore,
+ * so its value is then calculated on each read for expressions that still hold it.
  * @author rubensworks
  */
-public abstract class LazyAspectVariable<V extends IValue> implements IAspectVariable<V> {
+public abstract class LazyAspectVariable<V extends IValue> implements IAspectVariable<V>, IChangeTrackingVariable<V> {
 
     @Getter private final IValueType<V> type;
     @Getter private final PartTarget target;
     @Getter private final IAspectRead<V, ?> aspect;
     @NonNull private V value;
     private IAspectProperties cachedProperties = null;
+    private final VariableInvalidateListeners invalidateListeners = new VariableInvalidateListeners();
+    @Getter private long lastReadTick = -1;
+    private boolean released = false;
 
     public LazyAspectVariable(IValueType<V> type, PartTarget target, IAspectRead<V, ?> aspect) {
         this.type = type;
@@ -39,12 +53,49 @@ public abstract class LazyAspectVariable<V extends IValue> implements IAspectVar
 
     @Override
     public void update() {
+        V previousValue = value;
+        value = null;
+        cachedProperties = null;
+        if(previousValue != null && !invalidateListeners.isEmpty()) {
+            if(!ValueHelpers.areValuesEqual(previousValue, getValue())) {
+                invalidateListeners.invalidate();
+            }
+        }
+    }
+
+    @Override
+    public boolean isChangeTracked() {
+        return ValueHelpers.isChangeTrackable(getType());
+    }
+
+    @Override
+    public void addInvalidationListener(IVariableInvalidateListener listener) {
+        invalidateListeners.add(listener);
+    }
+
+    /**
+     * @return If expressions listen to changes of this variable.
+     */
+    public boolean hasInvalidationListeners() {
+        return !invalidateListeners.isEmpty();
+    }
+
+    /**
+     * Called when the part does not update this variable anymore.
+     */
+    public void release() {
+        released = true;
         value = null;
         cachedProperties = null;
     }
 
     @Override
     public V getValue() {
+        lastReadTick = TickHandler.getInstance().getTick();
+        if(released) {
+            cachedProperties = null;
+            return getValueLazy();
+        }
         if(value == null) {
             this.value = getValueLazy();
         }
@@ -1,22 +1,30 @@
 package org.cyclops.integrateddynamics.core.part.aspect;
 
+import lombok.AccessLevel;
 import lombok.Data;
+import lombok.Getter;
 import lombok.NonNull;
+import org.cyclops.integrateddynamics.api.evaluate.variable.IChangeTrackingVariable;
 import org.cyclops.integrateddynamics.api.evaluate.variable.IValue;
 import org.cyclops.integrateddynamics.api.evaluate.variable.IValueType;
+import org.cyclops.integrateddynamics.api.evaluate.variable.IVariableInvalidateListener;
 import org.cyclops.integrateddynamics.api.part.PartTarget;
 import org.cyclops.integrateddynamics.api.part.aspect.IAspectVariable;
+import org.cyclops.integrateddynamics.core.evaluate.variable.ValueHelpers;
+import org.cyclops.integrateddynamics.core.evaluate.variable.VariableInvalidateListeners;
 
 /**
  * Variable for a specific aspect from a part that requires updates for value changes.
  * @author rubensworks
  */
 @Data
-public abstract class UpdatingAspectVariable<V extends IValue> implements IAspectVariable<V> {
+public abstract class UpdatingAspectVariable<V extends IValue> implements IAspectVariable<V>, IChangeTrackingVariable<V> {
 
     private final IValueType<V> type;
     private final PartTarget target;
     @NonNull private V value;
+    @Getter(AccessLevel.NONE)
+    private final transient VariableInvalidateListeners invalidateListeners = new VariableInvalidateListeners();
 
     public UpdatingAspectVariable(IValueType<V> type, PartTarget target) {
         this.type = type;
@@ -29,4 +37,22 @@ public abstract class UpdatingAspectVariable<V extends IValue> implements IAspec
         return true;
     }
 
+    public void setValue(@NonNull V value) {
+        boolean changed = !ValueHelpers.areValuesEqual(this.value, value);
+        this.value = value;
+        if(changed) {
+            invalidateListeners.invalidate();
+        }
+    }
+
+    @Override
+    public boolean isChangeTracked() {
+        return ValueHelpers.isChangeTrackable(getType());
+    }
+
+    @Override
+    public void addInvalidationListener(IVariableInvalidateListener listener) {
+        invalidateListeners.add(listener);
+    }
+
 }
@@ -36,10 +36,11 @@ public class AspectBuilder<V extends IValue, T extends IValueType<V>, O> {
     private final List<IAspectValuePropagator> valuePropagators;
     private final List<IAspectWriteActivator> writeActivators;
     private final List<IAspectWriteDeactivator> writeDeactivators;
+    private final boolean repeatedWrites;
 
     private AspectBuilder(boolean read, T valueType, List<String> kinds, IAspectProperties defaultAspectProperties,
                           List<IAspectValuePropagator> valuePropagators, List<IAspectWriteActivator> writeActivators,
-                          List<IAspectWriteDeactivator> writeDeactivators) {
+                          List<IAspectWriteDeactivator> writeDeactivators, boolean repeatedWrites) {
         this.read = read;
         this.valueType = valueType;
         this.kinds = kinds;
@@ -47,6 +48,7 @@ public class AspectBuilder<V extends IValue, T extends IValueType<V>, O> {
         this.valuePropagators = valuePropagators;
         this.writeActivators = writeActivators;
         this.writeDeactivators = writeDeactivators;
+        this.repeatedWrites = repeatedWrites;
     }
 
     /**
@@ -73,7 +75,7 @@ public class AspectBuilder<V extends IValue, T extends IValueType<V>, O> {
                 this.defaultAspectProperties,
                 Helpers.joinList(this.valuePropagators, valuePropagator),
                 Helpers.joinList(writeActivators, null),
-                Helpers.joinList(writeDeactivators, null));
+                Helpers.joinList(writeDeactivators, null), this.repeatedWrites);
     }
 
     /**
@@ -88,7 +90,7 @@ public class AspectBuilder<V extends IValue, T extends IValueType<V>, O> {
                 this.defaultAspectProperties,
                 Helpers.joinList(this.valuePropagators, null),
                 Helpers.joinList(writeActivators, null),
-                Helpers.joinList(writeDeactivators, null));
+                Helpers.joinList(writeDeactivators, null), this.repeatedWrites);
     }
 
     /**
@@ -103,7 +105,7 @@ public class AspectBuilder<V extends IValue, T extends IValueType<V>, O> {
                 aspectProperties,
                 Helpers.joinList(this.valuePropagators, null),
                 Helpers.joinList(writeActivators, null),
-                Helpers.joinList(writeDeactivators, null));
+                Helpers.joinList(writeDeactivators, null), this.repeatedWrites);
     }
 
     /**
@@ -122,7 +124,7 @@ public class AspectBuilder<V extends IValue, T extends IValueType<V>, O> {
                 this.defaultAspectProperties,
                 Helpers.joinList(this.valuePropagators, null),
                 Helpers.joinList(writeActivators, activator),
-                Helpers.joinList(writeDeactivators, null));
+                Helpers.joinList(writeDeactivators, null), this.repeatedWrites);
     }
 
     /**
@@ -141,7 +143,27 @@ public class AspectBuilder<V extends IValue, T extends IValueType<V>, O> {
                 this.defaultAspectProperties,
                 Helpers.joinList(this.valuePropagators, null),
                 Helpers.joinList(writeActivators, null),
-                Helpers.joinList(writeDeactivators, deactivator));
+                Helpers.joinList(writeDeactivators, deactivator), this.repeatedWrites);
+    }
+
+    /**
+     * Set if the built writer should write on every update, even if the written value has not changed.
+     * This is needed for writers that cause an effect on each write, instead of setting a state.
+     * Only applicable for writers.
+     * @param repeatedWrites If unchanged values should be written again.
+     * @return The new builder instance.
+     */
+    public AspectBuilder<V, T, O> withRepeatedWrites(boolean repeatedWrites) {
+        if(this.read) {
+            throw new RuntimeException("Repeated writes are only applicable for writers.");
+        }
+        return new AspectBuilder<>(
+                this.read, this.valueType,
+                Helpers.joinList(this.kinds, null),
+                this.defaultAspectProperties,
+                Helpers.joinList(this.valuePropagators, null),
+                Helpers.joinList(writeActivators, null),
+                Helpers.joinList(writeDeactivators, null), repeatedWrites);
     }
 
     /**
@@ -174,7 +196,7 @@ public class AspectBuilder<V extends IValue, T extends IValueType<V>, O> {
     public static <V extends IValue, T extends IValueType<V>> AspectBuilder<V, T, Pair<PartTarget, IAspectProperties>> forReadType(T valueType) {
         return new AspectBuilder<>(true, valueType, ImmutableList.of(valueType.getTypeName()), null,
                 Collections.<IAspectValuePropagator>emptyList(), Collections.<IAspectWriteActivator>emptyList(),
-                Collections.<IAspectWriteDeactivator>emptyList());
+                Collections.<IAspectWriteDeactivator>emptyList(), false);
     }
 
     /**
@@ -187,7 +209,7 @@ public class AspectBuilder<V extends IValue, T extends IValueType<V>, O> {
     public static <V extends IValue, T extends IValueType<V>> AspectBuilder<V, T, Triple<PartTarget, IAspectProperties, IVariable<V>>> forWriteType(T valueType) {
         return new AspectBuilder<>(false, valueType, ImmutableList.of(valueType.getTypeName()), null,
                 Collections.<IAspectValuePropagator>emptyList(), Collections.<IAspectWriteActivator>emptyList(),
-                Collections.<IAspectWriteDeactivator>emptyList());
+                Collections.<IAspectWriteDeactivator>emptyList(), false);
     }
 
     private static class BuiltReader<V extends IValue, T extends IValueType<V>> extends AspectReadBase<V, T> {
@@ -236,6 +258,7 @@ public class AspectBuilder<V extends IValue, T extends IValueType<V>, O> {
         private final List<IAspectValuePropagator> valuePropagators;
         private final List<IAspectWriteActivator> writeActivators;
         private final List<IAspectWriteDeactivator> writeDeactivators;
+        private final boolean repeatedWrites;
 
         public BuiltWriter(AspectBuilder<V, T, V> aspectBuilder) {
             super(deriveUnlocalizedType(aspectBuilder), aspectBuilder.defaultAspectProperties);
@@ -243,6 +266,7 @@ public class AspectBuilder<V extends IValue, T extends IValueType<V>, O> {
             this.valuePropagators = aspectBuilder.valuePropagators;
             this.writeActivators = aspectBuilder.writeActivators;
             this.writeDeactivators = aspectBuilder.writeDeactivators;
+            this.repeatedWrites = aspectBuilder.repeatedWrites;
         }
 
         protected static <V extends IValue, T extends IValueType<V>> String deriveUnlocalizedType(AspectBuilder<V, T, V> aspectBuilder) {
@@ -259,6 +283,11 @@ public class AspectBuilder<V extends IValue, T extends IValueType<V>, O> {
             return valueType;
         }
 
+        @Override
+        public boolean isRepeatedWrite() {
+            return repeatedWrites;
+        }
+
         @Override
         public <P extends IPartTypeWriter<P, S>, S extends IPartStateWriter<P>> void write(P partType, PartTarget target, S state, IVariable<V> variable) throws EvaluationException {
             IAspectProperties properties = hasProperties() ? getProperties(partType, target, state) : null;
@@ -1,5 +1,6 @@
 package org.cyclops.integrateddynamics.core.part.read;
 
+import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Maps;
 import org.cyclops.integrateddynamics.api.evaluate.variable.IValue;
 import org.cyclops.integrateddynamics.api.evaluate.variable.IValueType;
@@ -9,9 +10,13 @@ import org.cyclops.integrateddynamics.api.part.aspect.IAspectRead;
 import org.cyclops.integrateddynamics.api.part.aspect.IAspectVariable;
 import org.cyclops.integrateddynamics.api.part.read.IPartStateReader;
 import org.cyclops.integrateddynamics.api.part.read.IPartTypeReader;
+import org.cyclops.integrateddynamics.core.TickHandler;
 import org.cyclops.integrateddynamics.core.part.PartStateBase;
+import org.cyclops.integrateddynamics.core.part.aspect.LazyAspectVariable;
 
+import java.util.Iterator;
 import java.util.Map;
+import java.util.Set;
 
 /**
  * A default implementation of the {@link IPartStateReader} with auto-persistence
@@ -21,7 +26,14 @@ import java.util.Map;
 public class PartStateReaderBase<P extends IPartTypeReader>
         extends PartStateBase<P> implements IPartStateReader<P> {
 
+    /**
+     * The number of ticks after which a reference to a variable expires if it was not renewed,
+     * and after which a variable that is not read anymore is released.
+     */
+    public static final int REFERENCE_TIMEOUT = 200;
+
     private final Map<IAspect, IAspectVariable> aspectVariables = Maps.newHashMap();
+    private final Map<IAspect, Map<Object, Long>> variableReferences = Maps.newHashMap();
 
     @SuppressWarnings("unchecked")
     @Override
@@ -34,6 +46,76 @@ public class PartStateReaderBase<P extends IPartTypeReader>
         aspectVariables.put(aspect, variable);
     }
 
+    @Override
+    public void addVariableReference(IAspect aspect, Object reference) {
+        Map<Object, Long> references = variableReferences.get(aspect);
+        if(references == null) {
+            references = Maps.newHashMap();
+            variableReferences.put(aspect, references);
+        }
+        references.put(reference, TickHandler.getInstance().getTick());
+    }
+
+    @Override
+    public void removeVariableReference(IAspect aspect, Object reference) {
+        Map<Object, Long> references = variableReferences.get(aspect);
+        if(references != null) {
+            references.remove(reference);
+            if(references.isEmpty()) {
+                variableReferences.remove(aspect);
+                releaseVariable(aspect, TickHandler.getInstance().getTick());
+            }
+        }
+    }
+
+    @Override
+    public void removeExpiredVariableReferences() {
+        // References only matter for releasing variables, and expired ones are still removed once a variable exists.
+        if(aspectVariables.isEmpty()) {
+            return;
+        }
+        long tick = TickHandler.getInstance().getTick();
+        for(Iterator<Map<Object, Long>> it = variableReferences.values().iterator(); it.hasNext();) {
+            Map<Object, Long> references = it.next();
+            for(Iterator<Long> itTicks = references.values().iterator(); itTicks.hasNext();) {
+                if(tick - itTicks.next() > REFERENCE_TIMEOUT) {
+                    itTicks.remove();
+                }
+            }
+            if(references.isEmpty()) {
+                it.remove();
+            }
+        }
+        for(IAspect aspect : ImmutableSet.copyOf(aspectVariables.keySet())) {
+            if(!variableReferences.containsKey(aspect)) {
+                releaseVariable(aspect, tick);
+            }
+        }
+    }
+
+    /**
+     * Remove the variable of the given aspect, unless it is still in use.
+     * Expressions may hold on to a variable without going through its variable facade,
+     * so variables that are listened to or that were read recently are kept.
+     * @param aspect The aspect that is not referenced anymore.
+     * @param tick The current tick.
+     */
+    protected void releaseVariable(IAspect aspect, long tick) {
+        IAspectVariable variable = aspectVariables.get(aspect);
+        if(variable instanceof LazyAspectVariable) {
+            LazyAspectVariable lazyVariable = (LazyAspectVariable) variable;
+            if(!lazyVariable.hasInvalidationListeners() && tick - lazyVariable.getLastReadTick() > REFERENCE_TIMEOUT) {
+                lazyVariable.release();
+                aspectVariables.remove(aspect);
+            }
+        }
+    }
+
+    @Override
+    public Set<IAspect> getVariableAspects() {
+        return ImmutableSet.copyOf(aspectVariables.keySet());
+    }
+
     @Override
     public Class<? extends IPartState> getPartStateClass() {
         return IPartStateReader.class;
@@ -6,7 +6,9 @@ import net.minecraftforge.fml.relauncher.Side;
 import net.minecraftforge.fml.relauncher.SideOnly;
 import org.cyclops.integrateddynamics.api.evaluate.variable.IValue;
 import org.cyclops.integrateddynamics.api.evaluate.variable.IValueType;
+import org.cyclops.integrateddynamics.api.network.IPartNetwork;
 import org.cyclops.integrateddynamics.api.part.PartTarget;
+import org.cyclops.integrateddynamics.api.part.aspect.IAspect;
 import org.cyclops.integrateddynamics.api.part.aspect.IAspectRead;
 import org.cyclops.integrateddynamics.api.part.aspect.IAspectVariable;
 import org.cyclops.integrateddynamics.api.part.read.IPartStateReader;
@@ -16,6 +18,7 @@ import org.cyclops.integrateddynamics.core.part.PartTypeAspects;
 import org.cyclops.integrateddynamics.inventory.container.ContainerPartReader;
 import org.cyclops.integrateddynamics.part.aspect.Aspects;
 
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -44,6 +47,18 @@ public abstract class PartTypeReadBase<P extends IPartTypeReader<P, S>, S extend
         return Aspects.REGISTRY.getReadAspects(this);
     }
 
+    @Override
+    public void update(IPartNetwork network, PartTarget target, S state) {
+        state.removeExpiredVariableReferences();
+        super.update(network, target, state);
+    }
+
+    @Override
+    protected Collection<IAspect> getUpdateAspects(S state) {
+        // Variables are only created when they are requested, and they are removed once they are not used anymore.
+        return state.getVariableAspects();
+    }
+
     @Override
     public <V extends IValue, T extends IValueType<V>> IAspectVariable<V> getVariable(PartTarget target, S partState,
                                                                                       IAspectRead<V, T> aspect) {
@@ -4,17 +4,20 @@ import com.google.common.collect.Maps;
 import org.cyclops.cyclopscore.helper.CollectionHelpers;
 import org.cyclops.cyclopscore.helper.L10NHelpers;
 import org.cyclops.cyclopscore.persist.nbt.NBTPersist;
+import org.cyclops.integrateddynamics.api.evaluate.variable.IValue;
 import org.cyclops.integrateddynamics.api.item.IVariableFacade;
 import org.cyclops.integrateddynamics.api.network.IPartNetwork;
 import org.cyclops.integrateddynamics.api.part.IPartState;
 import org.cyclops.integrateddynamics.api.part.PartTarget;
 import org.cyclops.integrateddynamics.api.part.aspect.IAspect;
 import org.cyclops.integrateddynamics.api.part.aspect.IAspectWrite;
+import org.cyclops.integrateddynamics.api.part.aspect.property.IAspectProperties;
 import org.cyclops.integrateddynamics.api.part.write.IPartStateWriter;
 import org.cyclops.integrateddynamics.api.part.write.IPartTypeWriter;
 import org.cyclops.integrateddynamics.core.part.PartStateActiveVariableBase;
 import org.cyclops.integrateddynamics.part.aspect.Aspects;
 
+import javax.annotation.Nullable;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
@@ -31,6 +34,7 @@ public class PartStateWriterBase<P extends IPartTypeWriter>
     @NBTPersist
     private Map<String, List<L10NHelpers.UnlocalizedString>> errorMessages = Maps.newHashMap();
     private boolean firstTick = true;
+    private IValue lastWrittenValue = null;
 
     public PartStateWriterBase(int inventorySize) {
         super(inventorySize);
@@ -73,6 +77,7 @@ public class PartStateWriterBase<P extends IPartTypeWriter>
     public void onVariableContentsUpdated(P partType, PartTarget target) {
         // Resets the errors for this aspect
         super.onVariableContentsUpdated(partType, target);
+        setLastWrittenValue(null);
         IAspectWrite activeAspect = getActiveAspect();
         if(activeAspect != null) {
             addError(activeAspect, null);
@@ -111,6 +116,13 @@ public class PartStateWriterBase<P extends IPartTypeWriter>
         sendUpdate(); // We want this error messages to be sent to the client(s).
     }
 
+    @Override
+    public void setAspectProperties(IAspect aspect, IAspectProperties properties) {
+        super.setAspectProperties(aspect, properties);
+        // The same value may have to be written differently.
+        setLastWrittenValue(null);
+    }
+
     @Override
     public Class<? extends IPartState> getPartStateClass() {
         return IPartStateWriter.class;
@@ -125,6 +137,17 @@ public class PartStateWriterBase<P extends IPartTypeWriter>
         return false;
     }
 
+    @Nullable
+    @Override
+    public IValue getLastWrittenValue() {
+        return lastWrittenValue;
+    }
+
+    @Override
+    public void setLastWrittenValue(@Nullable IValue value) {
+        this.lastWrittenValue = value;
+    }
+
     public static class Validator implements IVariableFacade.IValidator {
 
         private final IPartStateWriter state;
@@ -50,7 +50,9 @@ public abstract class PartTypeWriteBase<P extends IPartTypeWriter<P, S>, S exten
         actions.put(VariableContentsUpdatedEvent.class, new IEventAction<P, S, VariableContentsUpdatedEvent>() {
             @Override
             public void onAction(IPartNetwork network, PartTarget target, S state, VariableContentsUpdatedEvent event) {
-                onVariableContentsUpdated(event.getNetwork(), target, state);
+                if(event.isAffected(state)) {
+                    onVariableContentsUpdated(event.getNetwork(), target, state);
+                }
             }
         });
         return actions;
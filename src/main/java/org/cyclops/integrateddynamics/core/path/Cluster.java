@@ -1,5 +1,7 @@
 package org.cyclops.integrateddynamics.core.path;
 
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
 import com.google.common.collect.Sets;
 import lombok.Data;
 import lombok.experimental.Delegate;
@@ -16,7 +18,12 @@ import org.cyclops.integrateddynamics.api.path.IPathElement;
 import org.cyclops.integrateddynamics.api.path.IPathElementProvider;
 import org.cyclops.integrateddynamics.core.helper.CableHelpers;
 
+import javax.annotation.Nullable;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.TreeSet;
 
@@ -29,6 +36,10 @@ public class Cluster<E extends IPathElement> implements Collection<E>, INBTSeria
 
     @Delegate
     private final Set<E> elements;
+    /**
+     * Positions of elements that were in unloaded chunks when this cluster was read, per dimension and chunk.
+     */
+    private final Map<Integer, Map<Long, List<BlockPos>>> unloadedPositions = Maps.newHashMap();
 
     /**
      * This constructor should not be called, except for the process of constructing networks from NBT.
@@ -43,42 +54,186 @@ public class Cluster<E extends IPathElement> implements Collection<E>, INBTSeria
 
     @Override
     public NBTTagCompound toNBT() {
-        NBTTagCompound tag = new NBTTagCompound();
-        NBTTagList list = new NBTTagList();
-
+        // Group the packed positions per dimension.
+        Map<Integer, LongArrayBuilder> dimensionPositions = Maps.newTreeMap();
         for(IPathElement e : elements) {
-            NBTTagCompound elementTag = new NBTTagCompound();
-            elementTag.setInteger("dimension", e.getPosition().getWorld().provider.getDimension());
-            elementTag.setLong("pos", e.getPosition().getBlockPos().toLong());
-            list.appendTag(elementTag);
+            int dimensionId = e.getPosition().getWorld().provider.getDimension();
+            LongArrayBuilder positions = dimensionPositions.get(dimensionId);
+            if(positions == null) {
+                positions = new LongArrayBuilder();
+                dimensionPositions.put(dimensionId, positions);
+            }
+            positions.add(e.getPosition().getBlockPos().toLong());
+        }
+        for(Map.Entry<Integer, Map<Long, List<BlockPos>>> dimensionEntry : unloadedPositions.entrySet()) {
+            LongArrayBuilder positions = dimensionPositions.get(dimensionEntry.getKey());
+            if(positions == null) {
+                positions = new LongArrayBuilder();
+                dimensionPositions.put(dimensionEntry.getKey(), positions);
+            }
+            for(List<BlockPos> chunkPositions : dimensionEntry.getValue().values()) {
+                for(BlockPos pos : chunkPositions) {
+                    positions.add(pos.toLong());
+                }
+            }
         }
 
-        tag.setTag("list", list);
+        NBTTagList list = new NBTTagList();
+        for(Map.Entry<Integer, LongArrayBuilder> entry : dimensionPositions.entrySet()) {
+            long[] positions = entry.getValue().toArray();
+            NBTTagCompound dimensionTag = new NBTTagCompound();
+            dimensionTag.setInteger("dimension", entry.getKey());
+            dimensionTag.setInteger("count", positions.length);
+            dimensionTag.setByteArray("positions", PackedPositions.encode(positions));
+            list.appendTag(dimensionTag);
+        }
+
+        NBTTagCompound tag = new NBTTagCompound();
+        tag.setTag("dimensions", list);
         return tag;
     }
 
     @Override
     public void fromNBT(NBTTagCompound tag) {
-        NBTTagList list = tag.getTagList("list", MinecraftHelpers.NBTTag_Types.NBTTagCompound.ordinal());
-
-        for(int i = 0; i < list.tagCount(); i++) {
-            NBTTagCompound elementTag = list.getCompoundTagAt(i);
-            int dimensionId = elementTag.getInteger("dimension");
-            BlockPos pos = BlockPos.fromLong(elementTag.getLong("pos"));
+        if(tag.hasKey("dimensions", MinecraftHelpers.NBTTag_Types.NBTTagList.ordinal())) {
+            NBTTagList list = tag.getTagList("dimensions", MinecraftHelpers.NBTTag_Types.NBTTagCompound.ordinal());
+            for(int i = 0; i < list.tagCount(); i++) {
+                NBTTagCompound dimensionTag = list.getCompoundTagAt(i);
+                int dimensionId = dimensionTag.getInteger("dimension");
+                long[] positions = PackedPositions.decode(dimensionTag.getByteArray("positions"),
+                        dimensionTag.getInteger("count"));
+                for(long position : positions) {
+                    addElement(dimensionId, BlockPos.fromLong(position));
+                }
+            }
+        } else {
+            // Legacy format with one tag per element.
+            NBTTagList list = tag.getTagList("list", MinecraftHelpers.NBTTag_Types.NBTTagCompound.ordinal());
+            for(int i = 0; i < list.tagCount(); i++) {
+                NBTTagCompound elementTag = list.getCompoundTagAt(i);
+                addElement(elementTag.getInteger("dimension"), BlockPos.fromLong(elementTag.getLong("pos")));
+            }
+        }
+    }
 
-            if(dimensionId < 0 || dimensionId >= FMLCommonHandler.instance().getMinecraftServerInstance().worldServers.length) {
-                IntegratedDynamics.clog(Level.WARN, String.format("Skipped loading part from a network at the " +
-                        "invalid dimension id %s.", dimensionId));
+    protected void addElement(int dimensionId, BlockPos pos) {
+        if(dimensionId < 0 || dimensionId >= FMLCommonHandler.instance().getMinecraftServerInstance().worldServers.length) {
+            IntegratedDynamics.clog(Level.WARN, String.format("Skipped loading part from a network at the " +
+                    "invalid dimension id %s.", dimensionId));
+        } else {
+            World world = FMLCommonHandler.instance().getMinecraftServerInstance().worldServers[dimensionId];
+            if(world.isBlockLoaded(pos)) {
+                resolveElement(world, pos);
             } else {
-                World world = FMLCommonHandler.instance().getMinecraftServerInstance().worldServers[dimensionId];
-                IPathElementProvider pathElementProvider = CableHelpers.getInterface(world, pos, IPathElementProvider.class);
-                if(pathElementProvider == null) {
-                    IntegratedDynamics.clog(Level.WARN, String.format("Skipped loading part from a network at " +
-                            "position %s in world %s because it is no valid network element provider block.", pos, dimensionId));
-                } else {
-                    elements.add((E) pathElementProvider.createPathElement(world, pos));
+                // Don't force-load the chunk, the element is resolved once the chunk is loaded.
+                addUnloadedPosition(dimensionId, pos);
+            }
+        }
+    }
+
+    @Nullable
+    protected E resolveElement(World world, BlockPos pos) {
+        IPathElementProvider pathElementProvider = CableHelpers.getInterface(world, pos, IPathElementProvider.class);
+        if(pathElementProvider == null) {
+            IntegratedDynamics.clog(Level.WARN, String.format("Skipped loading part from a network at " +
+                    "position %s in world %s because it is no valid network element provider block.", pos,
+                    world.provider.getDimension()));
+            return null;
+        }
+        E element = (E) pathElementProvider.createPathElement(world, pos);
+        elements.add(element);
+        return element;
+    }
+
+    protected static long getChunkKey(int chunkX, int chunkZ) {
+        return ((long) chunkX << 32) | (chunkZ & 0xFFFFFFFFL);
+    }
+
+    protected void addUnloadedPosition(int dimensionId, BlockPos pos) {
+        Map<Long, List<BlockPos>> chunks = unloadedPositions.get(dimensionId);
+        if(chunks == null) {
+            chunks = Maps.newHashMap();
+            unloadedPositions.put(dimensionId, chunks);
+        }
+        long chunkKey = getChunkKey(pos.getX() >> 4, pos.getZ() >> 4);
+        List<BlockPos> positions = chunks.get(chunkKey);
+        if(positions == null) {
+            positions = Lists.newArrayList();
+            chunks.put(chunkKey, positions);
+        }
+        positions.add(pos);
+    }
+
+    /**
+     * @return If this cluster has elements in chunks that were not loaded yet.
+     */
+    public boolean hasUnloadedPositions() {
+        return !unloadedPositions.isEmpty();
+    }
+
+    /**
+     * Resolve the elements in the given chunk that were not loaded when this cluster was read.
+     * @param world The world of the chunk.
+     * @param chunkX The chunk x coordinate.
+     * @param chunkZ The chunk z coordinate.
+     * @return The elements that were added to this cluster.
+     */
+    public List<E> loadPositions(World world, int chunkX, int chunkZ) {
+        int dimensionId = world.provider.getDimension();
+        Map<Long, List<BlockPos>> chunks = unloadedPositions.get(dimensionId);
+        if(chunks == null) {
+            return Collections.emptyList();
+        }
+        List<BlockPos> positions = chunks.remove(getChunkKey(chunkX, chunkZ));
+        if(chunks.isEmpty()) {
+            unloadedPositions.remove(dimensionId);
+        }
+        if(positions == null) {
+            return Collections.emptyList();
+        }
+        List<E> loaded = Lists.newArrayListWithExpectedSize(positions.size());
+        for(BlockPos pos : positions) {
+            E element = resolveElement(world, pos);
+            if(element != null) {
+                loaded.add(element);
+            }
+        }
+        return loaded;
+    }
+
+    /**
+     * Move the unloaded positions of the given cluster into this cluster.
+     * @param cluster Another cluster.
+     */
+    public void addUnloadedPositions(Cluster<E> cluster) {
+        for(Map.Entry<Integer, Map<Long, List<BlockPos>>> dimensionEntry : cluster.unloadedPositions.entrySet()) {
+            for(List<BlockPos> positions : dimensionEntry.getValue().values()) {
+                for(BlockPos pos : positions) {
+                    addUnloadedPosition(dimensionEntry.getKey(), pos);
                 }
             }
         }
+        cluster.unloadedPositions.clear();
+    }
+
+    /**
+     * A growable array of primitive longs.
+     */
+    protected static class LongArrayBuilder {
+
+        private long[] values = new long[16];
+        private int size = 0;
+
+        public void add(long value) {
+            if(size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        public long[] toArray() {
+            return Arrays.copyOf(values, size);
+        }
+
     }
 }
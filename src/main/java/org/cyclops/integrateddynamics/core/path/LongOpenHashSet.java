@@ -0,0 +1,121 @@
+package org.cyclops.integrateddynamics.core.path;
+
+/**
+ * A set of primitive longs using open addressing with linear probing.
+ * This avoids boxing and per-entry allocations, which makes it suitable for tracking
+ * large amounts of packed positions, such as {@link net.minecraft.util.math.BlockPos#toLong()}.
+ * Elements can not be removed.
+ * @author rubensworks
+ */
+public class LongOpenHashSet {
+
+    private static final long EMPTY = 0L;
+    private static final float LOAD_FACTOR = 0.5F;
+
+    private long[] keys;
+    private int mask;
+    private int size = 0;
+    private boolean containsEmpty = false;
+
+    public LongOpenHashSet() {
+        this(16);
+    }
+
+    /**
+     * Create a new set.
+     * @param expectedSize The number of elements this set is expected to hold.
+     */
+    public LongOpenHashSet(int expectedSize) {
+        int capacity = Integer.highestOneBit(Math.max(2, (int) (expectedSize / LOAD_FACTOR)) - 1) << 1;
+        this.keys = new long[capacity];
+        this.mask = capacity - 1;
+    }
+
+    protected static int hash(long key) {
+        // Finalization step of MurmurHash3 to spread packed coordinates over the table.
+        key ^= key >>> 33;
+        key *= 0xff51afd7ed558ccdL;
+        key ^= key >>> 33;
+        key *= 0xc4ceb9fe1a85ec53L;
+        key ^= key >>> 33;
+        return (int) key;
+    }
+
+    /**
+     * @return The number of elements.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return If this set is empty.
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * @param key A value.
+     * @return If the value is present.
+     */
+    public boolean contains(long key) {
+        if(key == EMPTY) {
+            return containsEmpty;
+        }
+        int index = hash(key) & mask;
+        long current;
+        while((current = keys[index]) != EMPTY) {
+            if(current == key) {
+                return true;
+            }
+            index = (index + 1) & mask;
+        }
+        return false;
+    }
+
+    /**
+     * Add a value.
+     * @param key A value.
+     * @return If the value was not present yet.
+     */
+    public boolean add(long key) {
+        if(key == EMPTY) {
+            if(containsEmpty) {
+                return false;
+            }
+            containsEmpty = true;
+            size++;
+            return true;
+        }
+        int index = hash(key) & mask;
+        long current;
+        while((current = keys[index]) != EMPTY) {
+            if(current == key) {
+                return false;
+            }
+            index = (index + 1) & mask;
+        }
+        keys[index] = key;
+        if(++size > keys.length * LOAD_FACTOR) {
+            rehash(keys.length << 1);
+        }
+        return true;
+    }
+
+    protected void rehash(int capacity) {
+        long[] oldKeys = keys;
+        keys = new long[capacity];
+        mask = capacity - 1;
+        for(long key : oldKeys) {
+            if(key != EMPTY) {
+                int index = hash(key) & mask;
+                while(keys[index] != EMPTY) {
+                    index = (index + 1) & mask;
+                }
+                keys[index] = key;
+            }
+        }
+    }
+
+}
@@ -0,0 +1,72 @@
+package org.cyclops.integrateddynamics.core.path;
+
+import java.util.Arrays;
+
+/**
+ * Compact encoding for sets of packed block positions, such as {@link net.minecraft.util.math.BlockPos#toLong()}.
+ *
+ * The positions are sorted, and the differences between consecutive positions are written as zigzag variable-length
+ * integers, using seven bits per byte.
+ * Since cables are mostly adjacent, most differences fit in one or a few bytes.
+ * @author rubensworks
+ */
+public final class PackedPositions {
+
+    private PackedPositions() {
+
+    }
+
+    /**
+     * Encode the given positions.
+     * @param positions The packed positions, this array will be sorted.
+     * @return The encoded positions.
+     */
+    public static byte[] encode(long[] positions) {
+        Arrays.sort(positions);
+        byte[] buffer = new byte[positions.length * 10];
+        int length = 0;
+        long previous = 0;
+        for(long position : positions) {
+            long delta = position - previous;
+            previous = position;
+            long value = (delta << 1) ^ (delta >> 63);
+            while((value & ~0x7FL) != 0) {
+                buffer[length++] = (byte) ((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            buffer[length++] = (byte) value;
+        }
+        return Arrays.copyOf(buffer, length);
+    }
+
+    /**
+     * Decode the given positions.
+     * @param data The encoded positions.
+     * @param count The number of encoded positions.
+     * @return The packed positions, in sorted order.
+     * @throws IllegalArgumentException If the data does not contain the given number of positions.
+     */
+    public static long[] decode(byte[] data, int count) {
+        long[] positions = new long[count];
+        int offset = 0;
+        long previous = 0;
+        for(int i = 0; i < count; i++) {
+            long value = 0;
+            int shift = 0;
+            byte b;
+            do {
+                if(offset >= data.length || shift > 63) {
+                    throw new IllegalArgumentException("Encoded positions are truncated or invalid.");
+                }
+                b = data[offset++];
+                value |= (long) (b & 0x7F) << shift;
+                shift += 7;
+            } while((b & 0x80) != 0);
+            long delta = (value >>> 1) ^ -(value & 1);
+            previous += delta;
+            positions[i] = previous;
+        }
+        return positions;
+    }
+
+}
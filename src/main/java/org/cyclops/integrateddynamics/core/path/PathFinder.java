@@ -1,47 +1,164 @@
 package org.cyclops.integrateddynamics.core.path;
 
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import com.google.common.collect.Queues;
 import com.google.common.collect.Sets;
+import net.minecraft.world.World;
 import org.cyclops.cyclopscore.datastructure.DimPos;
 import org.cyclops.integrateddynamics.api.path.IPathElement;
 
-import java.util.Set;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
 import java.util.TreeSet;
 
 /**
  * Algorithm to construct paths/clusters of {@link IPathElement}s.
+ *
+ * This does an iterative breadth-first search, so that long paths can not overflow the stack.
+ * Visited positions are tracked as packed longs per world.
  * @author rubensworks
  */
 public final class PathFinder {
 
-    protected static <E extends IPathElement<E>> TreeSet<E> getConnectedElements(E head, Set<DimPos> visitedPositions) {
+    /**
+     * Mark the given position as visited.
+     * @param visitedPositions The visited positions, as packed block positions per world.
+     * @param position The position to visit.
+     * @return If the position was not visited before.
+     */
+    protected static boolean visit(Map<World, LongOpenHashSet> visitedPositions, DimPos position) {
+        World world = position.getWorld();
+        LongOpenHashSet positions = visitedPositions.get(world);
+        if(positions == null) {
+            positions = new LongOpenHashSet();
+            visitedPositions.put(world, positions);
+        }
+        return positions.add(position.getBlockPos().toLong());
+    }
+
+    protected static <E extends IPathElement<E>> TreeSet<E> getConnectedElements(E head) {
         TreeSet<E> elements = Sets.newTreeSet();
+        Map<World, LongOpenHashSet> visitedPositions = Maps.newIdentityHashMap();
+        Deque<E> open = Queues.newArrayDeque();
 
-        // Make sure to add our head
-        if(!visitedPositions.contains(head.getPosition())) {
-            elements.add(head);
-            visitedPositions.add(head.getPosition());
-        }
+        visit(visitedPositions, head.getPosition());
+        elements.add(head);
+        open.add(head);
 
-        // Add neighbours that haven't been checked yet.
-        for(E neighbour : head.getReachableElements()) {
-            if(!visitedPositions.contains(neighbour.getPosition())) {
-                elements.add(neighbour);
-                visitedPositions.add(neighbour.getPosition());
+        // Add neighbours that haven't been checked yet, and check their neighbours afterwards.
+        while(!open.isEmpty()) {
+            for(E neighbour : open.poll().getReachableElements()) {
+                if(visit(visitedPositions, neighbour.getPosition())) {
+                    elements.add(neighbour);
+                    open.add(neighbour);
+                }
             }
         }
 
-        // Loop over the added neighbours to recursively check their neighbours.
-        Set<E> neighbourElements = Sets.newHashSet();
-        for(E addedElement : elements) {
-            neighbourElements.addAll(getConnectedElements(addedElement, visitedPositions));
-        }
-        elements.addAll(neighbourElements);
-
         return elements;
     }
 
     public static <E extends IPathElement<E>> Cluster<E> getConnectedCluster(E head) {
-        return new Cluster<E>(getConnectedElements(head, Sets.<DimPos>newTreeSet()));
+        return new Cluster<E>(getConnectedElements(head));
+    }
+
+    /**
+     * Find the clusters that were split off from each other after removing an element,
+     * by only searching from its former neighbours.
+     *
+     * One search is started from each neighbour, and all searches advance interleaved by one element at a time.
+     * Searches that reach each other are joined.
+     * This stops as soon as all neighbours are shown to be connected, or when only one search is still running.
+     * That last search is never fully enumerated, so the largest component is the one that is left untouched.
+     * @param neighbours The former neighbours of the removed element.
+     * @param <E> The type of path element.
+     * @return The fully enumerated clusters that are disconnected from the remaining search,
+     *         empty if all neighbours are still connected.
+     */
+    public static <E extends IPathElement<E>> List<Cluster<E>> getSplitClusters(Collection<E> neighbours) {
+        Map<E, Search<E>> owners = Maps.newHashMap();
+        UnionFind<Search<E>> joinedSearches = new UnionFind<>();
+        List<Search<E>> running = Lists.newArrayList();
+        for(E neighbour : neighbours) {
+            if(!owners.containsKey(neighbour)) {
+                Search<E> search = new Search<>(neighbour);
+                owners.put(neighbour, search);
+                joinedSearches.add(search, 1);
+                running.add(search);
+            }
+        }
+        if(running.size() <= 1) {
+            return Collections.emptyList();
+        }
+
+        List<Cluster<E>> clusters = Lists.newArrayList();
+        while(running.size() > 1) {
+            for(int i = 0; i < running.size() && running.size() > 1; i++) {
+                Search<E> search = running.get(i);
+                if(search.open.isEmpty()) {
+                    // This component is fully enumerated and did not reach any other search.
+                    clusters.add(new Cluster<E>(search.elements));
+                    running.remove(i--);
+                    continue;
+                }
+                for(E neighbour : search.open.poll().getReachableElements()) {
+                    Search<E> owner = owners.get(neighbour);
+                    if(owner == null) {
+                        owners.put(neighbour, search);
+                        search.elements.add(neighbour);
+                        search.open.add(neighbour);
+                    } else {
+                        Search<E> ownerRoot = joinedSearches.find(owner);
+                        if(ownerRoot != search) {
+                            // Two searches met, continue them as one.
+                            Search<E> root = joinedSearches.union(search, ownerRoot);
+                            Search<E> joined = root == search ? ownerRoot : search;
+                            root.join(joined);
+                            int joinedIndex = running.indexOf(joined);
+                            running.remove(joinedIndex);
+                            if(joinedIndex <= i) {
+                                i--;
+                            }
+                            search = root;
+                        }
+                    }
+                }
+            }
+        }
+        return clusters;
+    }
+
+    /**
+     * A single breadth-first search that is part of {@link #getSplitClusters(Collection)}.
+     * @param <E> The type of path element.
+     */
+    protected static class Search<E extends IPathElement<E>> {
+
+        private TreeSet<E> elements = Sets.newTreeSet();
+        private Deque<E> open = Queues.newArrayDeque();
+
+        public Search(E head) {
+            elements.add(head);
+            open.add(head);
+        }
+
+        public void join(Search<E> search) {
+            if(search.elements.size() > elements.size()) {
+                // Always copy the smaller set into the larger one.
+                TreeSet<E> tmpElements = elements;
+                elements = search.elements;
+                search.elements = tmpElements;
+            }
+            elements.addAll(search.elements);
+            open.addAll(search.open);
+            search.elements.clear();
+            search.open.clear();
+        }
+
     }
 
 }
@@ -0,0 +1,112 @@
+package org.cyclops.integrateddynamics.core.path;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A disjoint-set forest over element identities.
+ * Unions are done by weight, so that the root of the set with the highest total weight becomes the joined root,
+ * and lookups compress the paths they traverse.
+ * The root of a set is therefore not necessarily its heaviest element.
+ * Sets can only be joined, not split.
+ * @param <E> The element type.
+ * @author rubensworks
+ */
+public class UnionFind<E> {
+
+    private final Map<E, E> parents = Maps.newIdentityHashMap();
+    private final Map<E, Integer> weights = Maps.newIdentityHashMap();
+
+    /**
+     * Add a new element as its own set.
+     * @param element The element.
+     * @param weight The weight of the element, which is added to the total weight of its set.
+     * @return If the element was not present yet.
+     */
+    public boolean add(E element, int weight) {
+        if(parents.containsKey(element)) {
+            return false;
+        }
+        parents.put(element, element);
+        weights.put(element, weight);
+        return true;
+    }
+
+    /**
+     * @param element An element.
+     * @return If the element was added.
+     */
+    public boolean contains(E element) {
+        return parents.containsKey(element);
+    }
+
+    /**
+     * Find the root of the set of the given element.
+     * @param element An element that was added.
+     * @return The root of its set.
+     */
+    public E find(E element) {
+        E parent = parents.get(element);
+        if(parent == null) {
+            throw new IllegalArgumentException("The element " + element + " was not added.");
+        }
+        while(parent != element) {
+            // Path halving: point each visited element to its grandparent.
+            E grandParent = parents.get(parent);
+            parents.put(element, grandParent);
+            element = grandParent;
+            parent = parents.get(element);
+        }
+        return element;
+    }
+
+    /**
+     * Join the sets of the two given elements.
+     * @param a An element that was added.
+     * @param b An element that was added.
+     * @return The root of the joined set, which is the root of the set with the highest total weight.
+     */
+    public E union(E a, E b) {
+        E rootA = find(a);
+        E rootB = find(b);
+        if(rootA == rootB) {
+            return rootA;
+        }
+        int weightA = weights.get(rootA);
+        int weightB = weights.get(rootB);
+        if(weightA < weightB) {
+            E tmp = rootA;
+            rootA = rootB;
+            rootB = tmp;
+        }
+        parents.put(rootB, rootA);
+        weights.put(rootA, weightA + weightB);
+        weights.remove(rootB);
+        return rootA;
+    }
+
+    /**
+     * @return All added elements.
+     */
+    public Collection<E> getElements() {
+        return parents.keySet();
+    }
+
+    /**
+     * @return The roots of all sets.
+     */
+    public List<E> getRoots() {
+        List<E> roots = Lists.newArrayList();
+        for(E element : parents.keySet()) {
+            if(find(element) == element) {
+                roots.add(element);
+            }
+        }
+        return roots;
+    }
+
+}
@@ -5,6 +5,8 @@ import org.cyclops.cyclopscore.init.ModBase;
 import org.cyclops.cyclopscore.persist.nbt.NBTPersist;
 import org.cyclops.cyclopscore.persist.world.WorldStorage;
 import org.cyclops.integrateddynamics.api.network.INetwork;
+import org.cyclops.integrateddynamics.core.network.NetworkChunkLoader;
+import org.cyclops.integrateddynamics.core.network.NetworkTopologyJournal;
 
 import java.util.Collections;
 import java.util.Set;
@@ -33,6 +35,8 @@ public class NetworkWorldStorage extends WorldStorage {
 
     @Override
     public void reset() {
+        NetworkTopologyJournal.reset();
+        NetworkChunkLoader.getInstance().reset();
         networks.clear();
     }
 
@@ -74,6 +78,7 @@ public class NetworkWorldStorage extends WorldStorage {
 
     @Override
     public void beforeSave() {
+        NetworkTopologyJournal.flush();
         for(INetwork<?> network : networks) {
             network.beforeServerStop();
         }
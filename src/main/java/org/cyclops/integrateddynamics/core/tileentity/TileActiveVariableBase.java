@@ -72,8 +72,13 @@ public abstract class TileActiveVariableBase<E> extends TileCableConnectableInve
                 addError(new L10NHelpers.UnlocalizedString(e.getMessage()));
             }
         }
-        if(network != null && lastVariabledId != variableId) {
-            network.getEventBus().post(new VariableContentsUpdatedEvent(network));
+        if(network != null) {
+            network.getVariableDependencyGraph().setDependencies(this, variableStored);
+            if(lastVariabledId != variableId) {
+                Set<Integer> changedVariableIds = Sets.newHashSet(lastVariabledId, variableId);
+                changedVariableIds.remove(-1);
+                network.getEventBus().post(new VariableContentsUpdatedEvent(network, changedVariableIds));
+            }
         }
         sendUpdate();
     }
@@ -116,7 +121,7 @@ public abstract class TileActiveVariableBase<E> extends TileCableConnectableInve
 
     @Override
     public void onEvent(INetworkEvent<IPartNetwork> event, E networkElement) {
-        if(event instanceof VariableContentsUpdatedEvent) {
+        if(event instanceof VariableContentsUpdatedEvent && ((VariableContentsUpdatedEvent) event).isAffected(this)) {
             updateReadVariable();
         }
     }
@@ -70,6 +70,7 @@ public class TileMultipartTicking extends CyclopsTileEntity implements CyclopsTi
     @Getter
     @Setter
     private IPartNetwork network;
+    private boolean unloaded = false;
 
     @Override
     public NBTTagCompound writeToNBT(NBTTagCompound tag) {this.markDirty();
@@ -108,6 +109,26 @@ public class TileMultipartTicking extends CyclopsTileEntity implements CyclopsTi
         return this.realCable;
     }
 
+    @Override
+    public void onChunkUnload() {
+        super.onChunkUnload();
+        this.unloaded = true;
+    }
+
+    @Override
+    public void validate() {
+        super.validate();
+        this.unloaded = false;
+    }
+
+    /**
+     * References to this container can be cached as long as this returns true.
+     * @return If this tile was not unloaded, removed or replaced.
+     */
+    public boolean isValidPartContainer() {
+        return !isInvalid() && !unloaded;
+    }
+
     @Override
     public DimPos getPosition() {
         return DimPos.of(getWorld(), getPos());
@@ -119,6 +119,9 @@ public class ContainerPartReader<P extends IPartTypeReader<P, S> & IGuiContainer
     public void onContainerClosed(EntityPlayer player) {
         super.onContainerClosed(player);
         if (!getWorld().isRemote) {
+            for (IAspectRead aspectRead : getUnfilteredItems()) {
+                getPartState().removeVariableReference(aspectRead, this);
+            }
             for (int i = 0; i < getUnfilteredItemCount(); ++i) {
                 ItemStack itemstack;
                 itemstack = inputSlots.removeStackFromSlot(i);
@@ -154,6 +157,8 @@ public class ContainerPartReader<P extends IPartTypeReader<P, S> & IGuiContainer
                 String readValue = "";
                 int readValueColor = 0;
                 IVariable variable = getPartType().getVariable(getTarget(), getPartState(), aspectRead);
+                // Keep the shown variables up to date while this gui is open.
+                getPartState().addVariableReference(aspectRead, this);
                 if(variable != null) {
                     try {
                         IValue value = variable.getValue();
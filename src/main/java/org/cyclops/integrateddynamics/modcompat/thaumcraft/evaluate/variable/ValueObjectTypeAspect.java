@@ -89,6 +89,11 @@ public class ValueObjectTypeAspect extends ValueObjectTypeBase<ValueObjectTypeAs
         protected boolean isEqual(Pair<Aspect, Integer> a, Pair<Aspect, Integer> b) {
             return Objects.equals(a.getKey().getTag(), b.getKey().getTag()) && Objects.equals(a.getValue(), b.getValue());
         }
+
+        @Override
+        protected int getHash(Pair<Aspect, Integer> value) {
+            return Objects.hash(value.getKey().getTag(), value.getValue());
+        }
     }
 
 }
@@ -20,6 +20,7 @@ import org.cyclops.integrateddynamics.block.BlockInvisibleLightConfig;
 import org.cyclops.integrateddynamics.core.block.IgnoredBlockStatus;
 import org.cyclops.integrateddynamics.core.evaluate.variable.ValueTypeLightLevels;
 import org.cyclops.integrateddynamics.core.helper.L10NValues;
+import org.cyclops.integrateddynamics.core.network.ParallelNetworkUpdater;
 import org.cyclops.integrateddynamics.core.part.panel.PartTypePanelVariableDriven;
 
 /**
@@ -97,7 +98,17 @@ public class PartTypePanelLightDynamic extends PartTypePanelVariableDriven<PartT
         }
     }
 
-    public static void setLightLevel(PartTarget target, int lightLevel) {
+    public static void setLightLevel(final PartTarget target, final int lightLevel) {
+        // The light level is a world change, so it must be delayed when networks are updated in parallel.
+        ParallelNetworkUpdater.mutate(new Runnable() {
+            @Override
+            public void run() {
+                setLightLevelDirect(target, lightLevel);
+            }
+        });
+    }
+
+    protected static void setLightLevelDirect(PartTarget target, int lightLevel) {
         if(ConfigHandler.isEnabled(BlockInvisibleLightConfig.class)) {
             World world = target.getTarget().getPos().getWorld();
             BlockPos pos = target.getTarget().getPos().getBlockPos();
@@ -11,7 +11,6 @@ import net.minecraft.init.Blocks;
 import net.minecraft.item.ItemStack;
 import net.minecraft.server.MinecraftServer;
 import net.minecraft.util.*;
-import net.minecraft.util.math.AxisAlignedBB;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.world.World;
 import net.minecraft.world.WorldServer;
@@ -19,7 +18,6 @@ import net.minecraftforge.event.world.NoteBlockEvent;
 import net.minecraftforge.fluids.FluidStack;
 import net.minecraftforge.fluids.capability.IFluidTankProperties;
 import net.minecraftforge.fml.common.FMLCommonHandler;
-import net.minecraftforge.items.IItemHandler;
 import org.apache.commons.lang3.tuple.Pair;
 import org.apache.commons.lang3.tuple.Triple;
 import org.cyclops.commoncapabilities.api.capability.temperature.ITemperature;
@@ -40,6 +38,8 @@ import org.cyclops.integrateddynamics.core.evaluate.variable.*;
 import org.cyclops.integrateddynamics.core.helper.Helpers;
 import org.cyclops.integrateddynamics.core.part.aspect.build.IAspectValuePropagator;
 import org.cyclops.integrateddynamics.part.aspect.read.AspectReadBuilders;
+import org.cyclops.integrateddynamics.part.aspect.read.EntityQueryCache;
+import org.cyclops.integrateddynamics.part.aspect.read.InventorySnapshot;
 import org.cyclops.integrateddynamics.part.aspect.write.AspectWriteBuilders;
 
 import javax.annotation.Nullable;
@@ -138,8 +138,7 @@ public class Aspects {
                     AspectReadBuilders.Entity.BUILDER_LIST.handle(new IAspectValuePropagator<DimPos, ValueTypeList.ValueList>() {
                         @Override
                         public ValueTypeList.ValueList getOutput(DimPos dimPos) {
-                            List<net.minecraft.entity.Entity> entities = dimPos.getWorld().getEntitiesInAABBexcluding(null,
-                                    new AxisAlignedBB(dimPos.getBlockPos(), dimPos.getBlockPos().add(1, 1, 1)), EntitySelectors.NOT_SPECTATING);
+                            List<net.minecraft.entity.Entity> entities = EntityQueryCache.getInstance().getEntities(dimPos, EntitySelectors.NOT_SPECTATING);
                             return ValueTypeList.ValueList.ofList(ValueTypes.OBJECT_ENTITY, Lists.transform(entities, new Function<net.minecraft.entity.Entity, ValueObjectTypeEntity.ValueEntity>() {
                                 @Nullable
                                 @Override
@@ -153,8 +152,7 @@ public class Aspects {
                     AspectReadBuilders.Entity.BUILDER_LIST.handle(new IAspectValuePropagator<DimPos, ValueTypeList.ValueList>() {
                         @Override
                         public ValueTypeList.ValueList getOutput(DimPos dimPos) {
-                            List<net.minecraft.entity.Entity> entities = dimPos.getWorld().getEntitiesInAABBexcluding(null,
-                                    new AxisAlignedBB(dimPos.getBlockPos(), dimPos.getBlockPos().add(1, 1, 1)), Helpers.SELECTOR_IS_PLAYER);
+                            List<net.minecraft.entity.Entity> entities = EntityQueryCache.getInstance().getEntities(dimPos, Helpers.SELECTOR_IS_PLAYER);
                             return ValueTypeList.ValueList.ofList(ValueTypes.OBJECT_ENTITY, Lists.transform(entities, new Function<net.minecraft.entity.Entity, ValueObjectTypeEntity.ValueEntity>() {
                                 @Nullable
                                 @Override
@@ -171,8 +169,7 @@ public class Aspects {
                         public ValueObjectTypeEntity.ValueEntity getOutput(Pair<PartTarget, IAspectProperties> input) {
                             int i = input.getRight().getValue(AspectReadBuilders.PROPERTY_LISTINDEX).getRawValue();
                             DimPos dimPos = input.getLeft().getTarget().getPos();
-                            List<net.minecraft.entity.Entity> entities = dimPos.getWorld().getEntitiesInAABBexcluding(null,
-                                    new AxisAlignedBB(dimPos.getBlockPos(), dimPos.getBlockPos().add(1, 1, 1)), EntitySelectors.NOT_SPECTATING);
+                            List<net.minecraft.entity.Entity> entities = EntityQueryCache.getInstance().getEntities(dimPos, EntitySelectors.NOT_SPECTATING);
                             return ValueObjectTypeEntity.ValueEntity.of(i < entities.size() ? entities.get(i) : null);
                         }
                     }).buildRead();
@@ -349,112 +346,61 @@ public class Aspects {
 
         public static final class Inventory {
             public static final IAspectRead<ValueTypeBoolean.ValueBoolean, ValueTypeBoolean> BOOLEAN_FULL =
-                    AspectReadBuilders.Inventory.BUILDER_BOOLEAN.handle(new IAspectValuePropagator<IItemHandler, Boolean>() {
-                        @Override
-                        public Boolean getOutput(IItemHandler inventory) {
-                            if(inventory != null) {
-                                for (int i = 0; i < inventory.getSlots(); i++) {
-                                    ItemStack itemStack = inventory.getStackInSlot(i);
-                                    if (itemStack == null) {
-                                        return false;
-                                    }
-                                }
-                            }
-                            return true;
+                    AspectReadBuilders.Inventory.BUILDER_BOOLEAN.handle(new IAspectValuePropagator<InventorySnapshot, Boolean>() {
+                        @Override
+                        public Boolean getOutput(InventorySnapshot inventory) {
+                            return inventory.isFull();
                         }
                     }).handle(AspectReadBuilders.PROP_GET_BOOLEAN, "full").buildRead();
             public static final IAspectRead<ValueTypeBoolean.ValueBoolean, ValueTypeBoolean> BOOLEAN_EMPTY =
-                    AspectReadBuilders.Inventory.BUILDER_BOOLEAN.handle(new IAspectValuePropagator<IItemHandler, Boolean>() {
-                        @Override
-                        public Boolean getOutput(IItemHandler inventory) {
-                            if(inventory != null) {
-                                for(int i = 0; i < inventory.getSlots(); i++) {
-                                    ItemStack itemStack = inventory.getStackInSlot(i);
-                                    if(itemStack != null) {
-                                        return false;
-                                    }
-                                }
-                            }
-                            return true;
+                    AspectReadBuilders.Inventory.BUILDER_BOOLEAN.handle(new IAspectValuePropagator<InventorySnapshot, Boolean>() {
+                        @Override
+                        public Boolean getOutput(InventorySnapshot inventory) {
+                            return inventory.isEmpty();
                         }
                     }).handle(AspectReadBuilders.PROP_GET_BOOLEAN, "empty").buildRead();
             public static final IAspectRead<ValueTypeBoolean.ValueBoolean, ValueTypeBoolean> BOOLEAN_NONEMPTY =
-                    AspectReadBuilders.Inventory.BUILDER_BOOLEAN.handle(new IAspectValuePropagator<IItemHandler, Boolean>() {
-                        @Override
-                        public Boolean getOutput(IItemHandler inventory) {
-                            if(inventory != null) {
-                                for(int i = 0; i < inventory.getSlots(); i++) {
-                                    ItemStack itemStack = inventory.getStackInSlot(i);
-                                    if(itemStack != null) {
-                                        return true;
-                                    }
-                                }
-                            }
-                            return false;
+                    AspectReadBuilders.Inventory.BUILDER_BOOLEAN.handle(new IAspectValuePropagator<InventorySnapshot, Boolean>() {
+                        @Override
+                        public Boolean getOutput(InventorySnapshot inventory) {
+                            return !inventory.isEmpty();
                         }
                     }).handle(AspectReadBuilders.PROP_GET_BOOLEAN, "nonempty").buildRead();
             public static final IAspectRead<ValueTypeBoolean.ValueBoolean, ValueTypeBoolean> BOOLEAN_APPLICABLE =
-                    AspectReadBuilders.Inventory.BUILDER_BOOLEAN.handle(new IAspectValuePropagator<IItemHandler, Boolean>() {
+                    AspectReadBuilders.Inventory.BUILDER_BOOLEAN.handle(new IAspectValuePropagator<InventorySnapshot, Boolean>() {
                         @Override
-                        public Boolean getOutput(IItemHandler inventory) {
-                            return inventory != null;
+                        public Boolean getOutput(InventorySnapshot inventory) {
+                            return inventory.isApplicable();
                         }
                     }).handle(AspectReadBuilders.PROP_GET_BOOLEAN, "applicable").buildRead();
 
             public static final IAspectRead<ValueTypeInteger.ValueInteger, ValueTypeInteger> INTEGER_COUNT =
-                    AspectReadBuilders.Inventory.BUILDER_INTEGER.handle(new IAspectValuePropagator<IItemHandler, Integer>() {
-                        @Override
-                        public Integer getOutput(IItemHandler inventory) {
-                            int count = 0;
-                            if(inventory != null) {
-                                for (int i = 0; i < inventory.getSlots(); i++) {
-                                    ItemStack itemStack = inventory.getStackInSlot(i);
-                                    if (itemStack != null) {
-                                        count += itemStack.stackSize;
-                                    }
-                                }
-                            }
-                            return count;
+                    AspectReadBuilders.Inventory.BUILDER_INTEGER.handle(new IAspectValuePropagator<InventorySnapshot, Integer>() {
+                        @Override
+                        public Integer getOutput(InventorySnapshot inventory) {
+                            return inventory.getCount();
                         }
                     }).handle(AspectReadBuilders.PROP_GET_INTEGER, "count").buildRead();
             public static final IAspectRead<ValueTypeInteger.ValueInteger, ValueTypeInteger> INTEGER_SLOTS =
-                    AspectReadBuilders.Inventory.BUILDER_INTEGER.handle(new IAspectValuePropagator<IItemHandler, Integer>() {
+                    AspectReadBuilders.Inventory.BUILDER_INTEGER.handle(new IAspectValuePropagator<InventorySnapshot, Integer>() {
                         @Override
-                        public Integer getOutput(IItemHandler inventory) {
+                        public Integer getOutput(InventorySnapshot inventory) {
                             return inventory.getSlots();
                         }
                     }).handle(AspectReadBuilders.PROP_GET_INTEGER, "slots").buildRead();
             public static final IAspectRead<ValueTypeInteger.ValueInteger, ValueTypeInteger> INTEGER_SLOTSFILLED =
-                    AspectReadBuilders.Inventory.BUILDER_INTEGER.handle(new IAspectValuePropagator<IItemHandler, Integer>() {
-                        @Override
-                        public Integer getOutput(IItemHandler inventory) {
-                            int count = 0;
-                            if(inventory != null) {
-                                for (int i = 0; i < inventory.getSlots(); i++) {
-                                    ItemStack itemStack = inventory.getStackInSlot(i);
-                                    if (itemStack != null) {
-                                        count++;
-                                    }
-                                }
-                            }
-                            return count;
+                    AspectReadBuilders.Inventory.BUILDER_INTEGER.handle(new IAspectValuePropagator<InventorySnapshot, Integer>() {
+                        @Override
+                        public Integer getOutput(InventorySnapshot inventory) {
+                            return inventory.getSlotsFilled();
                         }
                     }).handle(AspectReadBuilders.PROP_GET_INTEGER, "slotsfilled").buildRead();
 
             public static final IAspectRead<ValueTypeDouble.ValueDouble, ValueTypeDouble> DOUBLE_FILLRATIO =
-                    AspectReadBuilders.Inventory.BUILDER_DOUBLE.handle(new IAspectValuePropagator<IItemHandler, Double>() {
-                        @Override
-                        public Double getOutput(IItemHandler inventory) {
-                            int count = 0;
-                            if(inventory != null) {
-                                for (int i = 0; i < inventory.getSlots(); i++) {
-                                    ItemStack itemStack = inventory.getStackInSlot(i);
-                                    if (itemStack != null) {
-                                        count++;
-                                    }
-                                }
-                            }
-                            return ((double) count) / (double) inventory.getSlots();
+                    AspectReadBuilders.Inventory.BUILDER_DOUBLE.handle(new IAspectValuePropagator<InventorySnapshot, Double>() {
+                        @Override
+                        public Double getOutput(InventorySnapshot inventory) {
+                            return inventory.getFillRatio();
                         }
                     }).handle(AspectReadBuilders.PROP_GET_DOUBLE, "fillratio").buildRead();
 
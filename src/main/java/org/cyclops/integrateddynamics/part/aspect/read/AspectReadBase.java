@@ -48,8 +48,9 @@ public abstract class AspectReadBase<V extends IValue, T extends IValueType<V>>
     @Override
     public <P extends IPartType<P, S>, S extends IPartState<P>> void update(IPartNetwork network, P partType, PartTarget target, S state) {
         if(partType instanceof IPartTypeReader && state instanceof IPartStateReader) {
-            IAspectVariable variable = ((IPartTypeReader) partType).getVariable(target, (IPartStateReader) state, this);
-            if (variable.requiresUpdate()) {
+            // Only update variables that were requested, instead of creating them.
+            IAspectVariable variable = ((IPartStateReader) state).getVariable(this);
+            if (variable != null && variable.requiresUpdate()) {
                 variable.update();
             }
         }
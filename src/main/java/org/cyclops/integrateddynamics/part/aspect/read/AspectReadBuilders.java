@@ -7,7 +7,6 @@ import net.minecraft.entity.item.EntityItemFrame;
 import net.minecraft.item.ItemStack;
 import net.minecraft.server.MinecraftServer;
 import net.minecraft.util.EnumFacing;
-import net.minecraft.util.math.AxisAlignedBB;
 import net.minecraft.util.math.BlockPos;
 import net.minecraftforge.event.world.NoteBlockEvent;
 import net.minecraftforge.fluids.FluidStack;
@@ -309,16 +308,17 @@ public class AspectReadBuilders {
                 return TileHelpers.getCapability(target.getPos().getWorld(), target.getPos().getBlockPos(), target.getSide(), CapabilityItemHandler.ITEM_HANDLER_CAPABILITY);
             }
         };
+        public static final IAspectValuePropagator<Pair<PartTarget, IAspectProperties>, InventorySnapshot> PROP_GET_SNAPSHOT = new IAspectValuePropagator<Pair<PartTarget, IAspectProperties>, InventorySnapshot>() {
+            @Override
+            public InventorySnapshot getOutput(Pair<PartTarget, IAspectProperties> input) {
+                return InventorySnapshotCache.getInstance().getSnapshot(input.getLeft().getTarget());
+            }
+        };
         public static final IAspectValuePropagator<Pair<PartTarget, IAspectProperties>, ItemStack> PROP_GET_SLOT = new IAspectValuePropagator<Pair<PartTarget, IAspectProperties>, ItemStack>() {
             @Override
             public ItemStack getOutput(Pair<PartTarget, IAspectProperties> input) {
-                PartPos target = input.getLeft().getTarget();
-                IItemHandler itemHandler = TileHelpers.getCapability(target.getPos().getWorld(), target.getPos().getBlockPos(), target.getSide(), CapabilityItemHandler.ITEM_HANDLER_CAPABILITY);
-                int slotId = input.getRight().getValue(PROPERTY_SLOTID).getRawValue();
-                if(itemHandler != null && slotId >= 0 && slotId < itemHandler.getSlots()) {
-                    return itemHandler.getStackInSlot(slotId);
-                }
-                return null;
+                InventorySnapshot snapshot = InventorySnapshotCache.getInstance().getSnapshot(input.getLeft().getTarget());
+                return snapshot.getStackInSlot(input.getRight().getValue(PROPERTY_SLOTID).getRawValue());
             }
         };
         public static final IAspectValuePropagator<Pair<PartTarget, IAspectProperties>, ValueTypeList.ValueList> PROP_GET_LIST = new IAspectValuePropagator<Pair<PartTarget, IAspectProperties>, ValueTypeList.ValueList>() {
@@ -328,12 +328,12 @@ public class AspectReadBuilders {
             }
         };
 
-        public static final AspectBuilder<ValueTypeBoolean.ValueBoolean, ValueTypeBoolean, IItemHandler>
-                BUILDER_BOOLEAN = AspectReadBuilders.BUILDER_BOOLEAN.handle(PROP_GET, "inventory");
-        public static final AspectBuilder<ValueTypeInteger.ValueInteger, ValueTypeInteger, IItemHandler>
-                BUILDER_INTEGER = AspectReadBuilders.BUILDER_INTEGER.handle(PROP_GET, "inventory");
-        public static final AspectBuilder<ValueTypeDouble.ValueDouble, ValueTypeDouble, IItemHandler>
-                BUILDER_DOUBLE = AspectReadBuilders.BUILDER_DOUBLE.handle(PROP_GET, "inventory");
+        public static final AspectBuilder<ValueTypeBoolean.ValueBoolean, ValueTypeBoolean, InventorySnapshot>
+                BUILDER_BOOLEAN = AspectReadBuilders.BUILDER_BOOLEAN.handle(PROP_GET_SNAPSHOT, "inventory");
+        public static final AspectBuilder<ValueTypeInteger.ValueInteger, ValueTypeInteger, InventorySnapshot>
+                BUILDER_INTEGER = AspectReadBuilders.BUILDER_INTEGER.handle(PROP_GET_SNAPSHOT, "inventory");
+        public static final AspectBuilder<ValueTypeDouble.ValueDouble, ValueTypeDouble, InventorySnapshot>
+                BUILDER_DOUBLE = AspectReadBuilders.BUILDER_DOUBLE.handle(PROP_GET_SNAPSHOT, "inventory");
         public static final AspectBuilder<ValueObjectTypeItemStack.ValueItemStack, ValueObjectTypeItemStack, ItemStack>
                 BUILDER_ITEMSTACK = BUILDER_OBJECT_ITEMSTACK.handle(PROP_GET_SLOT, "inventory").withProperties(PROPERTIES);
 
@@ -472,8 +472,7 @@ public class AspectReadBuilders {
             public EntityItemFrame getOutput(Pair<PartTarget, IAspectProperties> pair) {
                 DimPos dimPos = pair.getLeft().getTarget().getPos();
                 EnumFacing facing = pair.getLeft().getTarget().getSide();
-                List<net.minecraft.entity.Entity> entities = dimPos.getWorld().getEntitiesInAABBexcluding(null,
-                        new AxisAlignedBB(dimPos.getBlockPos(), dimPos.getBlockPos().add(1, 1, 1)), ENTITY_SELECTOR_ITEMFRAME);
+                List<net.minecraft.entity.Entity> entities = EntityQueryCache.getInstance().getEntities(dimPos, ENTITY_SELECTOR_ITEMFRAME);
                 for(net.minecraft.entity.Entity entity : entities) {
                     if(EnumFacing.fromAngle(((EntityItemFrame) entity).rotationYaw) == facing.getOpposite()) {
                         return ((EntityItemFrame) entity);
@@ -0,0 +1,148 @@
+package org.cyclops.integrateddynamics.part.aspect.read;
+
+import com.google.common.base.Predicate;
+import com.google.common.collect.Lists;
+import net.minecraft.entity.Entity;
+import net.minecraft.util.math.AxisAlignedBB;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
+import org.cyclops.cyclopscore.datastructure.DimPos;
+import org.cyclops.integrateddynamics.core.TickHandler;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Shares entity queries between all entity aspects during a network tick.
+ *
+ * Instead of querying the world for the entities in a block for each aspect,
+ * the entities of the whole chunk section around a block are queried once per tick,
+ * and the entities of each block are filtered from them once per tick.
+ * Since the world returns entities in the order of their chunks and sections, filtering the entities of a section
+ * results in the same lists as querying the world for a block directly.
+ * Entities and sections are forgotten once the network tick, see {@link TickHandler#getTick()}, has passed,
+ * and the cache is cleared at the end of each server tick so that it does not keep unloaded entities and worlds alive.
+ * @author rubensworks
+ */
+public class EntityQueryCache {
+
+    private static final EntityQueryCache INSTANCE = new EntityQueryCache();
+
+    private final Map<DimPos, List<Entity>> blocks = new ConcurrentHashMap<>();
+    private final Map<DimPos, List<Entity>> sections = new ConcurrentHashMap<>();
+    private volatile long tick = -1;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong sectionQueries = new AtomicLong();
+
+    protected EntityQueryCache() {
+
+    }
+
+    public static EntityQueryCache getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Get the entities in the given block in the current tick that match the given predicate.
+     * @param pos The block position.
+     * @param predicate The entity predicate.
+     * @return The entities in the same order as the world returns them.
+     */
+    public List<Entity> getEntities(DimPos pos, Predicate<? super Entity> predicate) {
+        List<Entity> entities = getEntities(pos);
+        List<Entity> filtered = Lists.newArrayListWithCapacity(entities.size());
+        for(Entity entity : entities) {
+            if(predicate.apply(entity)) {
+                filtered.add(entity);
+            }
+        }
+        return filtered;
+    }
+
+    /**
+     * Get all entities in the given block in the current tick.
+     * @param pos The block position.
+     * @return The unmodifiable list of entities, in the same order as the world returns them.
+     */
+    public List<Entity> getEntities(DimPos pos) {
+        long currentTick = TickHandler.getInstance().getTick();
+        if(tick != currentTick) {
+            synchronized (this) {
+                if(tick != currentTick) {
+                    clear();
+                    tick = currentTick;
+                }
+            }
+        }
+        List<Entity> entities = blocks.get(pos);
+        if(entities == null) {
+            misses.incrementAndGet();
+            BlockPos blockPos = pos.getBlockPos();
+            AxisAlignedBB box = new AxisAlignedBB(blockPos, blockPos.add(1, 1, 1));
+            List<Entity> blockEntities = Lists.newArrayList();
+            for(Entity entity : getSectionEntities(pos)) {
+                if(entity.getEntityBoundingBox().intersectsWith(box)) {
+                    blockEntities.add(entity);
+                }
+            }
+            entities = Collections.unmodifiableList(blockEntities);
+            blocks.put(pos, entities);
+        } else {
+            hits.incrementAndGet();
+        }
+        return entities;
+    }
+
+    /**
+     * Forget all entities and sections.
+     */
+    public void clear() {
+        blocks.clear();
+        sections.clear();
+    }
+
+    protected List<Entity> getSectionEntities(DimPos pos) {
+        BlockPos blockPos = pos.getBlockPos();
+        BlockPos origin = new BlockPos(blockPos.getX() & ~15, blockPos.getY() & ~15, blockPos.getZ() & ~15);
+        DimPos section = DimPos.of(pos.getWorld(), origin);
+        List<Entity> entities = sections.get(section);
+        if(entities == null) {
+            sectionQueries.incrementAndGet();
+            // A block lies within its section, so all entities that intersect a block also intersect its section.
+            entities = queryEntities(pos.getWorld(), new AxisAlignedBB(origin, origin.add(16, 16, 16)));
+            sections.put(section, entities);
+        }
+        return entities;
+    }
+
+    protected List<Entity> queryEntities(World world, AxisAlignedBB box) {
+        return world.getEntitiesInAABBexcluding(null, box, null);
+    }
+
+    /**
+     * @return The number of times the entities of a block were reused.
+     */
+    public long getHits() {
+        return hits.get();
+    }
+
+    /**
+     * @return The number of times the entities of a block were filtered from its section.
+     */
+    public long getMisses() {
+        return misses.get();
+    }
+
+    /**
+     * @return The number of times the world was queried for the entities of a section.
+     */
+    public long getSectionQueries() {
+        return sectionQueries.get();
+    }
+
+}
@@ -0,0 +1,114 @@
+package org.cyclops.integrateddynamics.part.aspect.read;
+
+import net.minecraft.item.ItemStack;
+import net.minecraftforge.items.IItemHandler;
+
+import javax.annotation.Nullable;
+
+/**
+ * The contents of an inventory at one moment, read in a single pass over its slots.
+ * The scalar inventory aspects and the slot aspect derive their values from a snapshot, see {@link InventorySnapshotCache}.
+ * Stacks may be modified in place by their inventory, so a snapshot holds copies.
+ * @author rubensworks
+ */
+public class InventorySnapshot {
+
+    /**
+     * The snapshot of a target without an inventory.
+     */
+    public static final InventorySnapshot ABSENT = new InventorySnapshot(false, new ItemStack[0], 0, 0);
+
+    private final boolean applicable;
+    private final ItemStack[] stacks;
+    private final int count;
+    private final int slotsFilled;
+
+    protected InventorySnapshot(boolean applicable, ItemStack[] stacks, int count, int slotsFilled) {
+        this.applicable = applicable;
+        this.stacks = stacks;
+        this.count = count;
+        this.slotsFilled = slotsFilled;
+    }
+
+    /**
+     * Read the given inventory.
+     * @param inventory An inventory, may be null.
+     * @return The snapshot of the inventory.
+     */
+    public static InventorySnapshot of(@Nullable IItemHandler inventory) {
+        if(inventory == null) {
+            return ABSENT;
+        }
+        ItemStack[] stacks = new ItemStack[inventory.getSlots()];
+        int count = 0;
+        int slotsFilled = 0;
+        for(int i = 0; i < stacks.length; i++) {
+            ItemStack itemStack = inventory.getStackInSlot(i);
+            if(itemStack != null) {
+                stacks[i] = itemStack.copy();
+                count += itemStack.stackSize;
+                slotsFilled++;
+            }
+        }
+        return new InventorySnapshot(true, stacks, count, slotsFilled);
+    }
+
+    /**
+     * @return If the target had an inventory.
+     */
+    public boolean isApplicable() {
+        return applicable;
+    }
+
+    /**
+     * @return The number of slots.
+     */
+    public int getSlots() {
+        return stacks.length;
+    }
+
+    /**
+     * @param slot A slot id.
+     * @return The stack in the given slot, or null if the slot is empty or does not exist.
+     */
+    @Nullable
+    public ItemStack getStackInSlot(int slot) {
+        return slot >= 0 && slot < stacks.length ? stacks[slot] : null;
+    }
+
+    /**
+     * @return The total number of items over all slots.
+     */
+    public int getCount() {
+        return count;
+    }
+
+    /**
+     * @return The number of slots that are not empty.
+     */
+    public int getSlotsFilled() {
+        return slotsFilled;
+    }
+
+    /**
+     * @return If no slot is empty, or if there is no inventory.
+     */
+    public boolean isFull() {
+        return slotsFilled == stacks.length;
+    }
+
+    /**
+     * @return If all slots are empty, or if there is no inventory.
+     */
+    public boolean isEmpty() {
+        return slotsFilled == 0;
+    }
+
+    /**
+     * @return The ratio of filled slots.
+     */
+    public double getFillRatio() {
+        return applicable ? ((double) slotsFilled) / (double) stacks.length : 0D;
+    }
+
+}
@@ -0,0 +1,141 @@
+package org.cyclops.integrateddynamics.part.aspect.read;
+
+import net.minecraftforge.items.CapabilityItemHandler;
+import net.minecraftforge.items.IItemHandler;
+import org.cyclops.cyclopscore.helper.TileHelpers;
+import org.cyclops.integrateddynamics.GeneralConfig;
+import org.cyclops.integrateddynamics.api.part.PartPos;
+import org.cyclops.integrateddynamics.core.TickHandler;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Shares inventory snapshots between all inventory aspects that read the same target during a network tick.
+ *
+ * Without this, every inventory aspect that is read from the same inventory would look up the inventory
+ * and scan all of its slots again.
+ * Snapshots are keyed by target position and side, since inventories may expose different slots per side,
+ * and are forgotten at the end of each network tick, see {@link TickHandler#getTick()}.
+ * Inventories with more slots than {@link GeneralConfig#inventoryScanSlotsPerTick} are not fully scanned on each tick,
+ * but are kept up to date by a {@link InventorySnapshotTracker} that lives as long as its target is read.
+ * Networks may be updated in parallel, so snapshots may be requested from multiple threads.
+ * @author rubensworks
+ */
+public class InventorySnapshotCache {
+
+    private static final InventorySnapshotCache INSTANCE = new InventorySnapshotCache();
+
+    /**
+     * The number of ticks after which the tracker of a target that was not read anymore is removed.
+     */
+    public static final int TRACKER_TIMEOUT = 200;
+
+    private final Map<PartPos, InventorySnapshot> snapshots = new ConcurrentHashMap<>();
+    private final ConcurrentMap<PartPos, InventorySnapshotTracker> trackers = new ConcurrentHashMap<>();
+    private volatile long tick = -1;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    protected InventorySnapshotCache() {
+
+    }
+
+    public static InventorySnapshotCache getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Get the snapshot of the inventory at the given target in the current tick, or read it if none exists yet.
+     * @param target The target position and side.
+     * @return The snapshot, which is {@link InventorySnapshot#ABSENT} if there is no inventory.
+     */
+    public InventorySnapshot getSnapshot(PartPos target) {
+        long currentTick = TickHandler.getInstance().getTick();
+        if(tick != currentTick) {
+            synchronized (this) {
+                if(tick != currentTick) {
+                    snapshots.clear();
+                    tick = currentTick;
+                }
+            }
+        }
+        InventorySnapshot snapshot = snapshots.get(target);
+        if(snapshot == null) {
+            misses.incrementAndGet();
+            IItemHandler itemHandler = TileHelpers.getCapability(target.getPos().getWorld(), target.getPos().getBlockPos(),
+                    target.getSide(), CapabilityItemHandler.ITEM_HANDLER_CAPABILITY);
+            snapshot = read(target, itemHandler, currentTick);
+            snapshots.put(target, snapshot);
+        } else {
+            hits.incrementAndGet();
+        }
+        return snapshot;
+    }
+
+    protected InventorySnapshot read(PartPos target, IItemHandler itemHandler, long tick) {
+        int scanSlots = GeneralConfig.inventoryScanSlotsPerTick;
+        if(itemHandler == null || scanSlots <= 0 || itemHandler.getSlots() <= scanSlots) {
+            trackers.remove(target);
+            return InventorySnapshot.of(itemHandler);
+        }
+        InventorySnapshotTracker tracker = trackers.get(target);
+        if(tracker == null) {
+            InventorySnapshotTracker existing = trackers.putIfAbsent(target, tracker = new InventorySnapshotTracker());
+            if(existing != null) {
+                tracker = existing;
+            }
+        }
+        return tracker.update(itemHandler, tick);
+    }
+
+    /**
+     * Forget all snapshots, and remove the trackers of targets that were not read for a while.
+     */
+    public void clear() {
+        snapshots.clear();
+        removeStaleTrackers(TickHandler.getInstance().getTick());
+    }
+
+    protected void removeStaleTrackers(long currentTick) {
+        Iterator<InventorySnapshotTracker> it = trackers.values().iterator();
+        while(it.hasNext()) {
+            if(currentTick - it.next().getLastTick() > TRACKER_TIMEOUT) {
+                it.remove();
+            }
+        }
+    }
+
+    /**
+     * @return The number of times a snapshot was reused.
+     */
+    public long getHits() {
+        return hits.get();
+    }
+
+    /**
+     * @return The number of times an inventory was read.
+     */
+    public long getMisses() {
+        return misses.get();
+    }
+
+    /**
+     * @return The number of snapshots in the current tick.
+     */
+    public int size() {
+        return snapshots.size();
+    }
+
+    /**
+     * @return The number of large inventories that are tracked over multiple ticks.
+     */
+    public int getTrackedInventories() {
+        return trackers.size();
+    }
+
+}
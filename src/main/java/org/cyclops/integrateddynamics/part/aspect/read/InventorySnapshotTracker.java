@@ -0,0 +1,116 @@
+package org.cyclops.integrateddynamics.part.aspect.read;
+
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
+import net.minecraftforge.items.IItemHandler;
+import org.cyclops.integrateddynamics.GeneralConfig;
+
+/**
+ * Keeps the snapshot of a large inventory up to date over multiple ticks.
+ *
+ * A fingerprint of item, metadata, NBT hash and stack size is remembered for each slot.
+ * Each update rescans at most {@link GeneralConfig#inventoryScanSlotsPerTick} slots, continuing where the previous update stopped,
+ * so that every slot is rescanned within a bounded number of ticks.
+ * The item count and the number of filled slots are only corrected for the slots of which the fingerprint changed,
+ * and a new snapshot is only created if any slot changed.
+ * @author rubensworks
+ */
+public class InventorySnapshotTracker {
+
+    private Item[] items = null;
+    private int[] metas;
+    private int[] nbtHashes;
+    private int[] counts;
+    private ItemStack[] stacks;
+
+    private int count;
+    private int slotsFilled;
+    private int cursor;
+
+    private InventorySnapshot snapshot = null;
+    private long lastTick;
+
+    /**
+     * Rescan the next range of slots of the given inventory.
+     * All slots are scanned if the number of slots of the inventory changed.
+     * @param inventory The inventory.
+     * @param tick The current tick.
+     * @return The up to date snapshot.
+     */
+    public synchronized InventorySnapshot update(IItemHandler inventory, long tick) {
+        lastTick = tick;
+        int slots = inventory.getSlots();
+        boolean changed = false;
+        if(items == null || items.length != slots) {
+            reset(slots);
+            for(int i = 0; i < slots; i++) {
+                updateSlot(i, inventory.getStackInSlot(i));
+            }
+            changed = true;
+        } else if(slots > 0) {
+            int scan = Math.min(slots, GeneralConfig.inventoryScanSlotsPerTick);
+            for(int i = 0; i < scan; i++) {
+                changed |= updateSlot(cursor, inventory.getStackInSlot(cursor));
+                if(++cursor == slots) {
+                    cursor = 0;
+                }
+            }
+        }
+        if(changed || snapshot == null) {
+            snapshot = new InventorySnapshot(true, stacks.clone(), count, slotsFilled);
+        }
+        return snapshot;
+    }
+
+    /**
+     * @return The tick in which this tracker was last updated.
+     */
+    public synchronized long getLastTick() {
+        return lastTick;
+    }
+
+    protected void reset(int slots) {
+        items = new Item[slots];
+        metas = new int[slots];
+        nbtHashes = new int[slots];
+        counts = new int[slots];
+        stacks = new ItemStack[slots];
+        count = 0;
+        slotsFilled = 0;
+        cursor = 0;
+    }
+
+    protected boolean updateSlot(int slot, ItemStack itemStack) {
+        Item item = null;
+        int meta = 0;
+        int nbtHash = 0;
+        int stackSize = 0;
+        if(itemStack != null) {
+            item = itemStack.getItem();
+            meta = itemStack.getMetadata();
+            nbtHash = itemStack.hasTagCompound() ? itemStack.getTagCompound().hashCode() : 0;
+            stackSize = itemStack.stackSize;
+        }
+        boolean filled = stacks[slot] != null;
+        if(filled == (itemStack != null) && items[slot] == item && metas[slot] == meta
+                && nbtHashes[slot] == nbtHash && counts[slot] == stackSize) {
+            return false;
+        }
+        if(filled) {
+            count -= counts[slot];
+            slotsFilled--;
+        }
+        items[slot] = item;
+        metas[slot] = meta;
+        nbtHashes[slot] = nbtHash;
+        counts[slot] = stackSize;
+        // Stacks may be modified in place by their inventory, so the snapshot holds copies.
+        stacks[slot] = itemStack == null ? null : itemStack.copy();
+        if(itemStack != null) {
+            count += stackSize;
+            slotsFilled++;
+        }
+        return true;
+    }
+
+}
@@ -17,6 +17,8 @@ import org.cyclops.integrateddynamics.api.part.aspect.IAspectWrite;
 import org.cyclops.integrateddynamics.api.part.aspect.property.IAspectProperties;
 import org.cyclops.integrateddynamics.api.part.write.IPartStateWriter;
 import org.cyclops.integrateddynamics.api.part.write.IPartTypeWriter;
+import org.cyclops.integrateddynamics.core.evaluate.variable.ValueHelpers;
+import org.cyclops.integrateddynamics.core.network.ParallelNetworkUpdater;
 import org.cyclops.integrateddynamics.part.aspect.AspectBase;
 import org.cyclops.integrateddynamics.part.aspect.Aspects;
 
@@ -47,37 +49,83 @@ public abstract class AspectWriteBase<V extends IValue, T extends IValueType<V>>
 
     @SuppressWarnings("unchecked")
     @Override
-    public <P extends IPartType<P, S>, S extends IPartState<P>> void update(IPartNetwork network, P partType, PartTarget target, S state) {
+    public <P extends IPartType<P, S>, S extends IPartState<P>> void update(IPartNetwork network, final P partType, final PartTarget target, S state) {
         if(partType instanceof IPartTypeWriter && state instanceof IPartStateWriter
                 && ((IPartStateWriter) state).getActiveAspect() == this) {
-            IPartStateWriter writerState = (IPartStateWriter) state;
-            IVariable variable = ((IPartTypeWriter) partType).getActiveVariable(network, target, writerState);
+            final IPartStateWriter writerState = (IPartStateWriter) state;
+            final IVariable variable = ((IPartTypeWriter) partType).getActiveVariable(network, target, writerState);
             if(variable != null
                     && writerState.getErrors(this).isEmpty()
                     && writerState.getActiveAspect().getValueType().correspondsTo(variable.getType())) {
                 if(writerState.isDeactivated() || writerState.checkAndResetFirstTick()) {
-                    writerState.getActiveAspect().onActivate((IPartTypeWriter) partType, target, writerState);
+                    // Activation may change the world, so it is applied in order with the writes.
+                    final IAspectWrite activeAspect = writerState.getActiveAspect();
+                    ParallelNetworkUpdater.mutate(new Runnable() {
+                        @Override
+                        public void run() {
+                            activeAspect.onActivate((IPartTypeWriter) partType, target, writerState);
+                        }
+                    });
                 }
-                try {
-                    write((IPartTypeWriter) partType, target, writerState, variable);
-                } catch (EvaluationException e) {
-                    writerState.addError(this, new L10NHelpers.UnlocalizedString(e.getLocalizedMessage()));
-                    writerState.setDeactivated(true);
+                if(ParallelNetworkUpdater.isParallel()) {
+                    // Evaluate the variable already, so that the delayed write can use the cached value.
+                    try {
+                        variable.getValue();
+                    } catch (EvaluationException e) {
+                        // The error will be handled again when writing.
+                    }
                 }
-            } else if(!((IPartStateWriter) state).isDeactivated()) {
-                ((IPartStateWriter) state).getActiveAspect().onDeactivate((IPartTypeWriter) partType, target, (IPartStateWriter) state);
+                ParallelNetworkUpdater.mutate(new Runnable() {
+                    @Override
+                    public void run() {
+                        try {
+                            if(isRepeatedWrite()) {
+                                write((IPartTypeWriter) partType, target, writerState, variable);
+                            } else {
+                                // Stacks and lists may change in place, so a copy of the written value is remembered.
+                                IValue value = ValueHelpers.snapshot(variable.getValue());
+                                if(!value.equals(writerState.getLastWrittenValue())) {
+                                    write((IPartTypeWriter) partType, target, writerState, variable);
+                                    writerState.setLastWrittenValue(value);
+                                }
+                            }
+                        } catch (EvaluationException e) {
+                            writerState.addError(AspectWriteBase.this, new L10NHelpers.UnlocalizedString(e.getLocalizedMessage()));
+                            writerState.setDeactivated(true);
+                        }
+                    }
+                });
+            } else if(!writerState.isDeactivated()) {
+                final IAspectWrite activeAspect = writerState.getActiveAspect();
+                ParallelNetworkUpdater.mutate(new Runnable() {
+                    @Override
+                    public void run() {
+                        activeAspect.onDeactivate((IPartTypeWriter) partType, target, writerState);
+                    }
+                });
             }
         }
     }
 
+    /**
+     * Writers only write when the value of their variable has changed since their last write,
+     * unless they cause an effect on each write instead of setting a state.
+     * @return If unchanged values should be written again on each update.
+     */
+    public boolean isRepeatedWrite() {
+        return false;
+    }
+
     @Override
     public <P extends IPartTypeWriter<P, S>, S extends IPartStateWriter<P>> void onActivate(P partType, PartTarget target, S state) {
         state.setDeactivated(false);
+        state.setLastWrittenValue(null);
     }
 
     @Override
     public <P extends IPartTypeWriter<P, S>, S extends IPartStateWriter<P>> void onDeactivate(P partType, PartTarget target, S state) {
         state.setDeactivated(true);
+        state.setLastWrittenValue(null);
     }
 
     protected String getUnlocalizedType() {
@@ -2,6 +2,7 @@ package org.cyclops.integrateddynamics.tileentity;
 
 import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
 import net.minecraft.inventory.IInventory;
 import net.minecraft.item.ItemStack;
 import net.minecraft.nbt.NBTTagCompound;
@@ -15,8 +16,10 @@ import org.cyclops.integrateddynamics.core.network.event.VariableContentsUpdated
 import org.cyclops.integrateddynamics.core.tileentity.TileCableConnectableInventory;
 import org.cyclops.integrateddynamics.item.ItemVariable;
 
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Map;
+import java.util.Set;
 
 /**
  * A tile entity used to store variables.
@@ -28,10 +31,13 @@ public class TileVariablestore extends TileCableConnectableInventory implements
     public static final int ROWS = 5;
     public static final int COLS = 9;
     private Map<Integer, IVariableFacade> variableCache = Maps.newHashMap();
+    private final ItemStack[] slotStacks = new ItemStack[ROWS * COLS];
+    private final int[] slotVariableIds = new int[ROWS * COLS];
 
     public TileVariablestore() {
         super(ROWS * COLS, "variables", 1);
         inventory.addDirtyMarkListener(this);
+        Arrays.fill(slotVariableIds, -1);
 
         // Make all sides active for all slots
         Collection<Integer> slots = Lists.newArrayListWithCapacity(getInventory().getSizeInventory());
@@ -51,19 +57,31 @@ public class TileVariablestore extends TileCableConnectableInventory implements
 
     protected void refreshVariables(IInventory inventory) {
         variableCache.clear();
+        Set<Integer> changedVariableIds = Sets.newHashSet();
         for (int i = 0; i < inventory.getSizeInventory(); i++) {
             ItemStack itemStack = inventory.getStackInSlot(i);
+            int variableId = -1;
             if (itemStack != null) {
                 IVariableFacade variableFacade = ItemVariable.getInstance().getVariableFacade(itemStack);
                 if (variableFacade.isValid()) {
                     variableCache.put(variableFacade.getId(), variableFacade);
+                    variableId = variableFacade.getId();
                 }
             }
+            // Only the variables in slots that were modified are signalled as changed.
+            if (!ItemStack.areItemStacksEqual(itemStack, slotStacks[i])) {
+                changedVariableIds.add(slotVariableIds[i]);
+                changedVariableIds.add(variableId);
+                slotStacks[i] = itemStack == null ? null : itemStack.copy();
+                slotVariableIds[i] = variableId;
+            }
         }
+        changedVariableIds.remove(-1);
 
         IPartNetwork network = getNetwork();
-        if(network != null) {
-            network.getEventBus().post(new VariableContentsUpdatedEvent(network));
+        if(network != null && !changedVariableIds.isEmpty()) {
+            network.getVariableDependencyGraph().invalidateVariables();
+            network.getEventBus().post(new VariableContentsUpdatedEvent(network, changedVariableIds));
         }
     }
 
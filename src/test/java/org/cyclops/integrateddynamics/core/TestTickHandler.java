@@ -0,0 +1,182 @@
+package org.cyclops.integrateddynamics.core;
+
+import com.google.common.collect.Lists;
+import net.minecraft.nbt.NBTTagCompound;
+import org.cyclops.integrateddynamics.api.block.cable.ICable;
+import org.cyclops.integrateddynamics.api.network.INetwork;
+import org.cyclops.integrateddynamics.api.network.INetworkElement;
+import org.cyclops.integrateddynamics.api.network.event.INetworkEventBus;
+import org.cyclops.integrateddynamics.api.path.ICablePathElement;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Test the order in which the tick handler updates networks.
+ * @author rubensworks
+ */
+public class TestTickHandler {
+
+    @Test
+    public void testCompletedOrderUnchanged() {
+        DummyNetwork a = new DummyNetwork(true, 0);
+        DummyNetwork b = new DummyNetwork(true, 0);
+        DummyNetwork c = new DummyNetwork(true, 0);
+        List<INetwork<?>> order = TickHandler.update(Lists.<INetwork<?>>newArrayList(a, b, c), 0, 0);
+        assertThat("completed networks keep their order", order, is((List<INetwork<?>>) Lists.<INetwork<?>>newArrayList(a, b, c)));
+        assertThat("a is updated", a.updates, is(1));
+        assertThat("b is updated", b.updates, is(1));
+        assertThat("c is updated", c.updates, is(1));
+    }
+
+    @Test
+    public void testPartlyUpdatedFirst() {
+        DummyNetwork a = new DummyNetwork(true, 0);
+        DummyNetwork b = new DummyNetwork(false, 0);
+        DummyNetwork c = new DummyNetwork(true, 0);
+        List<INetwork<?>> order = TickHandler.update(Lists.<INetwork<?>>newArrayList(a, b, c), 0, 0);
+        assertThat("a partly updated network goes first in the next tick", order, is((List<INetwork<?>>) Lists.<INetwork<?>>newArrayList(b, a, c)));
+    }
+
+    @Test
+    public void testDeferredFirst() {
+        DummyNetwork a = new DummyNetwork(true, 5);
+        DummyNetwork b = new DummyNetwork(true, 0);
+        DummyNetwork c = new DummyNetwork(true, 0);
+        List<INetwork<?>> order = TickHandler.update(Lists.<INetwork<?>>newArrayList(a, b, c), 1000000L, 0);
+        assertThat("deferred networks go first in the next tick", order, is((List<INetwork<?>>) Lists.<INetwork<?>>newArrayList(b, c, a)));
+        assertThat("a is updated", a.updates, is(1));
+        assertThat("b is deferred", b.deferrals, is(1));
+        assertThat("c is deferred", c.deferrals, is(1));
+        assertThat("b is not updated", b.updates, is(0));
+    }
+
+    @Test
+    public void testPartlyUpdatedBeforeDeferred() {
+        DummyNetwork a = new DummyNetwork(false, 5);
+        DummyNetwork b = new DummyNetwork(true, 0);
+        DummyNetwork c = new DummyNetwork(true, 0);
+        List<INetwork<?>> order = TickHandler.update(Lists.<INetwork<?>>newArrayList(a, b, c), 1000000L, 0);
+        assertThat("partly updated and deferred networks keep their order", order, is((List<INetwork<?>>) Lists.<INetwork<?>>newArrayList(a, b, c)));
+    }
+
+    /**
+     * A network that takes a fixed time to update.
+     */
+    public static class DummyNetwork implements INetwork<DummyNetwork> {
+
+        private final boolean completes;
+        private final long duration;
+        public int updates = 0;
+        public int deferrals = 0;
+
+        public DummyNetwork(boolean completes, long duration) {
+            this.completes = completes;
+            this.duration = duration;
+        }
+
+        @Override
+        public INetworkEventBus<DummyNetwork> getEventBus() {
+            return null;
+        }
+
+        @Override
+        public boolean addNetworkElement(INetworkElement<DummyNetwork> element, boolean networkPreinit) {
+            return false;
+        }
+
+        @Override
+        public void addNetworkElementUpdateable(INetworkElement<DummyNetwork> element) {
+
+        }
+
+        @Override
+        public boolean removeNetworkElementPre(INetworkElement<DummyNetwork> element) {
+            return false;
+        }
+
+        @Override
+        public void removeNetworkElementPost(INetworkElement<DummyNetwork> element) {
+
+        }
+
+        @Override
+        public void removeNetworkElementUpdateable(INetworkElement<DummyNetwork> element) {
+
+        }
+
+        @Override
+        public void kill() {
+
+        }
+
+        @Override
+        public boolean killIfEmpty() {
+            return false;
+        }
+
+        @Override
+        public void update() {
+            update(0);
+        }
+
+        @Override
+        public boolean update(long budget) {
+            updates++;
+            if(duration > 0) {
+                try {
+                    Thread.sleep(duration);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            return completes;
+        }
+
+        @Override
+        public void onUpdateDeferred() {
+            deferrals++;
+        }
+
+        @Override
+        public long getDeferredUpdates() {
+            return deferrals;
+        }
+
+        @Override
+        public boolean removeCable(ICable cable, ICablePathElement cablePathElement) {
+            return false;
+        }
+
+        @Override
+        public void afterServerLoad() {
+
+        }
+
+        @Override
+        public void beforeServerStop() {
+
+        }
+
+        @Override
+        public Set<INetworkElement<DummyNetwork>> getElements() {
+            return Collections.emptySet();
+        }
+
+        @Override
+        public NBTTagCompound toNBT() {
+            return new NBTTagCompound();
+        }
+
+        @Override
+        public void fromNBT(NBTTagCompound tag) {
+
+        }
+    }
+
+}
@@ -0,0 +1,102 @@
+package org.cyclops.integrateddynamics.core.evaluate.expression;
+
+import org.cyclops.integrateddynamics.GeneralConfig;
+import org.cyclops.integrateddynamics.api.evaluate.EvaluationException;
+import org.cyclops.integrateddynamics.api.evaluate.operator.IOperator;
+import org.cyclops.integrateddynamics.api.evaluate.variable.IValueType;
+import org.cyclops.integrateddynamics.api.evaluate.variable.IVariable;
+import org.cyclops.integrateddynamics.core.evaluate.operator.Operators;
+import org.cyclops.integrateddynamics.core.evaluate.variable.DummyVariableInteger;
+import org.cyclops.integrateddynamics.core.evaluate.variable.ValueCastMappings;
+import org.cyclops.integrateddynamics.core.evaluate.variable.ValueTypeBoolean;
+import org.cyclops.integrateddynamics.core.evaluate.variable.ValueTypeInteger;
+import org.cyclops.integrateddynamics.core.evaluate.variable.ValueTypeList;
+import org.cyclops.integrateddynamics.core.evaluate.variable.ValueTypeOperator;
+import org.cyclops.integrateddynamics.core.evaluate.variable.ValueTypeString;
+import org.cyclops.integrateddynamics.core.evaluate.variable.ValueTypes;
+import org.cyclops.integrateddynamics.core.evaluate.variable.Variable;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Test the folding of operators over constant inputs.
+ * @author rubensworks
+ */
+public class TestConstantFolding {
+
+    @Before
+    public void before() {
+        ValueCastMappings.load();
+    }
+
+    protected static Variable<ValueTypeInteger.ValueInteger> integer(int value) {
+        return new Variable<>(ValueTypes.INTEGER, ValueTypeInteger.ValueInteger.of(value));
+    }
+
+    protected static Variable<ValueTypeOperator.ValueOperator> operator(IOperator operator) {
+        return new Variable<>(ValueTypes.OPERATOR, ValueTypeOperator.ValueOperator.of(operator));
+    }
+
+    @Test
+    public void testFold() throws EvaluationException {
+        IVariable<ValueTypeInteger.ValueInteger> folded = ConstantFolding.fold(Operators.ARITHMETIC_ADDITION, new IVariable[]{integer(5), integer(3)});
+        assertThat("5 + 3 is folded", folded, instanceOf(Variable.class));
+        assertThat("5 + 3 = 8", folded.getValue().getRawValue(), is(8));
+        assertThat("the folded type is the output type", folded.getType(), is((IValueType) ValueTypes.INTEGER));
+
+        IVariable<ValueTypeString.ValueString> concat = ConstantFolding.fold(Operators.STRING_CONCAT, new IVariable[]{
+                new Variable<>(ValueTypes.STRING, ValueTypeString.ValueString.of("ore")),
+                new Variable<>(ValueTypes.STRING, ValueTypeString.ValueString.of("Iron"))});
+        assertThat("\"ore\" + \"Iron\" = \"oreIron\"", concat.getValue().getRawValue(), is("oreIron"));
+    }
+
+    @Test
+    public void testFoldNested() throws EvaluationException {
+        IVariable<ValueTypeInteger.ValueInteger> inner = ConstantFolding.fold(Operators.ARITHMETIC_ADDITION, new IVariable[]{integer(5), integer(3)});
+        IVariable<ValueTypeBoolean.ValueBoolean> outer = ConstantFolding.fold(Operators.RELATIONAL_LT, new IVariable[]{inner, integer(10)});
+        assertThat("folded inputs are constant", outer, notNullValue());
+        assertThat("5 + 3 < 10", outer.getValue().getRawValue(), is(true));
+    }
+
+    @Test
+    public void testNotFolded() {
+        assertThat("non-constant inputs are not folded", ConstantFolding.fold(Operators.ARITHMETIC_ADDITION, new IVariable[]{
+                integer(5), new DummyVariableInteger(ValueTypeInteger.ValueInteger.of(3))}), nullValue());
+        assertThat("impure operators are not folded", ConstantFolding.fold(Operators.OPERATOR_MAP, new IVariable[]{
+                operator(Operators.INTEGER_INCREMENT), new Variable<>(ValueTypes.LIST, ValueTypeList.ValueList.ofAll(ValueTypeInteger.ValueInteger.of(1)))}),
+                nullValue());
+        assertThat("failing operators are not folded", ConstantFolding.fold(Operators.ARITHMETIC_DIVISION, new IVariable[]{
+                integer(5), integer(0)}), nullValue());
+    }
+
+    @Test
+    public void testNotFoldedDisabled() {
+        GeneralConfig.constantFolding = false;
+        try {
+            assertThat("nothing is folded when disabled", ConstantFolding.fold(Operators.ARITHMETIC_ADDITION,
+                    new IVariable[]{integer(5), integer(3)}), nullValue());
+        } finally {
+            GeneralConfig.constantFolding = true;
+        }
+    }
+
+    @Test
+    public void testFoldCurried() throws EvaluationException {
+        IVariable<ValueTypeOperator.ValueOperator> curried = ConstantFolding.fold(Operators.OPERATOR_APPLY, new IVariable[]{
+                operator(Operators.RELATIONAL_LT), integer(5)});
+        assertThat("applying a constant is folded", curried, notNullValue());
+        assertThat("the curried operator is pure", curried.getValue().getRawValue().isPure(), is(true));
+
+        IVariable<ValueTypeOperator.ValueOperator> negated = ConstantFolding.fold(Operators.OPERATOR_NEGATION, new IVariable[]{curried});
+        assertThat("combining constant operators is folded", negated, notNullValue());
+        assertThat("!(5 < 10)", ((ValueTypeBoolean.ValueBoolean) negated.getValue().getRawValue()
+                .evaluate(new IVariable[]{integer(10)})).getRawValue(), is(false));
+    }
+
+}
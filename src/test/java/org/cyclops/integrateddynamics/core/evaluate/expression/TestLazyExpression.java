@@ -0,0 +1,303 @@
+package org.cyclops.integrateddynamics.core.evaluate.expression;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import org.cyclops.integrateddynamics.api.evaluate.EvaluationException;
+import org.cyclops.integrateddynamics.api.evaluate.expression.ILazyExpressionValueCache;
+import org.cyclops.integrateddynamics.api.evaluate.operator.IOperator;
+import org.cyclops.integrateddynamics.api.evaluate.variable.IChangeTrackingVariable;
+import org.cyclops.integrateddynamics.api.evaluate.variable.IValue;
+import org.cyclops.integrateddynamics.api.evaluate.variable.IValueType;
+import org.cyclops.integrateddynamics.api.evaluate.variable.IVariable;
+import org.cyclops.integrateddynamics.api.evaluate.variable.IVariableInvalidateListener;
+import org.cyclops.integrateddynamics.core.evaluate.operator.Operators;
+import org.cyclops.integrateddynamics.core.evaluate.variable.DummyVariableBoolean;
+import org.cyclops.integrateddynamics.core.evaluate.variable.DummyVariableInteger;
+import org.cyclops.integrateddynamics.core.evaluate.variable.DummyVariableString;
+import org.cyclops.integrateddynamics.core.evaluate.variable.ValueCastMappings;
+import org.cyclops.integrateddynamics.core.evaluate.variable.ValueTypeBoolean;
+import org.cyclops.integrateddynamics.core.evaluate.variable.ValueTypeInteger;
+import org.cyclops.integrateddynamics.core.evaluate.variable.ValueTypeList;
+import org.cyclops.integrateddynamics.core.evaluate.variable.ValueTypeString;
+import org.cyclops.integrateddynamics.core.evaluate.variable.ValueTypes;
+import org.cyclops.integrateddynamics.core.evaluate.variable.Variable;
+import org.cyclops.integrateddynamics.core.evaluate.variable.VariableInvalidateListeners;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Test lazy expressions.
+ * @author rubensworks
+ */
+public class TestLazyExpression {
+
+    private static final int DEPTH = 64;
+
+    private ValueCache cache;
+
+    @Before
+    public void before() {
+        ValueCastMappings.load();
+        cache = new ValueCache();
+    }
+
+    @Test
+    public void testEvaluate() throws EvaluationException {
+        LazyExpression<ValueTypeInteger.ValueInteger> expression = new LazyExpression<>(0, Operators.ARITHMETIC_ADDITION,
+                new IVariable[]{integer(1), integer(2)}, cache);
+        assertThat("1 + 2 = 3", expression.getValue().getRawValue(), is(3));
+        assertThat("the output type is derived from the inputs", expression.getType(), is((IValueType) ValueTypes.INTEGER));
+        assertThat("the value is cached", cache.hasValue(0), is(true));
+    }
+
+    @Test(expected = EvaluationException.class)
+    public void testInvalidTypes() throws EvaluationException {
+        LazyExpression<ValueTypeInteger.ValueInteger> expression = new LazyExpression<>(0, Operators.ARITHMETIC_ADDITION,
+                new IVariable[]{integer(1), new DummyVariableString(ValueTypeString.ValueString.of("a"))}, cache);
+        try {
+            expression.getValue();
+        } finally {
+            assertThat("invalid input types mark the expression as errored", expression.hasErrored(), is(true));
+        }
+    }
+
+    @Test
+    public void testLazy() throws EvaluationException {
+        DummyVariableBoolean right = bool(true);
+        LazyExpression<ValueTypeBoolean.ValueBoolean> expression = new LazyExpression<>(0, Operators.LOGICAL_AND,
+                new IVariable[]{bool(false), right}, cache);
+        assertThat("false && true = false", expression.getValue().getRawValue(), is(false));
+        assertThat("the right operand is not evaluated", right.isFetched(), is(false));
+    }
+
+    @Test
+    public void testDeepTree() throws EvaluationException {
+        IVariable<ValueTypeInteger.ValueInteger> compiled = arithmeticTree(true);
+        IVariable<ValueTypeInteger.ValueInteger> interpreted = arithmeticTree(false);
+        assertThat("compiled and interpreted trees are equal", compiled.getValue().getRawValue(),
+                is(interpreted.getValue().getRawValue()));
+        assertThat("the tree sums all leaves", compiled.getValue().getRawValue(), is(DEPTH + 1));
+    }
+
+    @Test
+    public void testChangeTracked() throws EvaluationException {
+        TrackedVariable<ValueTypeInteger.ValueInteger> a = new TrackedVariable<>(ValueTypes.INTEGER, ValueTypeInteger.ValueInteger.of(1));
+        LazyExpression<ValueTypeInteger.ValueInteger> sum = new LazyExpression<>(0, Operators.ARITHMETIC_ADDITION,
+                new IVariable[]{a, new Variable<>(ValueTypes.INTEGER, ValueTypeInteger.ValueInteger.of(2))}, cache);
+        LazyExpression<ValueTypeBoolean.ValueBoolean> relation = new LazyExpression<>(1, Operators.RELATIONAL_LT,
+                new IVariable[]{sum, new Variable<>(ValueTypes.INTEGER, ValueTypeInteger.ValueInteger.of(5))}, cache);
+        assertThat("the expression is change-tracked", relation.isChangeTracked(), is(true));
+
+        assertThat("1 + 2 < 5", relation.getValue().getRawValue(), is(true));
+        cache.clear();
+        relation.getValue();
+        assertThat("unchanged inputs are not re-evaluated", a.getFetches(), is(1));
+
+        a.setValue(ValueTypeInteger.ValueInteger.of(1));
+        relation.getValue();
+        assertThat("equal values do not invalidate", a.getFetches(), is(1));
+
+        a.setValue(ValueTypeInteger.ValueInteger.of(3));
+        assertThat("changes propagate through nested expressions", relation.getValue().getRawValue(), is(false));
+        assertThat("changed inputs are re-evaluated", a.getFetches(), is(2));
+    }
+
+    @Test
+    public void testNotChangeTracked() throws EvaluationException {
+        LazyExpression<ValueTypeInteger.ValueInteger> expression = new LazyExpression<>(0, Operators.ARITHMETIC_ADDITION,
+                new IVariable[]{integer(1), new Variable<>(ValueTypes.INTEGER, ValueTypeInteger.ValueInteger.of(2))}, cache);
+        assertThat("untracked inputs make the expression untracked", expression.isChangeTracked(), is(false));
+    }
+
+    @Test
+    public void testDeepLogicalTree() throws EvaluationException {
+        IVariable<ValueTypeBoolean.ValueBoolean> compiled = logicalTree(true);
+        IVariable<ValueTypeBoolean.ValueBoolean> interpreted = logicalTree(false);
+        assertThat("both logical trees are equal", compiled.getValue().getRawValue(),
+                is(interpreted.getValue().getRawValue()));
+        assertThat("all relations hold", compiled.getValue().getRawValue(), is(true));
+    }
+
+    @Test
+    public void testValueDependentType() throws EvaluationException {
+        TrackedVariable<ValueTypeList.ValueList> list = new TrackedVariable<>(ValueTypes.LIST,
+                ValueTypeList.ValueList.ofList(ValueTypes.INTEGER, Lists.newArrayList(ValueTypeInteger.ValueInteger.of(1))));
+        LazyExpression<IValue> expression = new LazyExpression<>(0, Operators.LIST_ELEMENT,
+                new IVariable[]{list, new Variable<>(ValueTypes.INTEGER, ValueTypeInteger.ValueInteger.of(0))}, cache);
+        assertThat("the inputs are not evaluated when binding", list.getFetches(), is(0));
+        assertThat("a value-dependent type is not change-tracked", expression.isChangeTracked(), is(false));
+        assertThat("the type is derived from the list", expression.getType(), is((IValueType) ValueTypes.INTEGER));
+
+        list.setValue(ValueTypeList.ValueList.ofList(ValueTypes.STRING, Lists.newArrayList(ValueTypeString.ValueString.of("a"))));
+        assertThat("the type follows the new list", expression.getType(), is((IValueType) ValueTypes.STRING));
+    }
+
+    @Test
+    public void testValueDependentInputType() throws EvaluationException {
+        TrackedVariable<ValueTypeList.ValueList> list = new TrackedVariable<>(ValueTypes.LIST,
+                ValueTypeList.ValueList.ofList(ValueTypes.INTEGER, Lists.newArrayList(ValueTypeInteger.ValueInteger.of(1))));
+        LazyExpression<IValue> element = new LazyExpression<>(0, Operators.LIST_ELEMENT,
+                new IVariable[]{list, new Variable<>(ValueTypes.INTEGER, ValueTypeInteger.ValueInteger.of(0))}, cache);
+        LazyExpression<ValueTypeInteger.ValueInteger> sum = new LazyExpression<>(1, Operators.ARITHMETIC_ADDITION,
+                new IVariable[]{element, integer(1)}, cache);
+        assertThat("the inputs are not evaluated when binding", list.getFetches(), is(0));
+        assertThat("1 + 1 = 2", sum.getValue().getRawValue(), is(2));
+
+        cache.clear();
+        list.setValue(ValueTypeList.ValueList.ofList(ValueTypes.STRING, Lists.newArrayList(ValueTypeString.ValueString.of("a"))));
+        boolean invalid = false;
+        try {
+            sum.getValue();
+        } catch (EvaluationException e) {
+            invalid = true;
+        }
+        assertThat("the changed input type is validated", invalid, is(true));
+
+        cache.clear();
+        list.setValue(ValueTypeList.ValueList.ofList(ValueTypes.INTEGER, Lists.newArrayList(ValueTypeInteger.ValueInteger.of(5))));
+        assertThat("5 + 1 = 6", sum.getValue().getRawValue(), is(6));
+    }
+
+    protected IVariable<ValueTypeInteger.ValueInteger> arithmeticTree(boolean compiled) {
+        IVariable<ValueTypeInteger.ValueInteger> variable = integer(1);
+        for(int i = 0; i < DEPTH; i++) {
+            variable = node(compiled, i, Operators.ARITHMETIC_ADDITION, variable, integer(1));
+        }
+        return variable;
+    }
+
+    protected IVariable<ValueTypeBoolean.ValueBoolean> logicalTree(boolean compiled) {
+        IVariable<ValueTypeBoolean.ValueBoolean> variable = bool(true);
+        for(int i = 0; i < DEPTH; i++) {
+            IVariable<ValueTypeBoolean.ValueBoolean> relation = node(compiled, DEPTH + 2 * i,
+                    Operators.RELATIONAL_LT, integer(i), integer(i + 1));
+            variable = node(compiled, DEPTH + 2 * i + 1, Operators.LOGICAL_AND, relation, variable);
+        }
+        return variable;
+    }
+
+    protected <V extends IValue> IVariable<V> node(boolean compiled, int id, IOperator operator, IVariable... input) {
+        return compiled ? new LazyExpression<V>(id, operator, input, cache) : new InterpretedExpression<V>(id, operator, input, cache);
+    }
+
+    protected static DummyVariableInteger integer(int value) {
+        return new DummyVariableInteger(ValueTypeInteger.ValueInteger.of(value));
+    }
+
+    protected static DummyVariableBoolean bool(boolean value) {
+        return new DummyVariableBoolean(ValueTypeBoolean.ValueBoolean.of(value));
+    }
+
+    /**
+     * A variable that notifies its listeners when its value is changed.
+     */
+    public static class TrackedVariable<V extends IValue> implements IChangeTrackingVariable<V> {
+
+        private final IValueType<V> type;
+        private final VariableInvalidateListeners listeners = new VariableInvalidateListeners();
+        private V value;
+        private int fetches = 0;
+
+        public TrackedVariable(IValueType<V> type, V value) {
+            this.type = type;
+            this.value = value;
+        }
+
+        @Override
+        public IValueType<V> getType() {
+            return type;
+        }
+
+        @Override
+        public V getValue() {
+            fetches++;
+            return value;
+        }
+
+        public void setValue(V value) {
+            boolean changed = !value.equals(this.value);
+            this.value = value;
+            if(changed) {
+                listeners.invalidate();
+            }
+        }
+
+        public int getFetches() {
+            return fetches;
+        }
+
+        @Override
+        public boolean isChangeTracked() {
+            return true;
+        }
+
+        @Override
+        public void addInvalidationListener(IVariableInvalidateListener listener) {
+            listeners.add(listener);
+        }
+    }
+
+    /**
+     * An expression that validates and evaluates its operator on every evaluation,
+     * as lazy expressions did before they were compiled.
+     */
+    public static class InterpretedExpression<V extends IValue> implements IVariable<V> {
+
+        private final int id;
+        private final IOperator op;
+        private final IVariable[] input;
+        private final ILazyExpressionValueCache valueCache;
+
+        public InterpretedExpression(int id, IOperator op, IVariable[] input, ILazyExpressionValueCache valueCache) {
+            this.id = id;
+            this.op = op;
+            this.input = input;
+            this.valueCache = valueCache;
+        }
+
+        @Override
+        public IValueType<V> getType() {
+            return op.getConditionalOutputType(input);
+        }
+
+        @Override
+        public V getValue() throws EvaluationException {
+            if(valueCache.hasValue(id)) {
+                return (V) valueCache.getValue(id);
+            }
+            IValue value = op.evaluate(input);
+            valueCache.setValue(id, value);
+            return (V) value;
+        }
+    }
+
+    public static class ValueCache implements ILazyExpressionValueCache {
+
+        private final Map<Integer, IValue> values = Maps.newHashMap();
+
+        @Override
+        public void setValue(int id, IValue value) {
+            values.put(id, value);
+        }
+
+        @Override
+        public boolean hasValue(int id) {
+            return values.containsKey(id);
+        }
+
+        @Override
+        public IValue getValue(int id) {
+            return values.get(id);
+        }
+
+        public void clear() {
+            values.clear();
+        }
+    }
+
+}
@@ -0,0 +1,108 @@
+package org.cyclops.integrateddynamics.core.evaluate.expression;
+
+import org.cyclops.integrateddynamics.api.evaluate.EvaluationException;
+import org.cyclops.integrateddynamics.api.evaluate.expression.IExpression;
+import org.cyclops.integrateddynamics.api.evaluate.variable.IVariable;
+import org.cyclops.integrateddynamics.core.evaluate.operator.Operators;
+import org.cyclops.integrateddynamics.core.evaluate.variable.DummyVariableInteger;
+import org.cyclops.integrateddynamics.core.evaluate.variable.DummyVariableString;
+import org.cyclops.integrateddynamics.core.evaluate.variable.ValueCastMappings;
+import org.cyclops.integrateddynamics.core.evaluate.variable.ValueTypeInteger;
+import org.cyclops.integrateddynamics.core.evaluate.variable.ValueTypeString;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Test the sharing of bound expressions.
+ * @author rubensworks
+ */
+public class TestSharedExpressionCache {
+
+    private TestLazyExpression.ValueCache valueCache;
+    private SharedExpressionCache cache;
+    private DummyVariableInteger i1;
+    private DummyVariableInteger i2;
+
+    @Before
+    public void before() {
+        ValueCastMappings.load();
+        valueCache = new TestLazyExpression.ValueCache();
+        cache = new SharedExpressionCache(valueCache);
+        i1 = new DummyVariableInteger(ValueTypeInteger.ValueInteger.of(1));
+        i2 = new DummyVariableInteger(ValueTypeInteger.ValueInteger.of(2));
+    }
+
+    @Test
+    public void testShared() {
+        SharedExpressionCache.FacadeExpression a = cache.getExpression(0, Operators.ARITHMETIC_ADDITION, new IVariable[]{i1, i2});
+        SharedExpressionCache.FacadeExpression b = cache.getExpression(1, Operators.ARITHMETIC_ADDITION, new IVariable[]{i1, i2});
+        assertThat("the same operator over the same inputs is shared", a.getExpression(), sameInstance(b.getExpression()));
+        assertThat("each facade has its own view", a.getId(), is(0));
+        assertThat("each facade has its own view", b.getId(), is(1));
+        assertThat("there was one miss", cache.getMisses(), is(1L));
+        assertThat("there was one hit", cache.getHits(), is(1L));
+    }
+
+    @Test
+    public void testDistinct() {
+        IExpression a = cache.getExpression(0, Operators.ARITHMETIC_ADDITION, new IVariable[]{i1, i2}).getExpression();
+        IExpression b = cache.getExpression(1, Operators.ARITHMETIC_ADDITION, new IVariable[]{i2, i1}).getExpression();
+        IExpression c = cache.getExpression(2, Operators.ARITHMETIC_MULTIPLICATION, new IVariable[]{i1, i2}).getExpression();
+        IExpression d = cache.getExpression(3, Operators.ARITHMETIC_ADDITION,
+                new IVariable[]{i1, new DummyVariableInteger(ValueTypeInteger.ValueInteger.of(2))}).getExpression();
+        assertThat("other input orders are not shared", a, not(sameInstance(b)));
+        assertThat("other operators are not shared", a, not(sameInstance(c)));
+        assertThat("equal but distinct inputs are not shared", a, not(sameInstance(d)));
+        assertThat("there were no hits", cache.getHits(), is(0L));
+    }
+
+    @Test
+    public void testNested() throws EvaluationException {
+        SharedExpressionCache.FacadeExpression a = cache.getExpression(0, Operators.ARITHMETIC_ADDITION, new IVariable[]{
+                cache.getExpression(1, Operators.ARITHMETIC_ADDITION, new IVariable[]{i1, i2}), i2});
+        SharedExpressionCache.FacadeExpression b = cache.getExpression(2, Operators.ARITHMETIC_ADDITION, new IVariable[]{
+                cache.getExpression(3, Operators.ARITHMETIC_ADDITION, new IVariable[]{i1, i2}), i2});
+        assertThat("identical subtrees are shared", a.getExpression(), sameInstance(b.getExpression()));
+        assertThat("(1 + 2) + 2 = 5", ((ValueTypeInteger.ValueInteger) a.getValue()).getRawValue(), is(5));
+    }
+
+    @Test
+    public void testErroredReplaced() {
+        IVariable[] input = new IVariable[]{i1, new DummyVariableString(ValueTypeString.ValueString.of("a"))};
+        IExpression a = cache.getExpression(0, Operators.ARITHMETIC_ADDITION, input);
+        try {
+            a.getValue();
+        } catch (EvaluationException e) {
+            // Expected
+        }
+        IExpression b = cache.getExpression(0, Operators.ARITHMETIC_ADDITION, input);
+        assertThat("errored expressions are replaced", ((SharedExpressionCache.FacadeExpression) a).getExpression(),
+                not(sameInstance(((SharedExpressionCache.FacadeExpression) b).getExpression())));
+    }
+
+    @Test
+    public void testErrorAttributedToFacade() {
+        IVariable[] input = new IVariable[]{i1, new DummyVariableString(ValueTypeString.ValueString.of("a"))};
+        IExpression a = cache.getExpression(0, Operators.ARITHMETIC_ADDITION, input);
+        IExpression b = cache.getExpression(1, Operators.ARITHMETIC_ADDITION, input);
+        try {
+            a.getValue();
+        } catch (EvaluationException e) {
+            // Expected
+        }
+        assertThat("the evaluating facade has errored", a.hasErrored(), is(true));
+        assertThat("the other facade has not errored", b.hasErrored(), is(false));
+    }
+
+    @Test
+    public void testOwnValueCacheId() throws EvaluationException {
+        cache.getExpression(5, Operators.ARITHMETIC_ADDITION, new IVariable[]{i1, i2}).getValue();
+        assertThat("the value is not cached under the id of the facade", valueCache.hasValue(5), is(false));
+    }
+
+}
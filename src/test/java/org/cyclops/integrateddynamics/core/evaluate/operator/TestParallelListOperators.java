@@ -0,0 +1,157 @@
+package org.cyclops.integrateddynamics.core.evaluate.operator;
+
+import com.google.common.collect.Lists;
+import org.cyclops.integrateddynamics.GeneralConfig;
+import org.cyclops.integrateddynamics.api.evaluate.EvaluationException;
+import org.cyclops.integrateddynamics.api.evaluate.operator.IOperator;
+import org.cyclops.integrateddynamics.api.evaluate.variable.IValue;
+import org.cyclops.integrateddynamics.api.evaluate.variable.IVariable;
+import org.cyclops.integrateddynamics.core.evaluate.variable.DummyVariableInteger;
+import org.cyclops.integrateddynamics.core.evaluate.variable.DummyVariableList;
+import org.cyclops.integrateddynamics.core.evaluate.variable.DummyVariableOperator;
+import org.cyclops.integrateddynamics.core.evaluate.variable.ValueCastMappings;
+import org.cyclops.integrateddynamics.core.evaluate.variable.ValueTypeDouble;
+import org.cyclops.integrateddynamics.core.evaluate.variable.ValueTypeInteger;
+import org.cyclops.integrateddynamics.core.evaluate.variable.ValueTypeList;
+import org.cyclops.integrateddynamics.core.evaluate.variable.ValueTypeListProxyFactories;
+import org.cyclops.integrateddynamics.core.evaluate.variable.ValueTypeListProxyMaterialized;
+import org.cyclops.integrateddynamics.core.evaluate.variable.ValueTypeOperator;
+import org.cyclops.integrateddynamics.core.evaluate.variable.ValueTypes;
+import org.cyclops.integrateddynamics.core.evaluate.variable.Variable;
+import org.junit.After;
+import org.junit.Assume;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Test the parallel evaluation of list operators.
+ * @author rubensworks
+ */
+public class TestParallelListOperators {
+
+    private int threshold;
+    private DummyVariableOperator oIntegerIncrement;
+    private DummyVariableOperator oArithmeticAddition;
+    private DummyVariableOperator oGreaterThan;
+
+    @Before
+    public void before() throws EvaluationException {
+        ValueCastMappings.load();
+        ValueTypeListProxyFactories.load();
+        threshold = GeneralConfig.parallelListThreshold;
+
+        oIntegerIncrement = new DummyVariableOperator(ValueTypeOperator.ValueOperator.of(Operators.INTEGER_INCREMENT));
+        oArithmeticAddition = new DummyVariableOperator(ValueTypeOperator.ValueOperator.of(Operators.ARITHMETIC_ADDITION));
+        oGreaterThan = new DummyVariableOperator((ValueTypeOperator.ValueOperator) Operators.OPERATOR_APPLY.evaluate(
+                new IVariable[]{new DummyVariableOperator(ValueTypeOperator.ValueOperator.of(Operators.RELATIONAL_LT)),
+                        new Variable<>(ValueTypes.INTEGER, ValueTypeInteger.ValueInteger.of(100))}));
+    }
+
+    @After
+    public void after() {
+        GeneralConfig.parallelListThreshold = threshold;
+    }
+
+    protected static DummyVariableList integers(int size) {
+        List<ValueTypeInteger.ValueInteger> values = Lists.newArrayListWithExpectedSize(size);
+        for(int i = 0; i < size; i++) {
+            values.add(ValueTypeInteger.ValueInteger.of(i));
+        }
+        return new DummyVariableList(ValueTypeList.ValueList.ofList(ValueTypes.INTEGER, values));
+    }
+
+    protected IValue pipeline(DummyVariableList list) throws EvaluationException {
+        IValue mapped = Operators.OPERATOR_MAP.evaluate(new IVariable[]{oIntegerIncrement, list});
+        IValue filtered = Operators.OPERATOR_FILTER.evaluate(new IVariable[]{oGreaterThan, new DummyVariableList((ValueTypeList.ValueList) mapped)});
+        return Operators.OPERATOR_REDUCE.evaluate(new IVariable[]{oArithmeticAddition, new DummyVariableList((ValueTypeList.ValueList) filtered),
+                new DummyVariableInteger(ValueTypeInteger.ValueInteger.of(0))});
+    }
+
+    protected IValue sequentialPipeline(DummyVariableList list) throws EvaluationException {
+        GeneralConfig.parallelListThreshold = 0;
+        try {
+            return pipeline(list);
+        } finally {
+            GeneralConfig.parallelListThreshold = 1;
+        }
+    }
+
+    @Test
+    public void testPure() throws EvaluationException {
+        assertThat("arithmetic operators are pure", Operators.ARITHMETIC_ADDITION.isPure(), is(true));
+        assertThat("entity operators are not pure", Operators.OBJECT_ENTITY_HEALTH.isPure(), is(false));
+        assertThat("higher order operators are not pure", Operators.OPERATOR_MAP.isPure(), is(false));
+        assertThat("operators applied to constants are pure", oGreaterThan.getValue().getRawValue().isPure(), is(true));
+        IOperator appliedToVariable = ((ValueTypeOperator.ValueOperator) Operators.OPERATOR_APPLY.evaluate(
+                new IVariable[]{new DummyVariableOperator(ValueTypeOperator.ValueOperator.of(Operators.RELATIONAL_LT)),
+                        new DummyVariableInteger(ValueTypeInteger.ValueInteger.of(100))})).getRawValue();
+        assertThat("operators applied to other variables are not pure", appliedToVariable.isPure(), is(false));
+    }
+
+    @Test
+    public void testPipeline() throws EvaluationException {
+        GeneralConfig.parallelListThreshold = 1;
+        DummyVariableList list = integers(10000);
+        assertThat("parallel and sequential results are equal", pipeline(list), is(sequentialPipeline(list)));
+    }
+
+    @Test
+    public void testMapMaterialized() throws EvaluationException {
+        Assume.assumeTrue(Runtime.getRuntime().availableProcessors() > 1);
+        GeneralConfig.parallelListThreshold = 1;
+        ValueTypeList.ValueList mapped = (ValueTypeList.ValueList) Operators.OPERATOR_MAP.evaluate(
+                new IVariable[]{oIntegerIncrement, integers(5000)});
+        assertThat("large lists are mapped eagerly", mapped.getRawValue(), instanceOf(ValueTypeListProxyMaterialized.class));
+        assertThat("map([0..], ++)[4999] == 5000", ((ValueTypeInteger.ValueInteger) mapped.getRawValue().get(4999)).getRawValue(), is(5000));
+    }
+
+    @Test
+    public void testReduceOrder() throws EvaluationException {
+        GeneralConfig.parallelListThreshold = 1;
+        IValue reduced = Operators.OPERATOR_REDUCE.evaluate(new IVariable[]{
+                new DummyVariableOperator(ValueTypeOperator.ValueOperator.of(Operators.ARITHMETIC_SUBTRACTION)),
+                integers(5000), new DummyVariableInteger(ValueTypeInteger.ValueInteger.of(0))});
+        assertThat("non-associative operators are reduced from left to right",
+                ((ValueTypeInteger.ValueInteger) reduced).getRawValue(), is(-(4999 * 5000 / 2)));
+    }
+
+    @Test(expected = EvaluationException.class)
+    public void testError() throws EvaluationException {
+        GeneralConfig.parallelListThreshold = 1;
+        IOperator divide = ((ValueTypeOperator.ValueOperator) Operators.OPERATOR_APPLY.evaluate(
+                new IVariable[]{new DummyVariableOperator(ValueTypeOperator.ValueOperator.of(Operators.ARITHMETIC_DIVISION)),
+                        new Variable<>(ValueTypes.INTEGER, ValueTypeInteger.ValueInteger.of(1))})).getRawValue();
+        ((ValueTypeList.ValueList) Operators.OPERATOR_MAP.evaluate(new IVariable[]{
+                new DummyVariableOperator(ValueTypeOperator.ValueOperator.of(divide)), integers(5000)})).getRawValue().get(0);
+    }
+
+    @Test
+    public void testReduceDoublesSequential() throws EvaluationException {
+        Assume.assumeTrue(Runtime.getRuntime().availableProcessors() > 1);
+        GeneralConfig.parallelListThreshold = 1;
+        List<ValueTypeDouble.ValueDouble> doubles = Lists.newArrayListWithExpectedSize(5000);
+        for(int i = 0; i < 5000; i++) {
+            doubles.add(ValueTypeDouble.ValueDouble.of(0.1D * i));
+        }
+        ValueTypeList.ValueList doubleList = ValueTypeList.ValueList.ofList(ValueTypes.DOUBLE, doubles);
+        assertThat("doubles are not reduced in parallel", ParallelListOperators.canReduce(Operators.ARITHMETIC_ADDITION,
+                doubleList.getRawValue(), ValueTypeDouble.ValueDouble.of(0D)), is(false));
+        assertThat("integers are reduced in parallel", ParallelListOperators.canReduce(Operators.ARITHMETIC_ADDITION,
+                integers(5000).getValue().getRawValue(), ValueTypeInteger.ValueInteger.of(0)), is(true));
+
+        double expected = 0D;
+        for(ValueTypeDouble.ValueDouble value : doubles) {
+            expected += value.getRawValue();
+        }
+        IValue reduced = Operators.OPERATOR_REDUCE.evaluate(new IVariable[]{oArithmeticAddition,
+                new DummyVariableList(doubleList), new Variable<>(ValueTypes.DOUBLE, ValueTypeDouble.ValueDouble.of(0D))});
+        assertThat("doubles are summed from left to right", ((ValueTypeDouble.ValueDouble) reduced).getRawValue(), is(expected));
+    }
+
+}
@@ -0,0 +1,101 @@
+package org.cyclops.integrateddynamics.core.evaluate.variable;
+
+import com.google.common.collect.Lists;
+import org.cyclops.integrateddynamics.api.evaluate.EvaluationException;
+import org.cyclops.integrateddynamics.api.evaluate.variable.IValue;
+import org.cyclops.integrateddynamics.api.evaluate.variable.IValueType;
+import org.cyclops.integrateddynamics.api.evaluate.variable.IVariable;
+import org.cyclops.integrateddynamics.core.evaluate.operator.Operators;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Test the value hashes and the hash-indexed membership of materialized lists.
+ * @author rubensworks
+ */
+public class TestListMembership {
+
+    private static final int SIZE = 5000;
+
+    @Before
+    public void before() {
+        ValueCastMappings.load();
+        ValueTypeListProxyFactories.load();
+    }
+
+    protected static ValueTypeListProxyMaterialized<IValueType<IValue>, IValue> strings(int size) {
+        List<IValue> values = Lists.newArrayListWithExpectedSize(size);
+        for(int i = 0; i < size; i++) {
+            values.add(ValueTypeString.ValueString.of("item" + i));
+        }
+        return new ValueTypeListProxyMaterialized<>((IValueType) ValueTypes.STRING, values);
+    }
+
+    protected static boolean contains(ValueTypeListProxyMaterialized<IValueType<IValue>, IValue> list, IValue value) throws EvaluationException {
+        return ((ValueTypeBoolean.ValueBoolean) Operators.LIST_CONTAINS.evaluate(new IVariable[]{
+                new DummyVariableList(ValueTypeList.ValueList.ofFactory(list)), new DummyVariable<>(value.getType(), value)})).getRawValue();
+    }
+
+    @Test
+    public void testHashes() {
+        assertThat("equal integers have equal hashes", ValueTypeInteger.ValueInteger.of(100000).hashCode(),
+                is(ValueTypeInteger.ValueInteger.of(100000).hashCode()));
+        assertThat("equal longs have equal hashes", ValueTypeLong.ValueLong.of(1L << 40).hashCode(),
+                is(ValueTypeLong.ValueLong.of(1L << 40).hashCode()));
+        assertThat("zero equals negative zero", ValueTypeDouble.ValueDouble.of(0D), is(ValueTypeDouble.ValueDouble.of(-0D)));
+        assertThat("zero and negative zero have equal hashes", ValueTypeDouble.ValueDouble.of(0D).hashCode(),
+                is(ValueTypeDouble.ValueDouble.of(-0D).hashCode()));
+        assertThat("equal strings have equal hashes", ValueTypeString.ValueString.of("abc").hashCode(),
+                is(ValueTypeString.ValueString.of("abc").hashCode()));
+        assertThat("equal operators have equal hashes", ValueTypeOperator.ValueOperator.of(Operators.LOGICAL_AND).hashCode(),
+                is(ValueTypeOperator.ValueOperator.of(Operators.LOGICAL_AND).hashCode()));
+        assertThat("equal lists have equal hashes", ValueTypeList.ValueList.ofFactory(strings(10)).hashCode(),
+                is(ValueTypeList.ValueList.ofFactory(strings(10)).hashCode()));
+    }
+
+    @Test
+    public void testContainsIndexed() throws EvaluationException {
+        ValueTypeListProxyMaterialized<IValueType<IValue>, IValue> list = strings(SIZE);
+        assertThat("contains(list, item0) == true", contains(list, ValueTypeString.ValueString.of("item0")), is(true));
+        assertThat("contains(list, item4999) == true", contains(list, ValueTypeString.ValueString.of("item4999")), is(true));
+        assertThat("contains(list, item5000) == false", contains(list, ValueTypeString.ValueString.of("item5000")), is(false));
+        assertThat("contains(list, 0) == false", contains(list, ValueTypeInteger.ValueInteger.of(0)), is(false));
+    }
+
+    @Test
+    public void testContainsShort() throws EvaluationException {
+        ValueTypeListProxyMaterialized<IValueType<IValue>, IValue> list = strings(3);
+        assertThat("contains(list, item2) == true", contains(list, ValueTypeString.ValueString.of("item2")), is(true));
+        assertThat("contains(list, item3) == false", contains(list, ValueTypeString.ValueString.of("item3")), is(false));
+    }
+
+    @Test
+    public void testIndexedMatchesScan() throws EvaluationException {
+        ValueTypeListProxyMaterialized<IValueType<IValue>, IValue> list = strings(SIZE);
+        IValue[] values = new IValue[]{
+                ValueTypeString.ValueString.of("item0"),
+                ValueTypeString.ValueString.of("item" + (SIZE - 1)),
+                ValueTypeString.ValueString.of("item" + SIZE),
+                ValueTypeInteger.ValueInteger.of(0),
+        };
+        for(IValue value : values) {
+            assertThat("indexed membership of " + value + " equals a linear scan", list.contains(value), is(scan(list, value)));
+        }
+    }
+
+    protected static boolean scan(ValueTypeListProxyMaterialized<IValueType<IValue>, IValue> list, IValue value) throws EvaluationException {
+        int length = list.getLength();
+        for(int i = 0; i < length; i++) {
+            if(list.get(i).equals(value)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+}
@@ -0,0 +1,237 @@
+package org.cyclops.integrateddynamics.core.evaluate.variable;
+
+import com.google.common.collect.Lists;
+import org.cyclops.integrateddynamics.GeneralConfig;
+import org.cyclops.integrateddynamics.api.evaluate.EvaluationException;
+import org.cyclops.integrateddynamics.api.evaluate.operator.IOperator;
+import org.cyclops.integrateddynamics.api.evaluate.variable.IValue;
+import org.cyclops.integrateddynamics.api.evaluate.variable.IValueType;
+import org.cyclops.integrateddynamics.api.evaluate.variable.IValueTypeListProxy;
+import org.cyclops.integrateddynamics.api.evaluate.variable.IVariable;
+import org.cyclops.integrateddynamics.core.TickHandler;
+import org.cyclops.integrateddynamics.core.evaluate.operator.Operators;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Test chained list operators, which are traversed in a single pass.
+ * @author rubensworks
+ */
+public class TestListPipelines {
+
+    private static final int SIZE = 5000;
+
+    private DummyVariableOperator oIntegerIncrement;
+    private DummyVariableOperator oArithmeticAddition;
+    private DummyVariableOperator oGreaterThanHalf;
+    private DummyVariableInteger i0;
+
+    @Before
+    public void before() throws EvaluationException {
+        ValueCastMappings.load();
+        ValueTypeListProxyFactories.load();
+
+        oIntegerIncrement = new DummyVariableOperator(ValueTypeOperator.ValueOperator.of(Operators.INTEGER_INCREMENT));
+        oArithmeticAddition = new DummyVariableOperator(ValueTypeOperator.ValueOperator.of(Operators.ARITHMETIC_ADDITION));
+        oGreaterThanHalf = greaterThan(SIZE / 2);
+        i0 = new DummyVariableInteger(ValueTypeInteger.ValueInteger.of(0));
+    }
+
+    protected static DummyVariableOperator greaterThan(int value) throws EvaluationException {
+        return new DummyVariableOperator((ValueTypeOperator.ValueOperator) Operators.OPERATOR_APPLY.evaluate(
+                new IVariable[]{new DummyVariableOperator(ValueTypeOperator.ValueOperator.of(Operators.RELATIONAL_LT)),
+                        new DummyVariableInteger(ValueTypeInteger.ValueInteger.of(value))}));
+    }
+
+    protected static CountingList integers(int size) {
+        List<ValueTypeInteger.ValueInteger> values = Lists.newArrayListWithExpectedSize(size);
+        for(int i = 0; i < size; i++) {
+            values.add(ValueTypeInteger.ValueInteger.of(i));
+        }
+        return new CountingList(values);
+    }
+
+    protected static DummyVariableList list(IValueTypeListProxy proxy) {
+        return new DummyVariableList(ValueTypeList.ValueList.ofFactory(proxy));
+    }
+
+    protected IValue pipeline(IVariable list) throws EvaluationException {
+        IValue mapped = Operators.OPERATOR_MAP.evaluate(new IVariable[]{oIntegerIncrement, list});
+        IValue filtered = Operators.OPERATOR_FILTER.evaluate(new IVariable[]{oGreaterThanHalf, new DummyVariableList((ValueTypeList.ValueList) mapped)});
+        return Operators.OPERATOR_REDUCE.evaluate(new IVariable[]{oArithmeticAddition, new DummyVariableList((ValueTypeList.ValueList) filtered), i0});
+    }
+
+    /**
+     * Evaluate the same chain by materializing the intermediate lists, as the list operators did before.
+     */
+    protected IValue materializedPipeline(IValueTypeListProxy<IValueType<IValue>, IValue> list) throws EvaluationException {
+        IOperator increment = Operators.INTEGER_INCREMENT;
+        IOperator greaterThanHalf = ((ValueTypeOperator.ValueOperator) oGreaterThanHalf.getValue()).getRawValue();
+        List<IValue> filtered = Lists.newArrayList();
+        for(IValue value : new ValueTypeListProxyOperatorMapped(increment, list)) {
+            if(((ValueTypeBoolean.ValueBoolean) ValueHelpers.evaluateOperator(greaterThanHalf, value)).getRawValue()) {
+                filtered.add(value);
+            }
+        }
+        IValue accumulator = i0.getValue();
+        for(IValue value : new ValueTypeListProxyMaterialized<IValueType<IValue>, IValue>((IValueType) ValueTypes.INTEGER, filtered)) {
+            accumulator = ValueHelpers.evaluateOperator(Operators.ARITHMETIC_ADDITION, accumulator, value);
+        }
+        return accumulator;
+    }
+
+    @Test
+    public void testMapFilterReduce() throws EvaluationException {
+        CountingList list = integers(SIZE);
+        IValue result = pipeline(list(list));
+        assertThat("the chain is traversed once", list.getRetrievals(), is(SIZE));
+        assertThat("the chained result equals the materialized result", result, is(materializedPipeline(list)));
+    }
+
+    @Test
+    public void testFilterIndexed() throws EvaluationException {
+        CountingList list = integers(10);
+        IValue filtered = Operators.OPERATOR_FILTER.evaluate(new IVariable[]{greaterThan(5), list(list)});
+        IValueTypeListProxy proxy = ((ValueTypeList.ValueList) filtered).getRawValue();
+        assertThat("the filter is lazy", list.getRetrievals(), is(0));
+        assertThat("length(filter([0..9], 5<)) == 4", proxy.getLength(), is(4));
+        assertThat("filter([0..9], 5<)[0] == 6", ((ValueTypeInteger.ValueInteger) proxy.get(0)).getRawValue(), is(6));
+        assertThat("the filtered elements are collected once", list.getRetrievals(), is(10));
+    }
+
+    @Test
+    public void testFilterSingleView() throws EvaluationException {
+        List<IValue> values = Lists.newArrayList();
+        for(int i = 0; i < 10; i++) {
+            values.add(ValueTypeInteger.ValueInteger.of(i));
+        }
+        IValue filtered = Operators.OPERATOR_FILTER.evaluate(new IVariable[]{greaterThan(5), list(new CountingList(values))});
+        IValueTypeListProxy<IValueType<IValue>, IValue> proxy = ((ValueTypeList.ValueList) filtered).getRawValue();
+        final List<IValue> visited = Lists.newArrayList();
+        ValueTypeListProxyBase.visit(proxy, new IListElementVisitor<IValue>() {
+            @Override
+            public boolean visit(IValue value) throws EvaluationException {
+                visited.add(value);
+                return true;
+            }
+        });
+        values.add(ValueTypeInteger.ValueInteger.of(20));
+        assertThat("visiting shows 4 elements", visited.size(), is(4));
+        assertThat("later changes of the underlying list are not shown", proxy.getLength(), is(4));
+    }
+
+    @Test
+    public void testFilterSerialize() throws EvaluationException {
+        IValue mapped = Operators.OPERATOR_MAP.evaluate(new IVariable[]{oIntegerIncrement, list(integers(10))});
+        ValueTypeList.ValueList filtered = (ValueTypeList.ValueList) Operators.OPERATOR_FILTER.evaluate(
+                new IVariable[]{greaterThan(5), new DummyVariableList((ValueTypeList.ValueList) mapped)});
+        assertThat("filtered lists are serialized as materialized lists",
+                ValueTypes.LIST.serialize(filtered), is("materialized;valuetype.valuetypes.integrateddynamics.integer.name\\;6\\;7\\;8\\;9\\;10"));
+        assertThat("filtered lists can be deserialized", ValueTypes.LIST.deserialize(ValueTypes.LIST.serialize(filtered)), is(filtered));
+    }
+
+    @Test
+    public void testContainsShortCircuit() throws EvaluationException {
+        CountingList list = integers(SIZE);
+        IValue mapped = Operators.OPERATOR_MAP.evaluate(new IVariable[]{oIntegerIncrement, list(list)});
+        IValue result = Operators.LIST_CONTAINS.evaluate(new IVariable[]{new DummyVariableList((ValueTypeList.ValueList) mapped),
+                new DummyVariableInteger(ValueTypeInteger.ValueInteger.of(10))});
+        assertThat("contains(map([0..], ++), 10) == true", ((ValueTypeBoolean.ValueBoolean) result).getRawValue(), is(true));
+        assertThat("the traversal stops at the first match", list.getRetrievals(), is(10));
+    }
+
+    @Test
+    public void testFilteredContainsShortCircuit() throws EvaluationException {
+        CountingList list = integers(SIZE);
+        IValue mapped = Operators.OPERATOR_MAP.evaluate(new IVariable[]{oIntegerIncrement, list(list)});
+        IValue filtered = Operators.OPERATOR_FILTER.evaluate(new IVariable[]{oGreaterThanHalf, new DummyVariableList((ValueTypeList.ValueList) mapped)});
+        IValue result = Operators.LIST_CONTAINS.evaluate(new IVariable[]{new DummyVariableList((ValueTypeList.ValueList) filtered),
+                new DummyVariableInteger(ValueTypeInteger.ValueInteger.of(SIZE / 2 + 10))});
+        assertThat("contains(filter(map([0..], ++), half<), half + 10) == true", ((ValueTypeBoolean.ValueBoolean) result).getRawValue(), is(true));
+        assertThat("the filtered traversal stops at the first match", list.getRetrievals(), is(SIZE / 2 + 10));
+    }
+
+    @Test
+    public void testMappedMemoized() throws EvaluationException {
+        CountingList list = integers(10);
+        IValueTypeListProxy mapped = new ValueTypeListProxyOperatorMapped(Operators.INTEGER_INCREMENT, list);
+        assertThat("map([0..9], ++)[3] == 4", ((ValueTypeInteger.ValueInteger) mapped.get(3)).getRawValue(), is(4));
+        mapped.get(3);
+        assertThat("mapped elements are remembered within a tick", list.getRetrievals(), is(1));
+
+        TickHandler.getInstance().nextTick();
+        assertThat("map([0..9], ++)[3] == 4", ((ValueTypeInteger.ValueInteger) mapped.get(3)).getRawValue(), is(4));
+        assertThat("mapped elements are forgotten in the next tick", list.getRetrievals(), is(2));
+    }
+
+    @Test
+    public void testMappedMemoizedLazily() throws EvaluationException {
+        CountingList list = integers(10);
+        IValueTypeListProxy mapped = new ValueTypeListProxyOperatorMapped(Operators.INTEGER_INCREMENT, list);
+        mapped.get(3);
+        TickHandler.getInstance().nextTick();
+        mapped.get(7);
+        mapped.get(7);
+        assertThat("remembering elements does not need the length of the list", list.getLengthQueries(), is(0));
+        assertThat("elements beyond the first accessed ones are remembered", list.getRetrievals(), is(2));
+    }
+
+    @Test
+    public void testMappedMemoizedBounded() throws EvaluationException {
+        int cacheSize = GeneralConfig.mappedListCacheSize;
+        GeneralConfig.mappedListCacheSize = 2;
+        try {
+            CountingList list = integers(10);
+            IValueTypeListProxy mapped = new ValueTypeListProxyOperatorMapped(Operators.INTEGER_INCREMENT, list);
+            mapped.get(1);
+            mapped.get(1);
+            assertThat("elements within the bound are remembered", list.getRetrievals(), is(1));
+            mapped.get(5);
+            mapped.get(5);
+            assertThat("elements beyond the bound are not remembered", list.getRetrievals(), is(3));
+        } finally {
+            GeneralConfig.mappedListCacheSize = cacheSize;
+        }
+    }
+
+    /**
+     * A list that counts how many elements were retrieved from it.
+     */
+    public static class CountingList extends ValueTypeListProxyBase<IValueType<IValue>, IValue> {
+
+        private final List<? extends IValue> values;
+        private int retrievals = 0;
+        private int lengthQueries = 0;
+
+        public CountingList(List<? extends IValue> values) {
+            super(ValueTypeListProxyFactories.MATERIALIZED.getName(), (IValueType) ValueTypes.INTEGER);
+            this.values = values;
+        }
+
+        @Override
+        public int getLength() throws EvaluationException {
+            lengthQueries++;
+            return values.size();
+        }
+
+        @Override
+        public IValue get(int index) throws EvaluationException {
+            retrievals++;
+            return values.get(index);
+        }
+
+        public int getRetrievals() {
+            return retrievals;
+        }
+
+        public int getLengthQueries() {
+            return lengthQueries;
+        }
+    }
+
+}
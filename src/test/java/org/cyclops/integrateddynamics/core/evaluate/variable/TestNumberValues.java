@@ -0,0 +1,105 @@
+package org.cyclops.integrateddynamics.core.evaluate.variable;
+
+import org.cyclops.integrateddynamics.api.evaluate.EvaluationException;
+import org.cyclops.integrateddynamics.api.evaluate.variable.IValueType;
+import org.cyclops.integrateddynamics.api.evaluate.variable.IVariable;
+import org.cyclops.integrateddynamics.core.evaluate.operator.OperatorBase;
+import org.cyclops.integrateddynamics.core.evaluate.operator.Operators;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Test the shared number values and arithmetic operators over them.
+ * @author rubensworks
+ */
+public class TestNumberValues {
+
+    private static final int DEPTH = 64;
+
+    @Before
+    public void before() {
+        ValueCastMappings.load();
+    }
+
+    @Test
+    public void testSharedIntegers() {
+        assertThat("small integers are shared", ValueTypeInteger.ValueInteger.of(15), sameInstance(ValueTypeInteger.ValueInteger.of(15)));
+        assertThat("negative integers are shared", ValueTypeInteger.ValueInteger.of(-1), sameInstance(ValueTypeInteger.ValueInteger.of(-1)));
+        assertThat("large integers are not shared", ValueTypeInteger.ValueInteger.of(100000), not(sameInstance(ValueTypeInteger.ValueInteger.of(100000))));
+        assertThat("large integers are equal", ValueTypeInteger.ValueInteger.of(100000), is(ValueTypeInteger.ValueInteger.of(100000)));
+        assertThat("shared integers have the integer type", ValueTypeInteger.ValueInteger.of(0).getType(), is((IValueType) ValueTypes.INTEGER));
+    }
+
+    @Test
+    public void testSharedLongs() {
+        assertThat("small longs are shared", ValueTypeLong.ValueLong.of(15L), sameInstance(ValueTypeLong.ValueLong.of(15L)));
+        assertThat("large longs are not shared", ValueTypeLong.ValueLong.of(1L << 40), not(sameInstance(ValueTypeLong.ValueLong.of(1L << 40))));
+        assertThat("large longs keep their value", ValueTypeLong.ValueLong.of(1L << 40).getRawValue(), is(1L << 40));
+    }
+
+    @Test
+    public void testSharedDoubles() {
+        assertThat("zero is shared", ValueTypeDouble.ValueDouble.of(0D), sameInstance(ValueTypeDouble.ValueDouble.of(0D)));
+        assertThat("one is shared", ValueTypeDouble.ValueDouble.of(1D), sameInstance(ValueTypeDouble.ValueDouble.of(1D)));
+        assertThat("negative zero is not shared", ValueTypeDouble.ValueDouble.of(-0D), not(sameInstance(ValueTypeDouble.ValueDouble.of(0D))));
+        assertThat("negative zero keeps its sign", 1D / ValueTypeDouble.ValueDouble.of(-0D).getRawValue(), is(Double.NEGATIVE_INFINITY));
+    }
+
+    @Test
+    public void testLongArithmetic() throws EvaluationException {
+        DummyVariable<ValueTypeLong.ValueLong> a = new DummyVariable<>(ValueTypes.LONG, ValueTypeLong.ValueLong.of(1L << 40));
+        DummyVariable<ValueTypeLong.ValueLong> b = new DummyVariable<>(ValueTypes.LONG, ValueTypeLong.ValueLong.of(2L));
+        assertThat("2^40 * 2 = 2^41", ((ValueTypeLong.ValueLong) Operators.ARITHMETIC_MULTIPLICATION
+                .evaluate(new IVariable[]{a, b})).getRawValue(), is(1L << 41));
+        assertThat("2^40 - 2", ((ValueTypeLong.ValueLong) Operators.ARITHMETIC_SUBTRACTION
+                .evaluate(new IVariable[]{a, b})).getRawValue(), is((1L << 40) - 2L));
+    }
+
+    @Test
+    public void testMultiplyByZeroIsLazy() throws EvaluationException {
+        DummyVariableInteger b = new DummyVariableInteger(ValueTypeInteger.ValueInteger.of(10));
+        Operators.ARITHMETIC_MULTIPLICATION.evaluate(new IVariable[]{new DummyVariableInteger(ValueTypeInteger.ValueInteger.of(0)), b});
+        assertThat("the second operand is not evaluated", b.isFetched(), is(false));
+    }
+
+    @Test
+    public void testDeepTree() throws EvaluationException {
+        IVariable<ValueTypeInteger.ValueInteger> tree = new DummyVariableInteger(ValueTypeInteger.ValueInteger.of(1));
+        for(int i = 0; i < DEPTH; i++) {
+            tree = new PlanVariable<>(ValueTypes.INTEGER, ((OperatorBase) Operators.ARITHMETIC_ADDITION)
+                    .compile(new IVariable[]{tree, new DummyVariableInteger(ValueTypeInteger.ValueInteger.of(1))}));
+        }
+        assertThat("the tree sums all leaves", tree.getValue().getRawValue(), is(DEPTH + 1));
+        assertThat("the small sum is a shared value", tree.getValue(), sameInstance(ValueTypeInteger.ValueInteger.of(DEPTH + 1)));
+    }
+
+    /**
+     * A variable that evaluates a compiled operator on each value retrieval.
+     */
+    public static class PlanVariable<V extends ValueBase> implements IVariable<V> {
+
+        private final IValueType<V> type;
+        private final OperatorBase.Plan plan;
+
+        public PlanVariable(IValueType<V> type, OperatorBase.Plan plan) {
+            this.type = type;
+            this.plan = plan;
+        }
+
+        @Override
+        public IValueType<V> getType() {
+            return type;
+        }
+
+        @Override
+        public V getValue() throws EvaluationException {
+            return (V) plan.evaluate();
+        }
+    }
+
+}
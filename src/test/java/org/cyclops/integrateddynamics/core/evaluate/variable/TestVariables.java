@@ -1,10 +1,14 @@
 package org.cyclops.integrateddynamics.core.evaluate.variable;
 
+import com.google.common.collect.Lists;
 import org.cyclops.integrateddynamics.api.evaluate.EvaluationException;
+import org.cyclops.integrateddynamics.api.evaluate.variable.IValue;
 import org.cyclops.integrateddynamics.api.evaluate.variable.IValueType;
 import org.hamcrest.CoreMatchers;
 import org.junit.Test;
 
+import java.util.List;
+
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.not;
 import static org.junit.Assert.assertThat;
@@ -138,4 +142,25 @@ public class TestVariables {
                 l2_2.getType().deserialize(l2_2.getType().serialize(l2_2.getValue())), is(l2_2.getValue()));
     }
 
+    @Test
+    public void testListSnapshot() throws EvaluationException {
+        ValueTypeListProxyFactories.load();
+        List<ValueTypeInteger.ValueInteger> values = Lists.newArrayList(ValueTypeInteger.ValueInteger.of(1),
+                ValueTypeInteger.ValueInteger.of(2));
+        ValueTypeList.ValueList list = ValueTypeList.ValueList.ofList(ValueTypes.INTEGER, values);
+        IValue snapshot = ValueHelpers.snapshot(list);
+        assertThat("the snapshot is equal to the list", snapshot, is((IValue) list));
+
+        values.set(0, ValueTypeInteger.ValueInteger.of(3));
+        assertThat("the snapshot does not change with the list", snapshot, not((IValue) list));
+        assertThat("the snapshot keeps the old elements", ((ValueTypeList.ValueList) snapshot).getRawValue().get(0),
+                is((IValue) ValueTypeInteger.ValueInteger.of(1)));
+    }
+
+    @Test
+    public void testImmutableSnapshot() throws EvaluationException {
+        IValue value = ValueTypeString.ValueString.of("abc");
+        assertThat("immutable values are not copied", ValueHelpers.snapshot(value), CoreMatchers.sameInstance(value));
+    }
+
 }
@@ -0,0 +1,57 @@
+package org.cyclops.integrateddynamics.core.network;
+
+import net.minecraft.util.math.BlockPos;
+import org.cyclops.cyclopscore.datastructure.DimPos;
+import org.junit.After;
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Test the recording of cable changes within a tick.
+ * @author rubensworks
+ */
+public class TestNetworkTopologyJournal {
+
+    private static final BlockPos POS = new BlockPos(1, 2, 3);
+
+    @After
+    public void reset() {
+        NetworkTopologyJournal.reset();
+    }
+
+    @Test
+    public void testAddition() {
+        NetworkTopologyJournal.recordAddition(null, POS);
+        assertThat("the addition is recorded", NetworkTopologyJournal.getAdditions().contains(DimPos.of(null, POS)), is(true));
+        assertThat("no removal is recorded", NetworkTopologyJournal.getRemovals().isEmpty(), is(true));
+    }
+
+    @Test
+    public void testAddRemove() {
+        NetworkTopologyJournal.recordAddition(null, POS);
+        NetworkTopologyJournal.recordRemoval(null, POS);
+        assertThat("the removed cable is not attached", NetworkTopologyJournal.getAdditions().isEmpty(), is(true));
+        assertThat("the removal is recorded", NetworkTopologyJournal.getRemovals().contains(DimPos.of(null, POS)), is(true));
+    }
+
+    @Test
+    public void testAddRemoveAdd() {
+        NetworkTopologyJournal.recordAddition(null, POS);
+        NetworkTopologyJournal.recordRemoval(null, POS);
+        NetworkTopologyJournal.recordAddition(null, POS);
+        assertThat("the placed cable is attached", NetworkTopologyJournal.getAdditions().contains(DimPos.of(null, POS)), is(true));
+        assertThat("the neighbours of the placed cable are not split", NetworkTopologyJournal.getRemovals().isEmpty(), is(true));
+        assertThat("there are changes", NetworkTopologyJournal.hasChanges(), is(true));
+    }
+
+    @Test
+    public void testReset() {
+        NetworkTopologyJournal.recordAddition(null, POS);
+        NetworkTopologyJournal.recordRemoval(null, POS.up());
+        NetworkTopologyJournal.reset();
+        assertThat("there are no changes", NetworkTopologyJournal.hasChanges(), is(false));
+    }
+
+}
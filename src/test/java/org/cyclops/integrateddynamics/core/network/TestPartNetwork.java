@@ -0,0 +1,51 @@
+package org.cyclops.integrateddynamics.core.network;
+
+import com.google.common.collect.Lists;
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Test the selection of the network that the neighbour networks of a placed cable are merged into.
+ * @author rubensworks
+ */
+public class TestPartNetwork {
+
+    protected static PartNetwork network(final int cables) {
+        return new PartNetwork() {
+            @Override
+            public int getCablesCount() {
+                return cables;
+            }
+        };
+    }
+
+    @Test
+    public void testLargestSingle() {
+        PartNetwork a = network(3);
+        assertThat("a single network is the largest", PartNetwork.getLargestNetwork(Lists.newArrayList(a)), sameInstance(a));
+    }
+
+    @Test
+    public void testLargestOfThreeNeighbours() {
+        PartNetwork a = network(6);
+        PartNetwork b = network(5);
+        PartNetwork c = network(10);
+        assertThat("the network with the most cables is the root, not the accumulated smaller ones",
+                PartNetwork.getLargestNetwork(Lists.newArrayList(a, b, c)), sameInstance(c));
+        assertThat("the order of the neighbours does not matter",
+                PartNetwork.getLargestNetwork(Lists.newArrayList(c, a, b)), sameInstance(c));
+    }
+
+    @Test
+    public void testLargestTie() {
+        PartNetwork a = network(4);
+        PartNetwork b = network(4);
+        assertThat("the first of equally large networks is the root",
+                PartNetwork.getLargestNetwork(Lists.newArrayList(a, b)), sameInstance(a));
+        assertThat("the cables count is used", PartNetwork.getLargestNetwork(Lists.newArrayList(a, b)).getCablesCount(), is(4));
+    }
+
+}
@@ -0,0 +1,179 @@
+package org.cyclops.integrateddynamics.core.network;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Test the timing wheel that schedules network element updates.
+ * The larger tests check that the wheel updates and skips elements exactly like the per-tick countdown loop it replaced,
+ * at 1k, 10k and 100k elements.
+ * @author rubensworks
+ */
+public class TestTimingWheel {
+
+    private static final int TICKS = 60;
+
+    @Test
+    public void testEmpty() {
+        TimingWheel<Integer> wheel = new TimingWheel<>();
+        assertThat("an empty wheel has no due elements", wheel.advance().isEmpty(), is(true));
+        assertThat("an empty wheel has no elements", wheel.size(), is(0));
+    }
+
+    @Test
+    public void testNewElementDueNextTick() {
+        TimingWheel<Integer> wheel = new TimingWheel<>();
+        wheel.add(1, 0);
+        assertThat("a new element is due in the next tick", wheel.advance(), is((List<Integer>) Lists.newArrayList(1)));
+        assertThat("a due element is not due again until rescheduled", wheel.advance().isEmpty(), is(true));
+        assertThat("a due element is still present", wheel.contains(1), is(true));
+    }
+
+    @Test
+    public void testReschedule() {
+        TimingWheel<Integer> wheel = new TimingWheel<>();
+        wheel.add(1, 0);
+        wheel.advance();
+        assertThat("a present element can be rescheduled", wheel.reschedule(1, 3), is(true));
+        assertThat("not due after one tick", wheel.advance().isEmpty(), is(true));
+        assertThat("not due after two ticks", wheel.advance().isEmpty(), is(true));
+        assertThat("due after three ticks", wheel.advance(), is((List<Integer>) Lists.newArrayList(1)));
+    }
+
+    @Test
+    public void testRemove() {
+        TimingWheel<Integer> wheel = new TimingWheel<>();
+        wheel.add(1, 0);
+        assertThat("a present element can be removed", wheel.remove(1), is(true));
+        assertThat("a removed element is not due", wheel.advance().isEmpty(), is(true));
+        assertThat("a removed element can not be rescheduled", wheel.reschedule(1, 1), is(false));
+        assertThat("a removed element can not be removed again", wheel.remove(1), is(false));
+    }
+
+    @Test
+    public void testDelayLargerThanWheel() {
+        TimingWheel<Integer> wheel = new TimingWheel<>(4);
+        wheel.add(1, 10);
+        for(int i = 1; i < 10; i++) {
+            assertThat("not due before the deadline", wheel.advance().isEmpty(), is(true));
+        }
+        assertThat("due at the deadline", wheel.advance(), is((List<Integer>) Lists.newArrayList(1)));
+    }
+
+    @Test
+    public void testScheduled() {
+        TimingWheel<Integer> wheel = new TimingWheel<>();
+        wheel.add(1, 2);
+        assertThat("an added element is scheduled", wheel.isScheduled(1), is(true));
+        wheel.advance();
+        wheel.advance();
+        assertThat("a due element is not scheduled", wheel.isScheduled(1), is(false));
+        assertThat("a due element is still present", wheel.getElements().contains(1), is(true));
+        wheel.reschedule(1, 1);
+        assertThat("a rescheduled element is scheduled", wheel.isScheduled(1), is(true));
+    }
+
+    @Test
+    public void testDueOrder() {
+        TimingWheel<Integer> wheel = new TimingWheel<>();
+        wheel.add(3, 0);
+        wheel.add(1, 0);
+        wheel.add(2, 0);
+        assertThat("due elements are sorted", wheel.advance(), is((List<Integer>) Lists.newArrayList(1, 2, 3)));
+    }
+
+    @Test
+    public void testEquivalence1k() {
+        assertEquivalence(1000);
+    }
+
+    @Test
+    public void testEquivalence10k() {
+        assertEquivalence(10000);
+    }
+
+    @Test
+    public void testEquivalence100k() {
+        assertEquivalence(100000);
+    }
+
+    protected static int getInterval(int element) {
+        return element % 40;
+    }
+
+    protected static boolean canUpdate(int element, int tick) {
+        return element % 7 != 0 || tick % 3 == 0;
+    }
+
+    /**
+     * The update loop as it was used before in {@link Network#update()}.
+     */
+    protected static Map<Integer, Integer> runLegacy(int size, Map<Integer, Integer> skipped) {
+        TreeMap<Integer, Integer> ticks = Maps.newTreeMap();
+        Map<Integer, Integer> updates = Maps.newHashMap();
+        for(int i = 0; i < size; i++) {
+            ticks.put(i, 0);
+        }
+        for(int tick = 0; tick < TICKS; tick++) {
+            for(Integer element : ticks.keySet()) {
+                if(canUpdate(element, tick)) {
+                    if(ticks.get(element) <= 0) {
+                        ticks.put(element, getInterval(element));
+                        increment(updates, element);
+                    }
+                } else {
+                    increment(skipped, element);
+                }
+                ticks.put(element, ticks.get(element) - 1);
+            }
+        }
+        return updates;
+    }
+
+    protected static Map<Integer, Integer> runWheel(int size, Map<Integer, Integer> skipped) {
+        TimingWheel<Integer> wheel = new TimingWheel<>();
+        Map<Integer, Integer> updates = Maps.newHashMap();
+        for(int i = 0; i < size; i++) {
+            wheel.add(i, 0);
+        }
+        for(int tick = 0; tick < TICKS; tick++) {
+            List<Integer> due = wheel.advance();
+            for(Integer element : due) {
+                if(canUpdate(element, tick)) {
+                    wheel.reschedule(element, getInterval(element));
+                    increment(updates, element);
+                } else {
+                    increment(skipped, element);
+                    wheel.reschedule(element, 1);
+                }
+            }
+        }
+        return updates;
+    }
+
+    protected static void increment(Map<Integer, Integer> map, Integer key) {
+        Integer value = map.get(key);
+        map.put(key, value == null ? 1 : value + 1);
+    }
+
+    protected static void assertEquivalence(int size) {
+        Map<Integer, Integer> skippedLegacy = Maps.newHashMap();
+        Map<Integer, Integer> skippedWheel = Maps.newHashMap();
+        Map<Integer, Integer> updatesLegacy = runLegacy(size, skippedLegacy);
+        Map<Integer, Integer> updatesWheel = runWheel(size, skippedWheel);
+        assertThat("the wheel updates each element as often as the legacy loop", updatesWheel, is(updatesLegacy));
+        for(Map.Entry<Integer, Integer> entry : skippedWheel.entrySet()) {
+            assertThat("the wheel only checks elements that are due", entry.getValue() <= skippedLegacy.get(entry.getKey()), is(true));
+        }
+        assertThat("all elements were updated", updatesWheel.size(), is(size));
+    }
+
+}
@@ -0,0 +1,105 @@
+package org.cyclops.integrateddynamics.core.network;
+
+import com.google.common.base.Supplier;
+import com.google.common.base.Suppliers;
+import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
+import org.cyclops.integrateddynamics.api.item.IVariableFacade;
+import org.cyclops.integrateddynamics.core.item.OperatorVariableFacade;
+import org.cyclops.integrateddynamics.core.item.ProxyVariableFacade;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Map;
+import java.util.Set;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Test the variable dependency graph.
+ * @author rubensworks
+ */
+public class TestVariableDependencyGraph {
+
+    private Map<Integer, IVariableFacade> variables;
+    private VariableDependencyGraph graph;
+
+    @Before
+    public void beforeEach() {
+        variables = Maps.newHashMap();
+        Supplier<Map<Integer, IVariableFacade>> supplier = Suppliers.ofInstance(variables);
+        graph = new VariableDependencyGraph(supplier);
+    }
+
+    protected void addVariable(IVariableFacade variableFacade) {
+        variables.put(variableFacade.getId(), variableFacade);
+        graph.invalidateVariables();
+    }
+
+    protected static OperatorVariableFacade operator(int id, int... variableIds) {
+        return new OperatorVariableFacade(id, null, variableIds);
+    }
+
+    protected static Set<Integer> changed(Integer... variableIds) {
+        return Sets.newHashSet(variableIds);
+    }
+
+    @Test
+    public void testUnknownConsumer() {
+        assertThat("unregistered consumers are always affected", graph.isAffected(new Object(), changed(1)), is(true));
+    }
+
+    @Test
+    public void testDirectDependency() {
+        Object consumer = new Object();
+        graph.setDependencies(consumer, operator(10, 1, 2));
+        assertThat("a consumer is affected by its inputs", graph.isAffected(consumer, changed(2)), is(true));
+        assertThat("a consumer is not affected by other variables", graph.isAffected(consumer, changed(3)), is(false));
+    }
+
+    @Test
+    public void testTransitiveDependency() {
+        addVariable(operator(1, 2));
+        addVariable(operator(2, 3));
+        addVariable(operator(4, 5));
+        Object consumer = new Object();
+        graph.setDependencies(consumer, operator(10, 1));
+        assertThat("a consumer is affected by the inputs of its inputs", graph.isAffected(consumer, changed(3)), is(true));
+        assertThat("a consumer is not affected by unrelated chains", graph.isAffected(consumer, changed(5)), is(false));
+    }
+
+    @Test
+    public void testProxyDependency() {
+        addVariable(new ProxyVariableFacade(1, 0));
+        addVariable(operator(2, 1));
+        Object consumer = new Object();
+        graph.setDependencies(consumer, operator(10, 2));
+        assertThat("variables that refer to a proxy are always affected", graph.isAffected(consumer, changed(3)), is(true));
+
+        Object proxyConsumer = new Object();
+        graph.setDependencies(proxyConsumer, new ProxyVariableFacade(11, 0));
+        assertThat("proxy consumers are always affected", graph.isAffected(proxyConsumer, changed(3)), is(true));
+    }
+
+    @Test
+    public void testReplaceDependencies() {
+        Object consumer = new Object();
+        graph.setDependencies(consumer, operator(10, 1));
+        graph.setDependencies(consumer, operator(10, 2));
+        assertThat("old dependencies are forgotten", graph.isAffected(consumer, changed(1)), is(false));
+        assertThat("new dependencies are used", graph.isAffected(consumer, changed(2)), is(true));
+        graph.removeDependencies(consumer);
+        assertThat("removed consumers are always affected", graph.isAffected(consumer, changed(1)), is(true));
+    }
+
+    @Test
+    public void testInvalidateVariables() {
+        Object consumer = new Object();
+        graph.setDependencies(consumer, operator(10, 1));
+        assertThat("an unreferenced variable does not affect the consumer", graph.isAffected(consumer, changed(2)), is(false));
+        addVariable(operator(1, 2));
+        assertThat("new references are picked up after invalidation", graph.isAffected(consumer, changed(2)), is(true));
+    }
+
+}
@@ -0,0 +1,55 @@
+package org.cyclops.integrateddynamics.core.path;
+
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Test the primitive long set.
+ * @author rubensworks
+ */
+public class TestLongOpenHashSet {
+
+    @Test
+    public void testEmpty() {
+        LongOpenHashSet set = new LongOpenHashSet();
+        assertThat("an empty set has size 0", set.size(), is(0));
+        assertThat("an empty set is empty", set.isEmpty(), is(true));
+        assertThat("an empty set does not contain 0", set.contains(0), is(false));
+        assertThat("an empty set does not contain 1", set.contains(1), is(false));
+    }
+
+    @Test
+    public void testAdd() {
+        LongOpenHashSet set = new LongOpenHashSet();
+        assertThat("a new value is added", set.add(10), is(true));
+        assertThat("an existing value is not added", set.add(10), is(false));
+        assertThat("the value is present", set.contains(10), is(true));
+        assertThat("another value is not present", set.contains(11), is(false));
+        assertThat("the size is 1", set.size(), is(1));
+    }
+
+    @Test
+    public void testAddZero() {
+        LongOpenHashSet set = new LongOpenHashSet();
+        assertThat("zero is added", set.add(0), is(true));
+        assertThat("zero is not added again", set.add(0), is(false));
+        assertThat("zero is present", set.contains(0), is(true));
+        assertThat("the size is 1", set.size(), is(1));
+    }
+
+    @Test
+    public void testGrow() {
+        LongOpenHashSet set = new LongOpenHashSet(2);
+        for(long i = -5000; i < 5000; i++) {
+            assertThat("a new value is added", set.add(i * 31), is(true));
+        }
+        assertThat("the size is 10000", set.size(), is(10000));
+        for(long i = -5000; i < 5000; i++) {
+            assertThat("an added value is present", set.contains(i * 31), is(true));
+            assertThat("a value that was not added is not present", set.contains(i * 31 + 1), is(false));
+        }
+    }
+
+}
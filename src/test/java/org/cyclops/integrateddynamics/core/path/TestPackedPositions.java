@@ -0,0 +1,147 @@
+package org.cyclops.integrateddynamics.core.path;
+
+import net.minecraft.nbt.CompressedStreamTools;
+import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.nbt.NBTTagList;
+import net.minecraft.util.math.BlockPos;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Test the packed position encoding.
+ * The cluster persistence format is also compared to the legacy one-tag-per-cable format.
+ * @author rubensworks
+ */
+public class TestPackedPositions {
+
+    @Test
+    public void testEmpty() {
+        assertThat("no positions encode to no bytes", PackedPositions.encode(new long[0]).length, is(0));
+        assertThat("no bytes decode to no positions", PackedPositions.decode(new byte[0], 0).length, is(0));
+    }
+
+    @Test
+    public void testRoundTrip() {
+        long[] positions = new long[]{
+                new BlockPos(0, 0, 0).toLong(),
+                new BlockPos(-30000000, 0, -30000000).toLong(),
+                new BlockPos(30000000, 255, 30000000).toLong(),
+                new BlockPos(1, 2, 3).toLong(),
+                new BlockPos(-1, 64, 1).toLong(),
+                Long.MIN_VALUE,
+                Long.MAX_VALUE,
+        };
+        long[] expected = Arrays.copyOf(positions, positions.length);
+        Arrays.sort(expected);
+        long[] decoded = PackedPositions.decode(PackedPositions.encode(positions), positions.length);
+        assertThat("the positions are decoded in sorted order", Arrays.equals(decoded, expected), is(true));
+    }
+
+    @Test
+    public void testRandomRoundTrip() {
+        Random random = new Random(42);
+        long[] positions = new long[10000];
+        for(int i = 0; i < positions.length; i++) {
+            positions[i] = random.nextLong();
+        }
+        long[] expected = Arrays.copyOf(positions, positions.length);
+        Arrays.sort(expected);
+        long[] decoded = PackedPositions.decode(PackedPositions.encode(positions), positions.length);
+        assertThat("random positions survive a round trip", Arrays.equals(decoded, expected), is(true));
+    }
+
+    @Test
+    public void testAdjacentIsCompact() {
+        long[] positions = line(1000);
+        assertTrue("adjacent positions take about one byte each", PackedPositions.encode(positions).length < 1100);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testTruncated() {
+        byte[] data = PackedPositions.encode(line(10));
+        PackedPositions.decode(Arrays.copyOf(data, data.length - 1), 10);
+    }
+
+    @Test
+    public void testSmallerThanLegacyFormat() throws IOException {
+        long[] positions = grid(100, 100);
+        byte[] legacy = write(legacyFormat(positions));
+        byte[] packed = write(packedFormat(positions));
+
+        long[] legacyRead = readLegacyFormat(CompressedStreamTools.readCompressed(new ByteArrayInputStream(legacy)));
+        long[] packedRead = readPackedFormat(CompressedStreamTools.readCompressed(new ByteArrayInputStream(packed)));
+        Arrays.sort(legacyRead);
+        assertThat("both formats hold the same positions", Arrays.equals(legacyRead, packedRead), is(true));
+        assertTrue("the packed format is smaller", packed.length < legacy.length);
+    }
+
+    protected static long[] line(int length) {
+        return grid(length, 1);
+    }
+
+    protected static long[] grid(int width, int depth) {
+        long[] positions = new long[width * depth];
+        int i = 0;
+        for(int x = 0; x < width; x++) {
+            for(int z = 0; z < depth; z++) {
+                positions[i++] = new BlockPos(x, 64, z).toLong();
+            }
+        }
+        return positions;
+    }
+
+    protected static byte[] write(NBTTagCompound tag) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        CompressedStreamTools.writeCompressed(tag, out);
+        return out.toByteArray();
+    }
+
+    protected static NBTTagCompound legacyFormat(long[] positions) {
+        NBTTagList list = new NBTTagList();
+        for(long position : positions) {
+            NBTTagCompound elementTag = new NBTTagCompound();
+            elementTag.setInteger("dimension", 0);
+            elementTag.setLong("pos", position);
+            list.appendTag(elementTag);
+        }
+        NBTTagCompound tag = new NBTTagCompound();
+        tag.setTag("list", list);
+        return tag;
+    }
+
+    protected static long[] readLegacyFormat(NBTTagCompound tag) {
+        NBTTagList list = tag.getTagList("list", 10);
+        long[] positions = new long[list.tagCount()];
+        for(int i = 0; i < list.tagCount(); i++) {
+            positions[i] = list.getCompoundTagAt(i).getLong("pos");
+        }
+        return positions;
+    }
+
+    protected static NBTTagCompound packedFormat(long[] positions) {
+        NBTTagCompound dimensionTag = new NBTTagCompound();
+        dimensionTag.setInteger("dimension", 0);
+        dimensionTag.setInteger("count", positions.length);
+        dimensionTag.setByteArray("positions", PackedPositions.encode(Arrays.copyOf(positions, positions.length)));
+        NBTTagList list = new NBTTagList();
+        list.appendTag(dimensionTag);
+        NBTTagCompound tag = new NBTTagCompound();
+        tag.setTag("dimensions", list);
+        return tag;
+    }
+
+    protected static long[] readPackedFormat(NBTTagCompound tag) {
+        NBTTagCompound dimensionTag = tag.getTagList("dimensions", 10).getCompoundTagAt(0);
+        return PackedPositions.decode(dimensionTag.getByteArray("positions"), dimensionTag.getInteger("count"));
+    }
+
+}
@@ -0,0 +1,237 @@
+package org.cyclops.integrateddynamics.core.path;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Sets;
+import net.minecraft.util.math.BlockPos;
+import org.cyclops.cyclopscore.datastructure.DimPos;
+import org.cyclops.integrateddynamics.api.path.IPathElement;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Test the path finder on synthetic cable layouts that do not require a world.
+ * The large layouts double as a benchmark for cluster construction.
+ * @author rubensworks
+ */
+public class TestPathFinder {
+
+    @Test
+    public void testSingle() {
+        Cluster<DummyPathElement> cluster = PathFinder.getConnectedCluster(new DummyPathElement(0, 0, 1, 1));
+        assertThat("a single element forms a cluster", cluster.size(), is(1));
+    }
+
+    @Test
+    public void testGrid() {
+        Cluster<DummyPathElement> cluster = PathFinder.getConnectedCluster(new DummyPathElement(0, 0, 10, 10));
+        assertThat("all grid elements are in the cluster", cluster.size(), is(100));
+        assertThat("the cluster contains the far corner", cluster.contains(new DummyPathElement(9, 9, 10, 10)), is(true));
+    }
+
+    @Test
+    public void testGridFromCenter() {
+        Cluster<DummyPathElement> cluster = PathFinder.getConnectedCluster(new DummyPathElement(5, 5, 10, 10));
+        assertThat("all grid elements are in the cluster", cluster.size(), is(100));
+    }
+
+    @Test
+    public void testLargeGrid() {
+        Cluster<DummyPathElement> cluster = PathFinder.getConnectedCluster(new DummyPathElement(0, 0, 150, 150));
+        assertThat("all grid elements are in the cluster", cluster.size(), is(22500));
+    }
+
+    @Test
+    public void testLongLine() {
+        Cluster<DummyPathElement> cluster = PathFinder.getConnectedCluster(new DummyPathElement(0, 0, 50000, 1));
+        assertThat("all line elements are in the cluster", cluster.size(), is(50000));
+    }
+
+    @Test
+    public void testSplitSingleNeighbour() {
+        Set<Long> present = line(10);
+        present.remove(key(9, 0));
+        List<Cluster<SparsePathElement>> clusters = PathFinder.getSplitClusters(
+                Collections.singleton(new SparsePathElement(8, 0, present)));
+        assertThat("a single neighbour can not be split", clusters.isEmpty(), is(true));
+    }
+
+    @Test
+    public void testSplitLine() {
+        Set<Long> present = line(1000);
+        present.remove(key(10, 0));
+        List<Cluster<SparsePathElement>> clusters = PathFinder.getSplitClusters(Lists.newArrayList(
+                new SparsePathElement(9, 0, present), new SparsePathElement(11, 0, present)));
+        assertThat("the line is split in two", clusters.size(), is(1));
+        assertThat("only the smallest part is enumerated", clusters.get(0).size(), is(10));
+        assertThat("the smallest part contains the start", clusters.get(0).contains(new SparsePathElement(0, 0, present)), is(true));
+    }
+
+    @Test
+    public void testSplitGridStillConnected() {
+        Set<Long> present = grid(10, 10);
+        present.remove(key(5, 5));
+        List<Cluster<SparsePathElement>> clusters = PathFinder.getSplitClusters(Lists.newArrayList(
+                new SparsePathElement(4, 5, present), new SparsePathElement(6, 5, present),
+                new SparsePathElement(5, 4, present), new SparsePathElement(5, 6, present)));
+        assertThat("the grid is still connected", clusters.isEmpty(), is(true));
+    }
+
+    @Test
+    public void testSplitCross() {
+        Set<Long> present = Sets.newHashSet();
+        present.add(key(0, 0));
+        for(int i = 1; i <= 3; i++) present.add(key(-i, 0));
+        for(int i = 1; i <= 5; i++) present.add(key(i, 0));
+        for(int i = 1; i <= 7; i++) present.add(key(0, -i));
+        for(int i = 1; i <= 1000; i++) present.add(key(0, i));
+        present.remove(key(0, 0));
+        List<Cluster<SparsePathElement>> clusters = PathFinder.getSplitClusters(Lists.newArrayList(
+                new SparsePathElement(0, 1, present), new SparsePathElement(-1, 0, present),
+                new SparsePathElement(1, 0, present), new SparsePathElement(0, -1, present)));
+        assertThat("the three short arms are split off", clusters.size(), is(3));
+        assertThat("the shortest arm is found first", clusters.get(0).size(), is(3));
+        assertThat("the middle arm is found second", clusters.get(1).size(), is(5));
+        assertThat("the long arm is found third", clusters.get(2).size(), is(7));
+    }
+
+    @Test
+    public void testSplitLargeGridStillConnected() {
+        Set<Long> present = grid(150, 150);
+        present.remove(key(75, 75));
+        List<Cluster<SparsePathElement>> clusters = PathFinder.getSplitClusters(Lists.newArrayList(
+                new SparsePathElement(74, 75, present), new SparsePathElement(76, 75, present),
+                new SparsePathElement(75, 74, present), new SparsePathElement(75, 76, present)));
+        assertThat("the grid is still connected", clusters.isEmpty(), is(true));
+    }
+
+    protected static long key(int x, int z) {
+        return new BlockPos(x, 0, z).toLong();
+    }
+
+    protected static Set<Long> line(int length) {
+        return grid(length, 1);
+    }
+
+    protected static Set<Long> grid(int width, int depth) {
+        Set<Long> present = Sets.newHashSet();
+        for(int x = 0; x < width; x++) {
+            for(int z = 0; z < depth; z++) {
+                present.add(key(x, z));
+            }
+        }
+        return present;
+    }
+
+    /**
+     * A path element in a rectangular grid of cables at y=0, without a world.
+     */
+    public static class DummyPathElement implements IPathElement<DummyPathElement> {
+
+        private final int x;
+        private final int z;
+        private final int width;
+        private final int depth;
+        private final DimPos position;
+
+        public DummyPathElement(int x, int z, int width, int depth) {
+            this.x = x;
+            this.z = z;
+            this.width = width;
+            this.depth = depth;
+            this.position = DimPos.of(null, new BlockPos(x, 0, z));
+        }
+
+        @Override
+        public DimPos getPosition() {
+            return position;
+        }
+
+        @Override
+        public Set<DummyPathElement> getReachableElements() {
+            Set<DummyPathElement> elements = Sets.newHashSet();
+            if(x > 0) elements.add(new DummyPathElement(x - 1, z, width, depth));
+            if(x < width - 1) elements.add(new DummyPathElement(x + 1, z, width, depth));
+            if(z > 0) elements.add(new DummyPathElement(x, z - 1, width, depth));
+            if(z < depth - 1) elements.add(new DummyPathElement(x, z + 1, width, depth));
+            return elements;
+        }
+
+        @Override
+        public int compareTo(DummyPathElement o) {
+            int compX = Integer.compare(x, o.x);
+            return compX == 0 ? Integer.compare(z, o.z) : compX;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof DummyPathElement && compareTo((DummyPathElement) o) == 0;
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * x + z;
+        }
+    }
+
+    /**
+     * A path element in an arbitrary set of cable positions at y=0, without a world.
+     */
+    public static class SparsePathElement implements IPathElement<SparsePathElement> {
+
+        private final int x;
+        private final int z;
+        private final Set<Long> present;
+        private final DimPos position;
+
+        public SparsePathElement(int x, int z, Set<Long> present) {
+            this.x = x;
+            this.z = z;
+            this.present = present;
+            this.position = DimPos.of(null, new BlockPos(x, 0, z));
+        }
+
+        @Override
+        public DimPos getPosition() {
+            return position;
+        }
+
+        protected void addIfPresent(Set<SparsePathElement> elements, int x, int z) {
+            if(present.contains(key(x, z))) {
+                elements.add(new SparsePathElement(x, z, present));
+            }
+        }
+
+        @Override
+        public Set<SparsePathElement> getReachableElements() {
+            Set<SparsePathElement> elements = Sets.newHashSet();
+            addIfPresent(elements, x - 1, z);
+            addIfPresent(elements, x + 1, z);
+            addIfPresent(elements, x, z - 1);
+            addIfPresent(elements, x, z + 1);
+            return elements;
+        }
+
+        @Override
+        public int compareTo(SparsePathElement o) {
+            int compX = Integer.compare(x, o.x);
+            return compX == 0 ? Integer.compare(z, o.z) : compX;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof SparsePathElement && compareTo((SparsePathElement) o) == 0;
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * x + z;
+        }
+    }
+
+}
@@ -0,0 +1,74 @@
+package org.cyclops.integrateddynamics.core.path;
+
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Test the disjoint-set forest.
+ * @author rubensworks
+ */
+public class TestUnionFind {
+
+    @Test
+    public void testAdd() {
+        UnionFind<String> sets = new UnionFind<>();
+        assertThat("a new element is added", sets.add("a", 1), is(true));
+        assertThat("an existing element is not added", sets.add("a", 1), is(false));
+        assertThat("the element is present", sets.contains("a"), is(true));
+        assertThat("another element is not present", sets.contains("b"), is(false));
+        assertThat("a single element is its own root", sets.find("a"), is("a"));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testFindAbsent() {
+        new UnionFind<String>().find("a");
+    }
+
+    @Test
+    public void testUnionByWeight() {
+        UnionFind<String> sets = new UnionFind<>();
+        sets.add("small", 1);
+        sets.add("large", 10);
+        sets.add("medium", 5);
+        assertThat("the heaviest element becomes the root", sets.union("small", "large"), is("large"));
+        assertThat("the joined weight outweighs the medium element", sets.union("medium", "small"), is("large"));
+        assertThat("all elements have the same root", sets.find("medium"), is("large"));
+        assertThat("there is one root", sets.getRoots().size(), is(1));
+    }
+
+    @Test
+    public void testDisjoint() {
+        UnionFind<String> sets = new UnionFind<>();
+        sets.add("a", 1);
+        sets.add("b", 1);
+        sets.add("c", 1);
+        sets.add("d", 1);
+        sets.union("a", "b");
+        sets.union("c", "d");
+        assertThat("a and b are joined", sets.find("a"), sameInstance(sets.find("b")));
+        assertThat("c and d are joined", sets.find("c"), sameInstance(sets.find("d")));
+        assertThat("a and c are disjoint", sets.find("a") == sets.find("c"), is(false));
+        assertThat("there are two roots", sets.getRoots().size(), is(2));
+    }
+
+    @Test
+    public void testLongChain() {
+        UnionFind<Integer> sets = new UnionFind<>();
+        Integer[] elements = new Integer[10000];
+        for(int i = 0; i < elements.length; i++) {
+            elements[i] = new Integer(i);
+            sets.add(elements[i], 1);
+        }
+        for(int i = 1; i < elements.length; i++) {
+            sets.union(elements[i - 1], elements[i]);
+        }
+        Integer root = sets.find(elements[0]);
+        for(Integer element : elements) {
+            assertThat("all elements have the same root", sets.find(element), sameInstance(root));
+        }
+    }
+
+}
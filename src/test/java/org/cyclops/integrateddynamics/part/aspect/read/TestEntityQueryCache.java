@@ -0,0 +1,147 @@
+package org.cyclops.integrateddynamics.part.aspect.read;
+
+import com.google.common.base.Predicate;
+import com.google.common.collect.Lists;
+import net.minecraft.entity.Entity;
+import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.util.math.AxisAlignedBB;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
+import org.cyclops.cyclopscore.datastructure.DimPos;
+import org.cyclops.integrateddynamics.core.TickHandler;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Test the sharing of entity queries within a tick.
+ * @author rubensworks
+ */
+public class TestEntityQueryCache {
+
+    private static final DimPos POS_A = DimPos.of(null, new BlockPos(1, 1, 1));
+    private static final DimPos POS_B = DimPos.of(null, new BlockPos(2, 1, 1));
+    private static final DimPos POS_C = DimPos.of(null, new BlockPos(20, 1, 1));
+
+    private DummyEntity a1;
+    private DummyEntity a2;
+    private DummyEntity b;
+    private DummyEntity c;
+    private DummyEntityQueryCache cache;
+
+    @Before
+    public void before() {
+        a1 = new DummyEntity(POS_A);
+        b = new DummyEntity(POS_B);
+        a2 = new DummyEntity(POS_A);
+        c = new DummyEntity(POS_C);
+        cache = new DummyEntityQueryCache(Lists.<Entity>newArrayList(a1, b, a2, c));
+    }
+
+    @Test
+    public void testBlockEntities() {
+        assertThat("the entities of a block are found in order", cache.getEntities(POS_A), is((List<Entity>) Lists.<Entity>newArrayList(a1, a2)));
+        assertThat("the entities of another block are found", cache.getEntities(POS_B), is((List<Entity>) Lists.<Entity>newArrayList(b)));
+        assertThat("the entities of another section are found", cache.getEntities(POS_C), is((List<Entity>) Lists.<Entity>newArrayList(c)));
+    }
+
+    @Test
+    public void testSharedSection() {
+        cache.getEntities(POS_A);
+        cache.getEntities(POS_B);
+        assertThat("blocks in the same section share one query", cache.getSectionQueries(), is(1L));
+        cache.getEntities(POS_C);
+        assertThat("blocks in another section are queried separately", cache.getSectionQueries(), is(2L));
+        assertThat("each block is filtered once", cache.getMisses(), is(3L));
+    }
+
+    @Test
+    public void testSharedBlock() {
+        List<Entity> entities = cache.getEntities(POS_A);
+        assertThat("a block is reused within a tick", cache.getEntities(POS_A) == entities, is(true));
+        assertThat("the reuse is counted", cache.getHits(), is(1L));
+    }
+
+    @Test
+    public void testPredicate() {
+        List<Entity> entities = cache.getEntities(POS_A, new Predicate<Entity>() {
+            @Override
+            public boolean apply(Entity entity) {
+                return entity == a2;
+            }
+        });
+        assertThat("the entities are filtered by the predicate", entities, is((List<Entity>) Lists.<Entity>newArrayList(a2)));
+    }
+
+    @Test
+    public void testClear() {
+        cache.getEntities(POS_A);
+        cache.clear();
+        cache.getEntities(POS_A);
+        assertThat("cleared sections are queried again", cache.getSectionQueries(), is(2L));
+    }
+
+    @Test
+    public void testNextTick() {
+        cache.getEntities(POS_A);
+        TickHandler.getInstance().nextTick();
+        cache.getEntities(POS_A);
+        assertThat("sections are queried again in the next tick", cache.getSectionQueries(), is(2L));
+    }
+
+    /**
+     * A cache that queries a fixed list of entities instead of a world.
+     */
+    public static class DummyEntityQueryCache extends EntityQueryCache {
+
+        private final List<Entity> entities;
+
+        public DummyEntityQueryCache(List<Entity> entities) {
+            this.entities = entities;
+        }
+
+        @Override
+        protected List<Entity> queryEntities(World world, AxisAlignedBB box) {
+            List<Entity> found = Lists.newArrayList();
+            for(Entity entity : entities) {
+                if(entity.getEntityBoundingBox().intersectsWith(box)) {
+                    found.add(entity);
+                }
+            }
+            return Collections.unmodifiableList(found);
+        }
+    }
+
+    /**
+     * An entity in the center of a block.
+     */
+    public static class DummyEntity extends Entity {
+
+        public DummyEntity(DimPos pos) {
+            super(null);
+            BlockPos blockPos = pos.getBlockPos();
+            setPosition(blockPos.getX() + 0.5D, blockPos.getY(), blockPos.getZ() + 0.5D);
+        }
+
+        @Override
+        protected void entityInit() {
+
+        }
+
+        @Override
+        protected void readEntityFromNBT(NBTTagCompound compound) {
+
+        }
+
+        @Override
+        protected void writeEntityToNBT(NBTTagCompound compound) {
+
+        }
+    }
+
+}
@@ -0,0 +1,68 @@
+package org.cyclops.integrateddynamics.part.aspect.read;
+
+import net.minecraft.util.EnumFacing;
+import net.minecraft.util.math.BlockPos;
+import net.minecraftforge.items.ItemStackHandler;
+import org.cyclops.cyclopscore.datastructure.DimPos;
+import org.cyclops.integrateddynamics.GeneralConfig;
+import org.cyclops.integrateddynamics.api.part.PartPos;
+import org.cyclops.integrateddynamics.core.TickHandler;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Test the trackers of the inventory snapshot cache.
+ * @author rubensworks
+ */
+public class TestInventorySnapshotCache {
+
+    private static final PartPos TARGET = PartPos.of(DimPos.of(null, new BlockPos(0, 0, 0)), EnumFacing.NORTH);
+
+    private int scanSlots;
+    private InventorySnapshotCache cache;
+
+    @Before
+    public void before() {
+        scanSlots = GeneralConfig.inventoryScanSlotsPerTick;
+        GeneralConfig.inventoryScanSlotsPerTick = 4;
+        cache = new InventorySnapshotCache();
+    }
+
+    @After
+    public void after() {
+        GeneralConfig.inventoryScanSlotsPerTick = scanSlots;
+    }
+
+    @Test
+    public void testTrackLarge() {
+        cache.read(TARGET, new ItemStackHandler(18), TickHandler.getInstance().getTick());
+        assertThat("large inventories are tracked", cache.getTrackedInventories(), is(1));
+    }
+
+    @Test
+    public void testNotTrackSmall() {
+        cache.read(TARGET, new ItemStackHandler(18), TickHandler.getInstance().getTick());
+        cache.read(TARGET, new ItemStackHandler(4), TickHandler.getInstance().getTick());
+        assertThat("small inventories are not tracked", cache.getTrackedInventories(), is(0));
+    }
+
+    @Test
+    public void testClearStale() {
+        cache.read(TARGET, new ItemStackHandler(18), TickHandler.getInstance().getTick());
+        TickHandler.getInstance().nextTick();
+        cache.clear();
+        assertThat("recently read inventories stay tracked", cache.getTrackedInventories(), is(1));
+        assertThat("snapshots are cleared", cache.size(), is(0));
+
+        for(int i = 0; i < InventorySnapshotCache.TRACKER_TIMEOUT; i++) {
+            TickHandler.getInstance().nextTick();
+        }
+        cache.clear();
+        assertThat("inventories that were not read for a while are not tracked anymore", cache.getTrackedInventories(), is(0));
+    }
+
+}
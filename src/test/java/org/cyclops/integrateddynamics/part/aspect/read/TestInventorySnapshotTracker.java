@@ -0,0 +1,117 @@
+package org.cyclops.integrateddynamics.part.aspect.read;
+
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
+import net.minecraftforge.items.ItemStackHandler;
+import org.cyclops.integrateddynamics.GeneralConfig;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Test the rolling rescans of large inventories.
+ * @author rubensworks
+ */
+public class TestInventorySnapshotTracker {
+
+    private static final int SCAN_SLOTS = 4;
+    private static final int SLOTS = 18;
+    private static final int UPDATES = (SLOTS + SCAN_SLOTS - 1) / SCAN_SLOTS;
+
+    private int scanSlots;
+    private Item item;
+    private ItemStackHandler inventory;
+    private InventorySnapshotTracker tracker;
+    private long tick = 0;
+
+    @Before
+    public void before() {
+        scanSlots = GeneralConfig.inventoryScanSlotsPerTick;
+        GeneralConfig.inventoryScanSlotsPerTick = SCAN_SLOTS;
+        item = new Item();
+        inventory = new ItemStackHandler(SLOTS);
+        tracker = new InventorySnapshotTracker();
+    }
+
+    @After
+    public void after() {
+        GeneralConfig.inventoryScanSlotsPerTick = scanSlots;
+    }
+
+    protected InventorySnapshot update(int times) {
+        InventorySnapshot snapshot = null;
+        for(int i = 0; i < times; i++) {
+            snapshot = tracker.update(inventory, tick++);
+        }
+        return snapshot;
+    }
+
+    @Test
+    public void testInitialFullScan() {
+        inventory.setStackInSlot(1, new ItemStack(item, 3));
+        inventory.setStackInSlot(17, new ItemStack(item, 5));
+        InventorySnapshot snapshot = update(1);
+        assertThat("the first update scans all slots", snapshot.getCount(), is(8));
+        assertThat("the first update finds all filled slots", snapshot.getSlotsFilled(), is(2));
+        assertThat("the snapshot has all slots", snapshot.getSlots(), is(SLOTS));
+    }
+
+    @Test
+    public void testConverge() {
+        update(1);
+        inventory.setStackInSlot(1, new ItemStack(item, 3));
+        inventory.setStackInSlot(10, new ItemStack(item, 5));
+        inventory.setStackInSlot(17, new ItemStack(item, 7));
+        InventorySnapshot snapshot = update(1);
+        assertThat("an update only rescans the first slots", snapshot.getCount(), is(3));
+        assertThat("an update only finds the first filled slots", snapshot.getSlotsFilled(), is(1));
+
+        snapshot = update(UPDATES - 1);
+        assertThat("all changes are found after rescanning all slots", snapshot.getCount(), is(15));
+        assertThat("all filled slots are found after rescanning all slots", snapshot.getSlotsFilled(), is(3));
+
+        inventory.setStackInSlot(10, new ItemStack(item, 2));
+        inventory.setStackInSlot(17, null);
+        inventory.setStackInSlot(4, new ItemStack(item, 1));
+        snapshot = update(UPDATES);
+        assertThat("changed and emptied slots are corrected", snapshot.getCount(), is(6));
+        assertThat("emptied slots are not filled anymore", snapshot.getSlotsFilled(), is(3));
+        assertThat("the snapshot holds the changed stack", snapshot.getStackInSlot(10).stackSize, is(2));
+    }
+
+    @Test
+    public void testUnchangedSnapshot() {
+        inventory.setStackInSlot(1, new ItemStack(item, 3));
+        InventorySnapshot snapshot = update(1);
+        assertThat("unchanged inventories keep their snapshot", update(UPDATES), sameInstance(snapshot));
+
+        inventory.setStackInSlot(2, new ItemStack(item, 1));
+        assertThat("changed inventories get a new snapshot", update(UPDATES), not(sameInstance(snapshot)));
+    }
+
+    @Test
+    public void testInPlaceChange() {
+        ItemStack itemStack = new ItemStack(item, 3);
+        inventory.setStackInSlot(1, itemStack);
+        InventorySnapshot snapshot = update(1);
+        itemStack.stackSize = 10;
+        assertThat("snapshots are not changed by their inventory", snapshot.getStackInSlot(1).stackSize, is(3));
+        assertThat("stacks that change in place are found", update(UPDATES).getCount(), is(10));
+    }
+
+    @Test
+    public void testResize() {
+        update(1);
+        inventory = new ItemStackHandler(SLOTS + 2);
+        inventory.setStackInSlot(SLOTS + 1, new ItemStack(item, 4));
+        InventorySnapshot snapshot = update(1);
+        assertThat("a changed number of slots causes a full scan", snapshot.getCount(), is(4));
+        assertThat("the snapshot has the new slots", snapshot.getSlots(), is(SLOTS + 2));
+    }
+
+}